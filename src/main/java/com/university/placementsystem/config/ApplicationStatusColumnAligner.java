@@ -0,0 +1,51 @@
+package com.university.placementsystem.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Converts a native MySQL {@code ENUM} status column of {@code applications} to VARCHAR.
+ *
+ * <p>Schemas created by earlier versions store the status as
+ * {@code enum('APPLIED', ...)}, which rejects statuses added later (e.g. WITHDRAWN),
+ * and {@code ddl-auto=update} never changes an existing column type. On startup the
+ * column type is looked up and, if it is still an ENUM, widened once; on any other
+ * database or schema this does nothing.</p>
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ApplicationStatusColumnAligner implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Widens the status column if it is a native ENUM.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        List<String> types;
+        try {
+            types = jdbcTemplate.queryForList(
+                    "select data_type from information_schema.columns"
+                            + " where table_schema = database() and table_name = 'applications' and column_name = 'status'",
+                    String.class);
+        } catch (DataAccessException ex) {
+            log.debug("Could not inspect the applications.status column: {}", ex.getMessage());
+            return;
+        }
+
+        if (!types.isEmpty() && "enum".equalsIgnoreCase(types.get(0))) {
+            jdbcTemplate.execute("alter table applications modify status varchar(20) not null");
+            log.info("Converted applications.status from ENUM to VARCHAR(20)");
+        }
+    }
+}
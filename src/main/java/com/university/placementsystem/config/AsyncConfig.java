@@ -0,0 +1,163 @@
+package com.university.placementsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Enables {@code @Async} and defines the executors used for work that must not
+ * delay the request that triggered it.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // Bean name of the executor writing recruiter notifications
+    public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+
+    // Bean name of the executor pushing application updates to students (SSE)
+    public static final String STREAM_EXECUTOR = "applicationStreamExecutor";
+
+    // Bean name of the executor re-screening applicants after an eligibility rule change
+    public static final String ELIGIBILITY_EXECUTOR = "eligibilityReevaluationExecutor";
+
+    // Bean name of the executor screening the pages of one re-evaluation in parallel
+    public static final String ELIGIBILITY_PAGE_EXECUTOR = "eligibilityPageExecutor";
+
+    // Bean name of the executor running the batching worker that screens new applications
+    public static final String SCREENING_EXECUTOR = "applicationScreeningExecutor";
+
+    // Bean name of the executor rebuilding the in-memory job indexes (search, facets, recommendations)
+    public static final String INDEX_REBUILD_EXECUTOR = "indexRebuildExecutor";
+
+    /**
+     * Small bounded pool for recruiter notifications.
+     *
+     * <p>When the queue is full (e.g. on result day), the submitting thread writes
+     * the notification itself, which slows selections down instead of dropping
+     * notifications or growing the queue without limit.</p>
+     *
+     * @return the notification executor
+     */
+    @Bean(name = NOTIFICATION_EXECUTOR)
+    public ThreadPoolTaskExecutor notificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("recruiter-notification-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Small pool that re-screens the applicants of jobs whose eligibility rule changed.
+     *
+     * <p>Re-evaluations are coalesced per job (see {@code ApplicationScreeningService}),
+     * so at most one task per job is queued. Each task fans its pages out to the
+     * {@link #ELIGIBILITY_PAGE_EXECUTOR}; this one only bounds how many jobs run at once.</p>
+     *
+     * @return the re-evaluation executor
+     */
+    @Bean(name = ELIGIBILITY_EXECUTOR)
+    @DependsOn(ELIGIBILITY_PAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor eligibilityReevaluationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("eligibility-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Pool screening the pages of a re-evaluation in parallel, one thread per core.
+     *
+     * <p>Shut down after the re-evaluation executor (which depends on it), so running
+     * re-evaluations can finish their pages.</p>
+     *
+     * @return the page executor
+     */
+    @Bean(name = ELIGIBILITY_PAGE_EXECUTOR)
+    public ThreadPoolTaskExecutor eligibilityPageExecutor() {
+        final int threads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("eligibility-page-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Small pool for the startup rebuilds of the in-memory job indexes, one thread per index.
+     *
+     * <p>Shutdown waits for a running rebuild, so it is not cut off mid-query.</p>
+     *
+     * @return the rebuild executor
+     */
+    @Bean(name = INDEX_REBUILD_EXECUTOR)
+    public ThreadPoolTaskExecutor indexRebuildExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(3);
+        executor.setMaxPoolSize(3);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("index-rebuild-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Single thread for the screening worker, which collects new applications into batches.
+     *
+     * <p>The worker runs until {@code ApplicationScreeningService} is stopped, and
+     * screens what is still queued before it returns.</p>
+     *
+     * @return the screening executor
+     */
+    @Bean(name = SCREENING_EXECUTOR)
+    public ThreadPoolTaskExecutor applicationScreeningExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("application-screening-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Small pool that writes queued events to students' SSE connections.
+     *
+     * <p>At most one drain task per connection is queued at a time, so the queue is
+     * bounded by the number of open connections. Idle connections hold no thread.</p>
+     *
+     * @param maxSubscribers maximum number of open connections
+     * @return the stream executor
+     */
+    @Bean(name = STREAM_EXECUTOR)
+    public ThreadPoolTaskExecutor applicationStreamExecutor(
+            @Value("${student.stream.max-subscribers:50000}") int maxSubscribers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(maxSubscribers + 1_000);
+        executor.setThreadNamePrefix("application-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
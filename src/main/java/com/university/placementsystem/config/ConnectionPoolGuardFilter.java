@@ -0,0 +1,89 @@
+package com.university.placementsystem.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of API requests processed at the same time.
+ *
+ * <p>With virtual threads every accepted request gets its own thread, so nothing
+ * stops thousands of requests from queueing on the connection pool until they hit
+ * its checkout timeout. This filter admits at most a fixed number of requests (a
+ * small multiple of the pool size, see {@link VirtualThreadConfig}); a request that
+ * cannot get a permit within the wait timeout is answered with 503 and
+ * {@code Retry-After} instead of holding a thread and a socket.</p>
+ *
+ * <p>Only the initial dispatch holds a permit: an SSE stream or streamed export
+ * releases it when the handler returns, not when the response completes.</p>
+ */
+public class ConnectionPoolGuardFilter extends OncePerRequestFilter {
+
+    // ---- Messages / constants ----
+    private static final String MSG_OVERLOADED = "Server is busy; please retry shortly";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    // Permits for requests being processed
+    private final Semaphore permits;
+
+    // How long a request waits for a permit
+    private final long waitMillis;
+
+    // Maximum number of requests processed at the same time
+    private final int maxConcurrentRequests;
+
+    public ConnectionPoolGuardFilter(int maxConcurrentRequests, Duration waitTimeout) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.waitMillis = waitTimeout.toMillis();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            reject(response);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Returns the number of requests being processed.
+     *
+     * @return requests holding a permit
+     */
+    public int getActiveRequests() {
+        return maxConcurrentRequests - permits.availablePermits();
+    }
+
+    // -------------------- Helpers --------------------
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(MSG_OVERLOADED);
+    }
+}
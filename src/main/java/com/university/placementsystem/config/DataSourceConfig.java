@@ -0,0 +1,43 @@
+package com.university.placementsystem.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource customizations.
+ *
+ * <p>The pooled table ID generators (see {@code IdGenerators}) reserve ID blocks on a
+ * separate connection. If every transaction grabbed its pooled connection up front, a
+ * burst of concurrent inserts could hold the whole pool while waiting for the one
+ * thread that needs an extra connection to refill the ID block. Wrapping the pool in a
+ * {@link LazyConnectionDataSourceProxy} defers checkout until the first real statement,
+ * so a transaction that starts with an insert does not hold a connection while its ID
+ * is being allocated.</p>
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Wraps the auto-configured pool in a lazy connection proxy.
+     *
+     * @return post-processor applied to the {@code dataSource} bean
+     */
+    @Bean
+    public static BeanPostProcessor lazyConnectionDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource
+                        && "dataSource".equals(beanName)
+                        && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                    return new LazyConnectionDataSourceProxy(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.university.placementsystem.config;
+
+import com.university.placementsystem.entity.IdGenerators;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves the table-backed ID generators past IDs that already exist.
+ *
+ * <p>Databases created before the switch from IDENTITY columns have rows but no
+ * {@value IdGenerators#TABLE} entries, so a fresh generator would hand out IDs that
+ * are already taken. On startup (after Hibernate has created/updated the schema) each
+ * generator row is raised to at least {@code max(id) + ALLOCATION_SIZE}; it is never
+ * lowered, so running this on every start is harmless.</p>
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdGeneratorAligner implements InitializingBean {
+
+    // Entity tables whose IDs come from the generator table (pkColumnValue = table name)
+    private static final List<String> TABLES =
+            List.of("users", "students", "organizations", "job_postings", "applications", "skills",
+                    "interview_rooms", "interview_slots", "interviews", "notifications",
+                    "analytics_snapshots");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Aligns every generator row with the current maximum ID of its table.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        for (String table : TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            if (maxId == null || maxId == 0) {
+                continue;
+            }
+
+            long floor = maxId + IdGenerators.ALLOCATION_SIZE;
+            int updated = jdbcTemplate.update(
+                    "update " + IdGenerators.TABLE + " set " + IdGenerators.VALUE_COLUMN + " = ?"
+                            + " where " + IdGenerators.PK_COLUMN + " = ? and " + IdGenerators.VALUE_COLUMN + " < ?",
+                    floor, table, floor);
+
+            if (updated == 0 && !rowExists(table)) {
+                jdbcTemplate.update(
+                        "insert into " + IdGenerators.TABLE
+                                + " (" + IdGenerators.PK_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") values (?, ?)",
+                        table, floor);
+                updated = 1;
+            }
+            if (updated > 0) {
+                log.info("Aligned ID generator '{}' to {}", table, floor);
+            }
+        }
+    }
+
+    // -------------------- Helpers --------------------
+
+    private boolean rowExists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from " + IdGenerators.TABLE + " where " + IdGenerators.PK_COLUMN + " = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,12 @@
+package com.university.placementsystem.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs (e.g. flushing the application counters).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
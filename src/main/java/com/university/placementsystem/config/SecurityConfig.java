@@ -1,6 +1,7 @@
 package com.university.placementsystem.config;
 
 import com.university.placementsystem.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,10 +53,13 @@ public class SecurityConfig {
 
                 // Configure endpoint authorization
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()          // async re-dispatch of an already authorized request
                         .requestMatchers("/api/auth/**").permitAll()                     // public: login, register
                         .requestMatchers("/api/student/**").hasRole("STUDENT")           // only STUDENT role
                         .requestMatchers("/api/organization/**").hasRole("ORGANIZATION") // only ORGANIZATION role
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")               // only ADMIN role
+                        .requestMatchers("/actuator/health").permitAll()                 // public: liveness
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")                // metrics: ADMIN only
                         .requestMatchers("index.html", "/pages/*","/css/*", "/js/*").permitAll() // static resources
                         .anyRequest().authenticated()                                   // all other endpoints need login
                 )
@@ -0,0 +1,78 @@
+package com.university.placementsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Settings that apply only when virtual threads are enabled
+ * ({@code spring.threads.virtual.enabled=true}).
+ *
+ * <p>Spring Boot then runs Tomcat requests, the {@code applicationTaskExecutor}
+ * ({@code @Async} work and streamed responses) and {@code @Scheduled} tasks on
+ * virtual threads. The bounded pools in {@link AsyncConfig} stay on platform threads:
+ * their size is what throttles notifications and SSE writes.</p>
+ *
+ * <p>Blocking JPA calls then no longer run out of Tomcat workers, but every request
+ * still needs a pooled connection. {@link ConnectionPoolGuardFilter} caps the API
+ * requests in flight at a multiple of the Hikari pool size
+ * ({@code web.concurrency.requests-per-connection}), so bursts are shed with 503
+ * instead of piling up on the pool.</p>
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Pool size assumed when the data source is not a Hikari pool
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    /**
+     * Registers the request limit in front of the security filters.
+     *
+     * @param dataSource             application data source (sized by Hikari)
+     * @param requestsPerConnection  concurrent API requests allowed per pooled connection
+     * @param waitTimeout            how long a request may wait for a slot before 503
+     * @return registration of the guard filter for {@code /api/*}
+     */
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolGuardFilter> connectionPoolGuardFilter(
+            DataSource dataSource,
+            @Value("${web.concurrency.requests-per-connection:4}") int requestsPerConnection,
+            @Value("${web.concurrency.wait-timeout:2s}") Duration waitTimeout) {
+        int poolSize = maximumPoolSize(dataSource);
+        int maxConcurrentRequests = Math.max(1, poolSize * requestsPerConnection);
+        log.info("Virtual threads enabled: at most {} concurrent API requests ({} pooled connections)",
+                maxConcurrentRequests, poolSize);
+
+        FilterRegistrationBean<ConnectionPoolGuardFilter> registration =
+                new FilterRegistrationBean<>(new ConnectionPoolGuardFilter(maxConcurrentRequests, waitTimeout));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Maximum size of the Hikari pool behind the (lazy connection) proxy
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException ex) {
+            log.warn("Could not read the connection pool size; assuming {}", DEFAULT_POOL_SIZE, ex);
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
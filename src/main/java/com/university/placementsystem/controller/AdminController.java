@@ -1,16 +1,34 @@
 package com.university.placementsystem.controller;
 
+import com.university.placementsystem.dto.AllocationResultDTO;
+import com.university.placementsystem.dto.AnalyticsSnapshotSummaryDTO;
 import com.university.placementsystem.dto.ApplicationDTO;
+import com.university.placementsystem.dto.CursorPage;
+import com.university.placementsystem.dto.InterviewRoomRequest;
+import com.university.placementsystem.dto.InterviewScheduleResultDTO;
+import com.university.placementsystem.dto.InterviewSlotRequest;
 import com.university.placementsystem.dto.JobPostingDTO;
 import com.university.placementsystem.dto.OrganizationDTO;
+import com.university.placementsystem.dto.PlacementAnalyticsDTO;
+import com.university.placementsystem.entity.ApplicationStatus;
 import com.university.placementsystem.entity.User;
 import com.university.placementsystem.service.AdminService;
+import com.university.placementsystem.service.AllocationService;
+import com.university.placementsystem.service.ExportFormat;
+import com.university.placementsystem.service.InterviewSchedulingService;
+import com.university.placementsystem.service.PlacementAnalyticsService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +40,10 @@ import java.util.Map;
  *   <li>List/activate/deactivate users</li>
  *   <li>List/approve/reject organizations</li>
  *   <li>Monitor job postings and applications</li>
+ *   <li>Export applications (CSV / NDJSON streaming)</li>
+ *   <li>Run end-of-drive placement allocation</li>
+ *   <li>Manage interview rooms and slots, and build the interview schedule</li>
+ *   <li>Read and refresh placement analytics snapshots</li>
  * </ul>
  */
 @RestController
@@ -31,6 +53,9 @@ public class AdminController {
 
     // Dependencies
     private final AdminService adminService;
+    private final AllocationService allocationService;
+    private final InterviewSchedulingService interviewSchedulingService;
+    private final PlacementAnalyticsService analyticsService;
 
     // ---- Messages / constants ----
     private static final String MSG_TEST_OK            = "Admin module active";
@@ -39,7 +64,11 @@ public class AdminController {
     private static final String MSG_USER_ACTIVATED     = "User activated";
     private static final String MSG_ORG_APPROVED       = "Organization approved successfully";
     private static final String MSG_ORG_REJECTED       = "Organization rejected and removed";
+    private static final String MSG_ROOM_ADDED         = "Interview room added";
+    private static final String MSG_SLOT_ADDED         = "Interview slot added";
     private static final String MSG_INTERNAL           = "Internal server error";
+    private static final String PAGE_SIZE              = "" + AdminService.DEFAULT_PAGE_SIZE;
+    private static final String SNAPSHOT_LIMIT         = "" + PlacementAnalyticsService.DEFAULT_SNAPSHOTS;
 
     /**
      * Health check endpoint for the admin module.
@@ -61,14 +90,17 @@ public class AdminController {
     }
 
     /**
-     * Returns all users.
+     * Returns one page of users ordered by ID.
      *
-     * @return list of {@link User}
+     * @param after cursor returned as {@code nextCursor} by the previous page
+     * @param limit page size (max 200)
+     * @return {@link CursorPage} of {@link User}
      */
     @GetMapping("/users")
-    public ResponseEntity<?> getAllUsers() {
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String after,
+                                         @RequestParam(defaultValue = PAGE_SIZE) int limit) {
         try {
-            List<User> users = adminService.getAllUsers();
+            CursorPage<User> users = adminService.getUsers(after, limit);
             return ResponseEntity.ok(users);
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
@@ -114,14 +146,17 @@ public class AdminController {
     }
 
     /**
-     * Returns all organizations.
+     * Returns one page of organizations ordered by ID.
      *
-     * @return list of {@link OrganizationDTO}
+     * @param after cursor returned as {@code nextCursor} by the previous page
+     * @param limit page size (max 200)
+     * @return {@link CursorPage} of {@link OrganizationDTO}
      */
     @GetMapping("/organizations")
-    public ResponseEntity<?> getAllOrganizations() {
+    public ResponseEntity<?> getAllOrganizations(@RequestParam(required = false) String after,
+                                                 @RequestParam(defaultValue = PAGE_SIZE) int limit) {
         try {
-            List<OrganizationDTO> orgs = adminService.getAllOrganizations();
+            CursorPage<OrganizationDTO> orgs = adminService.getOrganizations(after, limit);
             return ResponseEntity.ok(orgs);
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
@@ -184,14 +219,19 @@ public class AdminController {
     }
 
     /**
-     * Returns all job postings.
+     * Returns one page of job postings.
      *
-     * @return list of {@link JobPostingDTO}
+     * @param after cursor returned as {@code nextCursor} by the previous page
+     * @param limit page size (max 200)
+     * @param sort  {@code id} (default) or {@code createdAt} (newest first)
+     * @return {@link CursorPage} of {@link JobPostingDTO}
      */
     @GetMapping("/jobs")
-    public ResponseEntity<?> getAllJobPostings() {
+    public ResponseEntity<?> getAllJobPostings(@RequestParam(required = false) String after,
+                                               @RequestParam(defaultValue = PAGE_SIZE) int limit,
+                                               @RequestParam(required = false) String sort) {
         try {
-            List<JobPostingDTO> jobs = adminService.getAllJobPostings();
+            CursorPage<JobPostingDTO> jobs = adminService.getJobPostings(after, limit, sort);
             return ResponseEntity.ok(jobs);
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
@@ -201,14 +241,19 @@ public class AdminController {
     }
 
     /**
-     * Returns all applications.
+     * Returns one page of applications.
      *
-     * @return list of {@link ApplicationDTO}
+     * @param after cursor returned as {@code nextCursor} by the previous page
+     * @param limit page size (max 200)
+     * @param sort  {@code id} (default) or {@code appliedAt} (newest first)
+     * @return {@link CursorPage} of {@link ApplicationDTO}
      */
     @GetMapping("/applications")
-    public ResponseEntity<?> getAllApplications() {
+    public ResponseEntity<?> getAllApplications(@RequestParam(required = false) String after,
+                                                @RequestParam(defaultValue = PAGE_SIZE) int limit,
+                                                @RequestParam(required = false) String sort) {
         try {
-            List<ApplicationDTO> apps = adminService.getAllApplications();
+            CursorPage<ApplicationDTO> apps = adminService.getApplications(after, limit, sort);
             return ResponseEntity.ok(apps);
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
@@ -217,6 +262,40 @@ public class AdminController {
         }
     }
 
+    /**
+     * Streams applications as CSV or NDJSON, optionally filtered by status and submission dates.
+     *
+     * <p>Rows are written as they are read from the database, so memory use does not
+     * grow with the number of applications.</p>
+     *
+     * @param format {@code csv} (default) or {@code ndjson}
+     * @param status optional {@link ApplicationStatus} filter
+     * @param from   optional first submission date (inclusive, ISO yyyy-MM-dd)
+     * @param to     optional last submission date (inclusive, ISO yyyy-MM-dd)
+     * @return streamed file download
+     */
+    @GetMapping("/applications/export")
+    public ResponseEntity<?> exportApplications(@RequestParam(defaultValue = "csv") String format,
+                                                @RequestParam(required = false) ApplicationStatus status,
+                                                @RequestParam(required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                @RequestParam(required = false)
+                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            ExportFormat exportFormat = ExportFormat.from(format);
+            StreamingResponseBody body = out -> adminService.exportApplications(exportFormat, status, from, to, out);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"applications." + exportFormat.getExtension() + "\"")
+                    .body(body);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
     /**
      * Returns a single application by id.
      *
@@ -234,4 +313,184 @@ public class AdminController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
         }
     }
+
+    /**
+     * Runs placement allocation: each student with shortlisted applications gets at most
+     * one offer, within the seat limits of the job postings.
+     *
+     * @param dryRun true (default) to only report the outcome; false to write SELECTED/REJECTED
+     * @return {@link AllocationResultDTO}
+     */
+    @PostMapping("/allocation/run")
+    public ResponseEntity<?> runAllocation(@RequestParam(defaultValue = "true") boolean dryRun) {
+        try {
+            AllocationResultDTO result = allocationService.run(dryRun);
+            return ResponseEntity.ok(result);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Adds an interview room.
+     *
+     * @param request room name
+     * @return 201 with the ID of the new room
+     */
+    @PostMapping("/interviews/rooms")
+    public ResponseEntity<?> addInterviewRoom(@Valid @RequestBody InterviewRoomRequest request) {
+        try {
+            Long id = interviewSchedulingService.addRoom(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("message", MSG_ROOM_ADDED, "id", id));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Adds an interview time slot (must not overlap an open slot).
+     *
+     * @param request start and end of the slot
+     * @return 201 with the ID of the new slot
+     */
+    @PostMapping("/interviews/slots")
+    public ResponseEntity<?> addInterviewSlot(@Valid @RequestBody InterviewSlotRequest request) {
+        try {
+            Long id = interviewSchedulingService.addSlot(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("message", MSG_SLOT_ADDED, "id", id));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Schedules interviews for all shortlisted applications that have none yet.
+     *
+     * @param replan true to recompute every interview; false (default) keeps existing ones
+     * @return {@link InterviewScheduleResultDTO}
+     */
+    @PostMapping("/interviews/schedule")
+    public ResponseEntity<?> scheduleInterviews(@RequestParam(defaultValue = "false") boolean replan) {
+        try {
+            InterviewScheduleResultDTO result = interviewSchedulingService.schedule(replan);
+            return ResponseEntity.ok(result);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Closes an interview slot and reschedules only the interviews it held.
+     *
+     * @param id slot ID
+     * @return {@link InterviewScheduleResultDTO}
+     */
+    @PutMapping("/interviews/slots/{id}/close")
+    public ResponseEntity<?> closeInterviewSlot(@PathVariable Long id) {
+        try {
+            InterviewScheduleResultDTO result = interviewSchedulingService.closeSlot(id);
+            return ResponseEntity.ok(result);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Closes an interview room and reschedules only the interviews it held.
+     *
+     * @param id room ID
+     * @return {@link InterviewScheduleResultDTO}
+     */
+    @PutMapping("/interviews/rooms/{id}/close")
+    public ResponseEntity<?> closeInterviewRoom(@PathVariable Long id) {
+        try {
+            InterviewScheduleResultDTO result = interviewSchedulingService.closeRoom(id);
+            return ResponseEntity.ok(result);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Latest placement analytics: placement rates by university, degree and graduation
+     * year, and selections per industry (served from memory).
+     *
+     * @return {@link PlacementAnalyticsDTO}, or 404 before the first snapshot
+     */
+    @GetMapping("/analytics/placements")
+    public ResponseEntity<?> getPlacementAnalytics() {
+        try {
+            PlacementAnalyticsDTO analytics = analyticsService.getLatest();
+            return ResponseEntity.ok(analytics);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Headline numbers of the newest analytics snapshots, for trend comparisons.
+     *
+     * @param limit maximum number of snapshots (default 30, at most 365)
+     * @return List of {@link AnalyticsSnapshotSummaryDTO}, newest first
+     */
+    @GetMapping("/analytics/snapshots")
+    public ResponseEntity<?> listAnalyticsSnapshots(@RequestParam(defaultValue = SNAPSHOT_LIMIT) int limit) {
+        try {
+            List<AnalyticsSnapshotSummaryDTO> snapshots = analyticsService.listSnapshots(limit);
+            return ResponseEntity.ok(snapshots);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Placement analytics of one snapshot.
+     *
+     * @param id snapshot ID (version)
+     * @return {@link PlacementAnalyticsDTO}
+     */
+    @GetMapping("/analytics/snapshots/{id}")
+    public ResponseEntity<?> getAnalyticsSnapshot(@PathVariable Long id) {
+        try {
+            PlacementAnalyticsDTO analytics = analyticsService.getSnapshot(id);
+            return ResponseEntity.ok(analytics);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Computes a new analytics snapshot now instead of waiting for the scheduled refresh.
+     *
+     * @return the new {@link PlacementAnalyticsDTO}
+     */
+    @PostMapping("/analytics/refresh")
+    public ResponseEntity<?> refreshAnalytics() {
+        try {
+            PlacementAnalyticsDTO analytics = analyticsService.refresh();
+            return ResponseEntity.ok(analytics);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
 }
@@ -1,8 +1,15 @@
 package com.university.placementsystem.controller;
 
+import com.university.placementsystem.dto.ApplicantDTO;
+import com.university.placementsystem.dto.ApplicantRankingRequest;
+import com.university.placementsystem.dto.BulkStatusUpdateRequest;
+import com.university.placementsystem.dto.InterviewDTO;
+import com.university.placementsystem.dto.StatusUpdateOutcome;
 import com.university.placementsystem.dto.UserDTO;
 import com.university.placementsystem.entity.ApplicationStatus;
+import com.university.placementsystem.service.ApplicantSort;
 import com.university.placementsystem.service.OrganizationApplicationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,11 +17,12 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.List;
 import java.util.Map;
 
 /**
- * REST controller for organizations to manage application statuses
- * (shortlist, select, reject) for their job postings.
+ * REST controller for organizations to list applicants and manage application
+ * statuses (shortlist, select, reject) for their job postings.
  *
  * <p>Endpoints require authentication and organization ownership
  * of the target job posting.</p>
@@ -30,7 +38,10 @@ public class OrganizationApplicationController {
     // ---- Messages / constants ----
     private static final String MSG_TEST_OK   = "StudentApplicationController is working!"; // keep existing text
     private static final String MSG_STATUS_OK = "success";
+    private static final String MSG_BULK_UPDATED = "Application statuses updated";
+    private static final String MSG_RANKING_SAVED = "Applicant ranking saved";
     private static final String MSG_INTERNAL  = "Internal server error";
+    private static final String APPLICANT_LIMIT = "" + OrganizationApplicationService.DEFAULT_APPLICANTS;
 
     /**
      * Simple test endpoint to verify the controller is reachable.
@@ -51,6 +62,78 @@ public class OrganizationApplicationController {
         }
     }
 
+    /**
+     * Lists the applicants of a job posting owned by the authenticated organization,
+     * ranked by how well they match the posting.
+     *
+     * @param authentication Spring Security authentication (principal is {@link UserDTO})
+     * @param jobId          ID of the job posting
+     * @param status         only applicants with this status (optional)
+     * @param sort           {@code score} (best match first) or {@code appliedAt} (earliest first)
+     * @param limit          maximum number of applicants (max 200)
+     * @return 200 with the list of {@link ApplicantDTO}; error status if validation fails
+     */
+    @GetMapping("/jobs/{jobId}/applicants")
+    public ResponseEntity<?> getApplicants(Authentication authentication,
+                                           @PathVariable Long jobId,
+                                           @RequestParam(required = false) ApplicationStatus status,
+                                           @RequestParam(defaultValue = "score") String sort,
+                                           @RequestParam(defaultValue = APPLICANT_LIMIT) int limit) {
+        try {
+            UserDTO orgUser = (UserDTO) authentication.getPrincipal();
+            List<ApplicantDTO> applicants = applicationService.getApplicants(
+                    orgUser, jobId, status, ApplicantSort.from(sort), limit);
+            return ResponseEntity.ok(applicants);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Records the organization's ranking of a job's applicants, best first.
+     *
+     * @param authentication Spring Security authentication (principal is {@link UserDTO})
+     * @param jobId          ID of the job posting
+     * @param request        application IDs, best applicant first
+     * @return 200 with a confirmation message; error status if validation fails
+     */
+    @PutMapping("/jobs/{jobId}/applications/ranking")
+    public ResponseEntity<?> rankApplicants(Authentication authentication,
+                                            @PathVariable Long jobId,
+                                            @Valid @RequestBody ApplicantRankingRequest request) {
+        try {
+            UserDTO orgUser = (UserDTO) authentication.getPrincipal();
+            applicationService.rankApplicants(orgUser, jobId, request.getApplicationIds());
+            return ResponseEntity.ok(Map.of("message", MSG_RANKING_SAVED));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Lists the scheduled interviews for a job posting owned by the authenticated organization.
+     *
+     * @param authentication Spring Security authentication (principal is {@link UserDTO})
+     * @param jobId          ID of the job posting
+     * @return 200 with the interviews, earliest first; error status if validation fails
+     */
+    @GetMapping("/jobs/{jobId}/interviews")
+    public ResponseEntity<?> getInterviews(Authentication authentication, @PathVariable Long jobId) {
+        try {
+            UserDTO orgUser = (UserDTO) authentication.getPrincipal();
+            List<InterviewDTO> interviews = applicationService.getInterviews(orgUser, jobId);
+            return ResponseEntity.ok(interviews);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
     /**
      * Shortlists an application for a specific job posting owned by the
      * authenticated organization.
@@ -125,4 +208,34 @@ public class OrganizationApplicationController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
         }
     }
+
+    /**
+     * Moves several applications of a job posting owned by the authenticated
+     * organization to a new status in one request.
+     *
+     * @param authentication Spring Security authentication (principal is {@link UserDTO})
+     * @param jobId          ID of the job posting
+     * @param request        application IDs and target status
+     * @return 200 with the outcome per application ID; error status if validation fails
+     */
+    @PutMapping("/jobs/{jobId}/applications/status")
+    public ResponseEntity<?> updateApplicationStatuses(Authentication authentication,
+                                                       @PathVariable Long jobId,
+                                                       @Valid @RequestBody BulkStatusUpdateRequest request) {
+        try {
+            UserDTO orgUser = (UserDTO) authentication.getPrincipal();
+            Map<Long, StatusUpdateOutcome> results = applicationService.updateApplicationStatuses(
+                    orgUser, jobId, request.getApplicationIds(), request.getStatus());
+
+            return ResponseEntity.ok(Map.of(
+                    "message", MSG_BULK_UPDATED,
+                    "newStatus", request.getStatus().toString(),
+                    "results", results
+            ));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
 }
@@ -1,12 +1,18 @@
 package com.university.placementsystem.controller;
 
 import com.university.placementsystem.dto.*;
+import com.university.placementsystem.service.AuthService;
+import com.university.placementsystem.service.JobApplicationStatsService;
 import com.university.placementsystem.service.OrganizationService;
+import com.university.placementsystem.service.RecruiterNotificationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -28,6 +34,9 @@ public class OrganizationController {
 
     // Dependencies
     private final OrganizationService organizationService;
+    private final AuthService authService;
+    private final RecruiterNotificationService notificationService;
+    private final JobApplicationStatsService statsService;
 
     // ---- Messages / constants ----
     private static final String MSG_ORG_ENDPOINT_OK   = "ORGANIZATION endpoint accessed successfully";
@@ -35,7 +44,11 @@ public class OrganizationController {
     private static final String MSG_PROFILE_UPDATED    = "Profile updated successfully";
     private static final String MSG_PROFILE_NOT_FOUND  = "Organization profile not found";
     private static final String MSG_JOB_CREATED        = "Job posting created successfully";
+    private static final String MSG_RULE_UPDATED       = "Eligibility rule updated; applicants are being re-screened";
     private static final String MSG_INTERNAL           = "Internal server error";
+    // Browsers keep the body but revalidate it with If-None-Match on every request
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final String NOTIFICATION_LIMIT     = "" + RecruiterNotificationService.DEFAULT_LIMIT;
 
     // ------------------- Test Endpoint -------------------
 
@@ -68,16 +81,20 @@ public class OrganizationController {
      *
      * @param authentication Authentication object injected by Spring Security
      * @param request        DTO containing profile creation data
-     * @return HTTP 201 with a success message, or 400 if the profile exists
+     * @return HTTP 201 with a success message and a refreshed token carrying the profile ID,
+     *         or 400 if the profile exists
      */
     @PostMapping("/profile")
     public ResponseEntity<?> createProfile(Authentication authentication,
                                            @RequestBody OrganizationCreateRequest request) {
         try {
             UserDTO user = getUser(authentication);
-            organizationService.createProfile(user, request);
+            Long organizationId = organizationService.createProfile(user, request);
             return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(Map.of("message", MSG_PROFILE_CREATED));
+                    .body(Map.of(
+                            "message", MSG_PROFILE_CREATED,
+                            "token", authService.issueToken(user, organizationId)
+                    ));
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
         } catch (Exception ex) {
@@ -97,12 +114,13 @@ public class OrganizationController {
             UserDTO user = getUser(authentication);
             return organizationService.getProfile(user)
                     .map(org -> ResponseEntity.ok(new OrganizationDTO(
+                            org.getId(),
                             org.getCompanyName(),
                             org.getIndustry(),
                             org.getLocation(),
                             org.getDescription(),
                             org.isApproved(),
-                            org.getUser().getEmail()
+                            user.getEmail()
                     )))
                     .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
                             .body((OrganizationDTO) Map.of("message", MSG_PROFILE_NOT_FOUND)));
@@ -158,18 +176,96 @@ public class OrganizationController {
         }
     }
 
+    /**
+     * Changes the eligibility rule of a job posting owned by the organization;
+     * existing applicants are re-screened in the background.
+     *
+     * @param authentication current authentication
+     * @param jobId          ID of the job posting
+     * @param request        new rule (blank removes it) and screening mode
+     * @return success message
+     */
+    @PutMapping("/jobs/{jobId}/eligibility")
+    public ResponseEntity<?> updateEligibilityRule(Authentication authentication,
+                                                   @PathVariable Long jobId,
+                                                   @Valid @RequestBody EligibilityRuleRequest request) {
+        try {
+            UserDTO user = getUser(authentication);
+            organizationService.updateEligibilityRule(user, jobId, request);
+            return ResponseEntity.ok(Map.of("message", MSG_RULE_UPDATED));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
     /**
      * List all job postings of the logged-in organization.
      *
+     * <p>Conditional: answers 304 Not Modified when {@code If-None-Match} carries the
+     * current ETag, without loading the postings.</p>
+     *
      * @param authentication Authentication object injected by Spring Security
-     * @return List of {@link JobPostingDTO}
+     * @param webRequest     current request (for the {@code If-None-Match} check)
+     * @return List of {@link JobPostingDTO}, or 304 if unchanged
      */
     @GetMapping("/jobs")
-    public ResponseEntity<?> listJobPostings(Authentication authentication) {
+    public ResponseEntity<?> listJobPostings(Authentication authentication, WebRequest webRequest) {
         try {
             UserDTO user = getUser(authentication);
+            String eTag = organizationService.getJobPostingsETag(user);
+            if (webRequest.checkNotModified(eTag)) {
+                return null; // 304 already written
+            }
             List<JobPostingDTO> jobs = organizationService.listJobPostings(user);
-            return ResponseEntity.ok(jobs);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(eTag).body(jobs);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    // ------------------- Notifications -------------------
+
+    /**
+     * List the newest notifications of the logged-in organization
+     * (e.g., applicants withdrawn after accepting another offer).
+     *
+     * @param authentication Authentication object injected by Spring Security
+     * @param limit          maximum number of notifications (default 50, at most 200)
+     * @return List of {@link NotificationDTO}, newest first
+     */
+    @GetMapping("/notifications")
+    public ResponseEntity<?> getNotifications(Authentication authentication,
+                                              @RequestParam(defaultValue = NOTIFICATION_LIMIT) int limit) {
+        try {
+            UserDTO user = getUser(authentication);
+            List<NotificationDTO> notifications = notificationService.getNotifications(user, limit);
+            return ResponseEntity.ok(notifications);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    // ------------------- Dashboard -------------------
+
+    /**
+     * Application counters (applied, shortlisted, selected, ...) of every job posting
+     * of the logged-in organization.
+     *
+     * @param authentication Authentication object injected by Spring Security
+     * @return List of {@link JobStatsDTO}, newest posting first
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<?> getDashboard(Authentication authentication) {
+        try {
+            UserDTO user = getUser(authentication);
+            List<JobStatsDTO> stats = statsService.getDashboard(user);
+            return ResponseEntity.ok(stats);
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
         } catch (Exception ex) {
@@ -1,15 +1,26 @@
 package com.university.placementsystem.controller;
 
+import com.university.placementsystem.dto.ApplicationPreferencesRequest;
 import com.university.placementsystem.dto.ApplicationResponse;
+import com.university.placementsystem.dto.ApplyOutcome;
+import com.university.placementsystem.dto.BulkApplyRequest;
+import com.university.placementsystem.dto.InterviewDTO;
 import com.university.placementsystem.dto.UserDTO;
 import com.university.placementsystem.entity.UserRole;
+import com.university.placementsystem.security.StreamTicketStore;
+import com.university.placementsystem.service.ApplicationStreamService;
 import com.university.placementsystem.service.StudentApplicationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -19,8 +30,11 @@ import java.util.Map;
  *
  * <p>Responsibilities:</p>
  * <ul>
- *   <li>Expose endpoints to apply for jobs</li>
+ *   <li>Expose endpoints to apply for jobs (single or bulk)</li>
+ *   <li>Record the student's order of preference among their applications</li>
  *   <li>Retrieve logged-in student's applications</li>
+ *   <li>Stream status changes of the student's applications (Server-Sent Events)</li>
+ *   <li>Retrieve logged-in student's interview schedule</li>
  * </ul>
  *
  * <p>Delegates business logic to {@link StudentApplicationService}.</p>
@@ -32,13 +46,19 @@ public class StudentApplicationController {
 
     // Dependencies
     private final StudentApplicationService studentApplicationService;
+    private final ApplicationStreamService applicationStreamService;
+    private final StreamTicketStore streamTicketStore;
 
     // ---- Messages / constants ----
     private static final String MSG_TEST_OK          = "StudentApplicationController is working!";
     private static final String MSG_STATUS_SUCCESS   = "success";
     private static final String MSG_APPLIED_OK       = "Applied successfully";
+    private static final String MSG_BULK_APPLIED_OK  = "Bulk application processed";
+    private static final String MSG_PREFERENCES_OK   = "Preferences saved";
     private static final String MSG_ACCESS_DENIED    = "Access denied: STUDENT role required";
     private static final String MSG_INTERNAL         = "Internal server error";
+    // Browsers keep the body but revalidate it with If-None-Match on every request
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
     /**
      * Simple test endpoint to verify the controller is working.
@@ -75,7 +95,7 @@ public class StudentApplicationController {
             UserDTO user = (UserDTO) authentication.getPrincipal();
             checkStudentRole(user);
 
-            Long applicationId = studentApplicationService.applyForJob(user.getEmail(), jobId);
+            Long applicationId = studentApplicationService.applyForJob(user, jobId);
 
             return ResponseEntity.ok(Map.of(
                     "message", MSG_APPLIED_OK,
@@ -88,22 +108,149 @@ public class StudentApplicationController {
         }
     }
 
+    /**
+     * Apply the logged-in student to several jobs in one request.
+     *
+     * @param authentication Authentication object
+     * @param request        IDs of the job postings (max 100)
+     * @return outcome per job ID ({@code APPLIED}, {@code ALREADY_APPLIED}, {@code JOB_NOT_FOUND})
+     */
+    @PostMapping("/apply/bulk")
+    public ResponseEntity<?> applyForJobs(Authentication authentication,
+                                          @Valid @RequestBody BulkApplyRequest request) {
+        try {
+            UserDTO user = (UserDTO) authentication.getPrincipal();
+            checkStudentRole(user);
+
+            Map<Long, ApplyOutcome> results = studentApplicationService.applyForJobs(user, request.getJobIds());
+
+            return ResponseEntity.ok(Map.of(
+                    "message", MSG_BULK_APPLIED_OK,
+                    "results", results
+            ));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Record the logged-in student's order of preference among their applications.
+     *
+     * @param authentication Authentication object
+     * @param request        job IDs, most preferred first
+     * @return success message
+     */
+    @PutMapping("/applications/preferences")
+    public ResponseEntity<?> setPreferences(Authentication authentication,
+                                            @Valid @RequestBody ApplicationPreferencesRequest request) {
+        try {
+            UserDTO user = (UserDTO) authentication.getPrincipal();
+            checkStudentRole(user);
+
+            studentApplicationService.setPreferences(user, request.getJobIds());
+            return ResponseEntity.ok(Map.of("message", MSG_PREFERENCES_OK));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
     // ------------------- List Student Applications -------------------
 
     /**
      * List all applications of the logged-in student.
      *
+     * <p>Conditional: answers 304 Not Modified when {@code If-None-Match} carries the
+     * current ETag, without loading the list.</p>
+     *
      * @param authentication Authentication object
-     * @return list of application responses
+     * @param webRequest     current request (for the {@code If-None-Match} check)
+     * @return list of application responses, or 304 if unchanged
      */
     @GetMapping("/applications")
-    public ResponseEntity<?> listApplications(Authentication authentication) {
+    public ResponseEntity<?> listApplications(Authentication authentication, WebRequest webRequest) {
+        try {
+            UserDTO user = (UserDTO) authentication.getPrincipal();
+            checkStudentRole(user);
+
+            String eTag = studentApplicationService.getApplicationsETag(user);
+            if (webRequest.checkNotModified(eTag)) {
+                return null; // 304 already written
+            }
+            List<ApplicationResponse> applications = studentApplicationService.listApplications(user);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(eTag).body(applications);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Issue a single-use ticket for opening the application stream from a browser, whose
+     * {@code EventSource} cannot send the {@code Authorization} header.
+     *
+     * @param authentication Authentication object
+     * @return the ticket, to pass as {@code ?ticket=} when opening {@code /applications/stream}
+     */
+    @PostMapping("/applications/stream-ticket")
+    public ResponseEntity<?> issueStreamTicket(Authentication authentication) {
+        try {
+            UserDTO user = (UserDTO) authentication.getPrincipal();
+            checkStudentRole(user);
+
+            return ResponseEntity.ok(Map.of("ticket", streamTicketStore.issue(user)));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Stream status changes of the logged-in student's applications as Server-Sent Events
+     * (event {@code application}), instead of polling {@code /applications}.
+     *
+     * <p>Authenticated by the {@code Authorization} header or, from a browser, by a ticket
+     * from {@code /applications/stream-ticket} in the {@code ticket} query parameter.</p>
+     *
+     * @param authentication Authentication object
+     * @return an open event stream; an empty 403/404 if the caller is not a student with a
+     *         profile, or 503 if too many streams are open
+     */
+    @GetMapping(value = "/applications/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamApplications(Authentication authentication) {
+        // Typed return value so Spring MVC streams the emitter; errors are reported by status only
+        try {
+            UserDTO user = (UserDTO) authentication.getPrincipal();
+            checkStudentRole(user);
+            return ResponseEntity.ok(applicationStreamService.subscribe(user));
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).build();
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // ------------------- List Student Interviews -------------------
+
+    /**
+     * List the scheduled interviews of the logged-in student, earliest first.
+     *
+     * @param authentication Authentication object
+     * @return list of interviews with room and time
+     */
+    @GetMapping("/interviews")
+    public ResponseEntity<?> listInterviews(Authentication authentication) {
         try {
             UserDTO user = (UserDTO) authentication.getPrincipal();
             checkStudentRole(user);
 
-            List<ApplicationResponse> applications = studentApplicationService.listApplications(user.getEmail());
-            return ResponseEntity.ok(applications);
+            List<InterviewDTO> interviews = studentApplicationService.listInterviews(user);
+            return ResponseEntity.ok(interviews);
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
         } catch (Exception ex) {
@@ -5,13 +5,16 @@ import com.university.placementsystem.dto.StudentDTO;
 import com.university.placementsystem.dto.StudentUpdateRequest;
 import com.university.placementsystem.dto.UserDTO;
 import com.university.placementsystem.entity.UserRole;
+import com.university.placementsystem.service.AuthService;
 import com.university.placementsystem.service.StudentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -31,6 +34,7 @@ public class StudentController {
 
     // Dependencies
     private final StudentService studentService;
+    private final AuthService authService;
 
     // ---- Messages / constants ----
     private static final String MSG_STUDENT_ENDPOINT_OK = "STUDENT endpoint accessed successfully";
@@ -39,6 +43,8 @@ public class StudentController {
     private static final String MSG_ACCESS_DENIED       = "Access denied: STUDENT role required";
     private static final String MSG_RESUME_UPLOADED     = "Resume uploaded successfully";
     private static final String MSG_INTERNAL            = "Internal server error";
+    // Browsers keep the body but revalidate it with If-None-Match on every request
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
 
     // ------------------- Test Endpoint -------------------
 
@@ -71,16 +77,19 @@ public class StudentController {
      *
      * @param authentication Authentication object injected by Spring Security
      * @param request        DTO containing profile data
-     * @return HTTP 201 on success
+     * @return HTTP 201 with a refreshed token that carries the new profile ID
      */
     @PostMapping("/profile")
     public ResponseEntity<?> createProfile(Authentication authentication,
                                            @Valid @RequestBody StudentCreateRequest request) {
         try {
             UserDTO user = (UserDTO) authentication.getPrincipal();
-            studentService.createProfile(user.getEmail(), request, user.getId());
+            Long studentId = studentService.createProfile(user, request);
             return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(Map.of("message", MSG_PROFILE_CREATED));
+                    .body(Map.of(
+                            "message", MSG_PROFILE_CREATED,
+                            "token", authService.issueToken(user, studentId)
+                    ));
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
         } catch (Exception ex) {
@@ -91,15 +100,23 @@ public class StudentController {
     /**
      * Retrieves the student profile for the logged-in user.
      *
+     * <p>Conditional: answers 304 Not Modified when {@code If-None-Match} carries the
+     * current ETag, without loading the profile.</p>
+     *
      * @param authentication Authentication object injected by Spring Security
-     * @return StudentDTO with profile details
+     * @param webRequest     current request (for the {@code If-None-Match} check)
+     * @return StudentDTO with profile details, or 304 if unchanged
      */
     @GetMapping("/profile")
-    public ResponseEntity<?> getProfile(Authentication authentication) {
+    public ResponseEntity<?> getProfile(Authentication authentication, WebRequest webRequest) {
         try {
             UserDTO user = (UserDTO) authentication.getPrincipal();
-            StudentDTO dto = studentService.getProfile(user.getEmail());
-            return ResponseEntity.ok(dto);
+            String eTag = studentService.getProfileETag(user);
+            if (webRequest.checkNotModified(eTag)) {
+                return null; // 304 already written
+            }
+            StudentDTO dto = studentService.getProfile(user);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(eTag).body(dto);
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
         } catch (Exception ex) {
@@ -119,7 +136,7 @@ public class StudentController {
                                            @Valid @RequestBody StudentUpdateRequest request) {
         try {
             UserDTO user = (UserDTO) authentication.getPrincipal();
-            studentService.updateProfile(user.getEmail(), request);
+            studentService.updateProfile(user, request);
             return ResponseEntity.ok(Map.of("message", MSG_PROFILE_UPDATED));
         } catch (ResponseStatusException ex) {
             return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
@@ -152,7 +169,7 @@ public class StudentController {
                         .body(Map.of("message", MSG_ACCESS_DENIED));
             }
 
-            String savedPath = studentService.uploadResume(user.getEmail(), file);
+            String savedPath = studentService.uploadResume(user, file);
             return ResponseEntity.ok(Map.of(
                     "message", MSG_RESUME_UPLOADED,
                     "resumePath", savedPath
@@ -0,0 +1,140 @@
+package com.university.placementsystem.controller;
+
+import com.university.placementsystem.dto.CursorPage;
+import com.university.placementsystem.dto.JobFacetResultDTO;
+import com.university.placementsystem.dto.JobPostingDTO;
+import com.university.placementsystem.dto.JobSummaryDTO;
+import com.university.placementsystem.search.FacetField;
+import com.university.placementsystem.service.JobFacetService;
+import com.university.placementsystem.service.JobFeedService;
+import com.university.placementsystem.service.JobSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller for students to browse job postings.
+ *
+ * <p>Responsibilities:</p>
+ * <ul>
+ *   <li>Paginated job feed, newest postings first</li>
+ *   <li>Full-text job search</li>
+ *   <li>Filtering by industry, location and skill, with counts</li>
+ *   <li>Full details of a single job posting</li>
+ * </ul>
+ *
+ * <p>Delegates business logic to {@link JobFeedService}, {@link JobSearchService}
+ * and {@link JobFacetService}.</p>
+ */
+@RestController
+@RequestMapping("/api/student/jobs")
+@RequiredArgsConstructor
+public class StudentJobController {
+
+    // Dependencies
+    private final JobFeedService jobFeedService;
+    private final JobSearchService jobSearchService;
+    private final JobFacetService jobFacetService;
+
+    // ---- Messages / constants ----
+    private static final String MSG_INTERNAL = "Internal server error";
+    private static final String PAGE_SIZE    = "" + JobFeedService.DEFAULT_PAGE_SIZE;
+    private static final String SEARCH_LIMIT = "" + JobSearchService.DEFAULT_LIMIT;
+
+    /**
+     * Returns one page of the job feed.
+     *
+     * @param after cursor returned as {@code nextCursor} by the previous page
+     * @param limit page size (max 100)
+     * @return {@link CursorPage} of {@link JobSummaryDTO}
+     */
+    @GetMapping
+    public ResponseEntity<?> getJobs(@RequestParam(required = false) String after,
+                                     @RequestParam(defaultValue = PAGE_SIZE) int limit) {
+        try {
+            CursorPage<JobSummaryDTO> jobs = jobFeedService.getFeed(after, limit);
+            return ResponseEntity.ok(jobs);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Full-text search over job titles, skills and descriptions.
+     *
+     * @param q     search terms
+     * @param limit maximum number of results (max 100)
+     * @return list of {@link JobSummaryDTO}, most relevant first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchJobs(@RequestParam String q,
+                                        @RequestParam(defaultValue = SEARCH_LIMIT) int limit) {
+        try {
+            List<JobSummaryDTO> results = jobSearchService.search(q, limit);
+            return ResponseEntity.ok(results);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Filters jobs by industry, location and skills and returns counts per facet value.
+     *
+     * <p>Repeat a parameter to select several values (OR); different parameters are AND-ed.</p>
+     *
+     * @param industry selected industries
+     * @param location selected locations
+     * @param skill    selected skills
+     * @param after    cursor returned as {@code nextCursor} by the previous page
+     * @param limit    page size (max 100)
+     * @return {@link JobFacetResultDTO}
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<?> filterJobs(@RequestParam(required = false) List<String> industry,
+                                        @RequestParam(required = false) List<String> location,
+                                        @RequestParam(required = false) List<String> skill,
+                                        @RequestParam(required = false) String after,
+                                        @RequestParam(defaultValue = PAGE_SIZE) int limit) {
+        try {
+            Map<FacetField, List<String>> filters = new EnumMap<>(FacetField.class);
+            filters.put(FacetField.INDUSTRY, industry);
+            filters.put(FacetField.LOCATION, location);
+            filters.put(FacetField.SKILL, skill);
+
+            JobFacetResultDTO result = jobFacetService.search(filters, after, limit);
+            return ResponseEntity.ok(result);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    /**
+     * Returns a single job posting with its full description.
+     *
+     * @param jobId ID of the job posting
+     * @return {@link JobPostingDTO}
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> getJob(@PathVariable Long jobId) {
+        try {
+            JobPostingDTO job = jobFeedService.getJob(jobId);
+            return ResponseEntity.ok(job);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.university.placementsystem.controller;
+
+import com.university.placementsystem.dto.JobRecommendationDTO;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.UserRole;
+import com.university.placementsystem.service.JobRecommendationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+/**
+ * Controller for job recommendations shown to the logged-in student.
+ *
+ * <p>Delegates business logic to {@link JobRecommendationService}.</p>
+ */
+@RestController
+@RequestMapping("/api/student/recommendations")
+@RequiredArgsConstructor
+public class StudentRecommendationController {
+
+    // Dependencies
+    private final JobRecommendationService jobRecommendationService;
+
+    // ---- Messages / constants ----
+    private static final String MSG_ACCESS_DENIED = "Access denied: STUDENT role required";
+    private static final String MSG_INTERNAL      = "Internal server error";
+    private static final String LIMIT             = "" + JobRecommendationService.DEFAULT_LIMIT;
+
+    /**
+     * Returns the open job postings that best match the student's skills and graduation year.
+     *
+     * @param authentication Authentication object
+     * @param limit          maximum number of results (max 50)
+     * @return list of {@link JobRecommendationDTO}, best match first
+     */
+    @GetMapping
+    public ResponseEntity<?> getRecommendations(Authentication authentication,
+                                                @RequestParam(defaultValue = LIMIT) int limit) {
+        try {
+            UserDTO user = (UserDTO) authentication.getPrincipal();
+            checkStudentRole(user);
+
+            List<JobRecommendationDTO> recommendations = jobRecommendationService.recommend(user, limit);
+            return ResponseEntity.ok(recommendations);
+        } catch (ResponseStatusException ex) {
+            return ResponseEntity.status(ex.getStatusCode()).body(ex.getReason());
+        } catch (Exception ex) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(MSG_INTERNAL);
+        }
+    }
+
+    // ------------------- Private Helpers -------------------
+
+    /**
+     * Ensures the logged-in user has a STUDENT role.
+     *
+     * @param user the logged-in user
+     */
+    private void checkStudentRole(UserDTO user) {
+        if (user.getRole() != UserRole.STUDENT) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_ACCESS_DENIED);
+        }
+    }
+}
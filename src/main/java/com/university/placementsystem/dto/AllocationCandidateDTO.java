@@ -0,0 +1,32 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A shortlisted application taking part in placement allocation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocationCandidateDTO {
+
+    // ID of the application
+    private Long applicationId;
+
+    // ID of the student
+    private Long studentId;
+
+    // ID of the job posting
+    private Long jobId;
+
+    // Seats of the job posting (null = unlimited)
+    private Integer seats;
+
+    // The student's preference for the job (null = unranked)
+    private Integer studentPreference;
+
+    // The recruiter's rank of the student (null = unranked)
+    private Integer recruiterRank;
+}
@@ -0,0 +1,41 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of a placement allocation run.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocationResultDTO {
+
+    // Whether the run only computed the allocation without writing it
+    private boolean dryRun;
+
+    // Students with at least one shortlisted application and no offer yet
+    private int students;
+
+    // Job postings with at least one such application
+    private int jobs;
+
+    // Shortlisted applications considered
+    private int applications;
+
+    // Applications selected (one per placed student)
+    private int selected;
+
+    // Applications rejected (all other considered applications)
+    private int rejected;
+
+    // Students left without an offer
+    private int unplacedStudents;
+
+    // Applications skipped because their status changed during the run (0 for dry runs)
+    private int skipped;
+
+    // Time taken to compute the matching, in milliseconds
+    private long matchingMillis;
+}
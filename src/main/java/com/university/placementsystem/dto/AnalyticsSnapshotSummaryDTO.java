@@ -0,0 +1,34 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Headline numbers of one analytics snapshot (for trend listings).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsSnapshotSummaryDTO {
+
+    // Snapshot version (ID)
+    private Long snapshotId;
+
+    // When the snapshot was computed
+    private LocalDateTime createdAt;
+
+    // Number of students
+    private long students;
+
+    // Students with at least one SELECTED application
+    private long placedStudents;
+
+    // SELECTED applications
+    private long selections;
+
+    // Time taken to compute the snapshot, in milliseconds
+    private long durationMillis;
+}
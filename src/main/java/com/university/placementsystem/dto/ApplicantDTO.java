@@ -0,0 +1,65 @@
+package com.university.placementsystem.dto;
+
+import com.university.placementsystem.entity.ApplicationStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Applicant of a job posting as shown to the recruiting organization.
+ *
+ * <p>Loaded with a single projection query; {@link #score} is filled in afterwards.</p>
+ */
+@Data
+@NoArgsConstructor
+public class ApplicantDTO {
+
+    // ID of the application
+    private Long applicationId;
+
+    // ID of the student
+    private Long studentId;
+
+    // Username of the student
+    private String studentName;
+
+    // Email of the student
+    private String studentEmail;
+
+    // University of the student
+    private String university;
+
+    // Degree of the student
+    private String degree;
+
+    // Graduation year of the student
+    private Integer graduationYear;
+
+    // Comma-separated skills of the student
+    private String skills;
+
+    // Current status of the application
+    private ApplicationStatus status;
+
+    // Date and time the application was submitted
+    private LocalDateTime appliedAt;
+
+    // Match score against the posting in [0, 1] (skills, degree, graduation year)
+    private float score;
+
+    public ApplicantDTO(Long applicationId, Long studentId, String studentName, String studentEmail,
+                        String university, String degree, Integer graduationYear, String skills,
+                        ApplicationStatus status, LocalDateTime appliedAt) {
+        this.applicationId = applicationId;
+        this.studentId = studentId;
+        this.studentName = studentName;
+        this.studentEmail = studentEmail;
+        this.university = university;
+        this.degree = degree;
+        this.graduationYear = graduationYear;
+        this.skills = skills;
+        this.status = status;
+        this.appliedAt = appliedAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.university.placementsystem.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for a recruiter's ranking of the applicants of a job posting.
+ */
+@Data
+public class ApplicantRankingRequest {
+
+    // Application IDs, best applicant first; applications not listed become unranked
+    @NotNull(message = "Application IDs are required")
+    @Size(max = 10000, message = "At most 10000 applicants can be ranked")
+    private List<Long> applicationIds;
+}
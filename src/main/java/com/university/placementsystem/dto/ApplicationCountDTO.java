@@ -0,0 +1,20 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A count of rows per application (result of a GROUP BY query).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationCountDTO {
+
+    // ID of the application
+    private Long applicationId;
+
+    // Number of rows
+    private Long count;
+}
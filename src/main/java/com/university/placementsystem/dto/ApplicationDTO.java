@@ -1,9 +1,12 @@
 package com.university.placementsystem.dto;
 
+import com.university.placementsystem.entity.ApplicationStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * DTO for returning job application information to administrators.
  *
@@ -32,4 +35,16 @@ public class ApplicationDTO {
 
     // Current status of the application (e.g., PENDING, ACCEPTED, REJECTED)
     private String status;
+
+    // Date and time when the application was submitted
+    private LocalDateTime appliedAt;
+
+    /**
+     * Constructor used by JPQL constructor expressions (status is read as the enum).
+     */
+    public ApplicationDTO(Long id, String studentName, String studentEmail,
+                          String jobTitle, String organizationName, ApplicationStatus status,
+                          LocalDateTime appliedAt) {
+        this(id, studentName, studentEmail, jobTitle, organizationName, status.name(), appliedAt);
+    }
 }
@@ -0,0 +1,19 @@
+package com.university.placementsystem.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for a student's order of preference among the jobs they applied for.
+ */
+@Data
+public class ApplicationPreferencesRequest {
+
+    // Job IDs, most preferred first; applications not listed become unranked
+    @NotNull(message = "Job IDs are required")
+    @Size(max = 500, message = "At most 500 jobs can be ranked")
+    private List<Long> jobIds;
+}
@@ -0,0 +1,20 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One skill (canonical dictionary name) of the student behind an application.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationSkillDTO {
+
+    // ID of the application
+    private Long applicationId;
+
+    // Canonical name of the skill in the skill dictionary
+    private String skill;
+}
@@ -0,0 +1,40 @@
+package com.university.placementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.university.placementsystem.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Current state of an application, pushed to its student when the status changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationUpdateDTO {
+
+    // Student the update is routed to (not sent)
+    @JsonIgnore
+    private Long studentId;
+
+    // ID of the application
+    private Long applicationId;
+
+    // ID of the applied job posting
+    private Long jobId;
+
+    // Title of the job
+    private String jobTitle;
+
+    // Organization offering the job
+    private String organizationName;
+
+    // New status of the application
+    private ApplicationStatus status;
+
+    // Date and time when the application was submitted
+    private LocalDateTime appliedAt;
+}
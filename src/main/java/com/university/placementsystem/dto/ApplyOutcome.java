@@ -0,0 +1,16 @@
+package com.university.placementsystem.dto;
+
+/**
+ * Per-job result of a bulk application request.
+ */
+public enum ApplyOutcome {
+
+    // A new application was created
+    APPLIED,
+
+    // The student had already applied to this job
+    ALREADY_APPLIED,
+
+    // No job posting exists with this ID
+    JOB_NOT_FOUND
+}
@@ -0,0 +1,19 @@
+package com.university.placementsystem.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for applying to several job postings at once.
+ */
+@Data
+public class BulkApplyRequest {
+
+    // IDs of the job postings to apply to
+    @NotEmpty(message = "At least one job ID is required")
+    @Size(max = 100, message = "At most 100 jobs can be applied to at once")
+    private List<Long> jobIds;
+}
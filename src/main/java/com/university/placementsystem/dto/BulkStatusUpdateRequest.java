@@ -0,0 +1,25 @@
+package com.university.placementsystem.dto;
+
+import com.university.placementsystem.entity.ApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for moving several applications of one job posting to a new status.
+ */
+@Data
+public class BulkStatusUpdateRequest {
+
+    // IDs of the applications to update
+    @NotEmpty(message = "At least one application ID is required")
+    @Size(max = 1000, message = "At most 1000 applications can be updated at once")
+    private List<Long> applicationIds;
+
+    // Target status (SHORTLISTED, SELECTED or REJECTED)
+    @NotNull(message = "Target status is required")
+    private ApplicationStatus status;
+}
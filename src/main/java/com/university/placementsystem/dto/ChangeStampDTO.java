@@ -0,0 +1,24 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aggregate that changes whenever a set of rows changes (result of one aggregate query):
+ * rows are only ever added and their versions only ever grow.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeStampDTO {
+
+    // Number of rows
+    private Long rows;
+
+    // Highest row ID (null when there are no rows)
+    private Long maxId;
+
+    // Sum of the row versions (null when there are no rows)
+    private Long versions;
+}
@@ -0,0 +1,45 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a cursor (keyset) paginated listing.
+ *
+ * <p>Pass {@code nextCursor} back as the {@code after} parameter to fetch the
+ * following page; it is {@code null} on the last page.</p>
+ *
+ * @param <T> item type
+ */
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    // Items of this page, in listing order
+    private List<T> items;
+
+    // Opaque cursor of the next page (null if there is none)
+    private String nextCursor;
+
+    /**
+     * Builds a page from up to {@code size + 1} fetched rows; the extra row only signals
+     * that another page exists.
+     *
+     * @param rows     rows fetched with a limit of {@code size + 1}
+     * @param size     requested page size
+     * @param cursorOf encodes the cursor of a row
+     * @param <T>      item type
+     * @return the page, with a next cursor if more rows exist
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, size));
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+}
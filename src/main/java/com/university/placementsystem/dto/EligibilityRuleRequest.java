@@ -0,0 +1,21 @@
+package com.university.placementsystem.dto;
+
+import com.university.placementsystem.entity.ScreeningMode;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO for changing the eligibility rule of a job posting.
+ *
+ * <p>Existing applicants are re-screened against the new rule.</p>
+ */
+@Data
+public class EligibilityRuleRequest {
+
+    // New rule, e.g. "graduationYear >= 2025 AND degree IN ('BSc CS', 'BE')"; blank removes it
+    @Size(max = 1000, message = "Eligibility rule must be at most 1000 characters")
+    private String eligibilityRule;
+
+    // What screening does with applicants failing the rule (optional, defaults to FLAG)
+    private ScreeningMode screeningMode;
+}
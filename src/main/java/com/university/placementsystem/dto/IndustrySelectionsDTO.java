@@ -0,0 +1,20 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of SELECTED applications for the job postings of one industry.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IndustrySelectionsDTO {
+
+    // Industry of the organizations (may be null)
+    private String industry;
+
+    // SELECTED applications
+    private Long selections;
+}
@@ -0,0 +1,43 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A scheduled interview as shown to students and organizations.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewDTO {
+
+    // ID of the interview
+    private Long id;
+
+    // ID of the application
+    private Long applicationId;
+
+    // Name of the student
+    private String studentName;
+
+    // ID of the job posting
+    private Long jobId;
+
+    // Title of the job posting
+    private String jobTitle;
+
+    // Interviewing organization
+    private String organizationName;
+
+    // Room name
+    private String room;
+
+    // Start of the slot
+    private LocalDateTime startsAt;
+
+    // End of the slot
+    private LocalDateTime endsAt;
+}
@@ -0,0 +1,32 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Scheduling input for one interview: who meets whom, and where it currently sits.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewPlacementDTO {
+
+    // ID of the interview (null = application not scheduled yet)
+    private Long interviewId;
+
+    // ID of the shortlisted application
+    private Long applicationId;
+
+    // ID of the student
+    private Long studentId;
+
+    // ID of the interviewing organization
+    private Long organizationId;
+
+    // Current room (null = not scheduled yet)
+    private Long roomId;
+
+    // Current slot (null = not scheduled yet)
+    private Long slotId;
+}
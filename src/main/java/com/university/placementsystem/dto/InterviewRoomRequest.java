@@ -0,0 +1,17 @@
+package com.university.placementsystem.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO for adding an interview room.
+ */
+@Data
+public class InterviewRoomRequest {
+
+    // Display name of the room
+    @NotBlank(message = "Room name is required")
+    @Size(max = 100, message = "Room name must be at most 100 characters")
+    private String name;
+}
@@ -0,0 +1,29 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Summary of an interview scheduling run.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewScheduleResultDTO {
+
+    // Interviews that kept their room and slot
+    private int kept;
+
+    // Interviews placed or moved by this run
+    private int scheduled;
+
+    // Shortlisted applications left without an interview (not enough free cells)
+    private int unscheduled;
+
+    // Interviews removed because their application is no longer shortlisted
+    private int released;
+
+    // Time taken to compute the schedule, in milliseconds
+    private long solverMillis;
+}
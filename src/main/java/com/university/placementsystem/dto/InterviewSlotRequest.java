@@ -0,0 +1,21 @@
+package com.university.placementsystem.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for adding an interview time slot.
+ */
+@Data
+public class InterviewSlotRequest {
+
+    // Start of the slot (inclusive)
+    @NotNull(message = "Start time is required")
+    private LocalDateTime startsAt;
+
+    // End of the slot (exclusive), after the start
+    @NotNull(message = "End time is required")
+    private LocalDateTime endsAt;
+}
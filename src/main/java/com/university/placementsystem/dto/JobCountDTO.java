@@ -0,0 +1,20 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A count of rows per job posting (result of a GROUP BY query).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCountDTO {
+
+    // ID of the job posting
+    private Long jobId;
+
+    // Number of rows
+    private Long count;
+}
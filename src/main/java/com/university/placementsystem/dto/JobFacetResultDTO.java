@@ -0,0 +1,23 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Result of a faceted job search: one page of matching jobs plus facet counts.
+ */
+@Data
+@AllArgsConstructor
+public class JobFacetResultDTO {
+
+    // Number of jobs matching all selected filters
+    private long total;
+
+    // Facet name (industry, location, skill) -> value -> number of matching jobs
+    private Map<String, Map<String, Integer>> facets;
+
+    // Requested page of matching jobs, newest first
+    private CursorPage<JobSummaryDTO> jobs;
+}
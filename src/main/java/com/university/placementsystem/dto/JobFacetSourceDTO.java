@@ -0,0 +1,32 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Facet attributes of a job posting and its organization, used to build the facet index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFacetSourceDTO {
+
+    // Unique ID of the job posting
+    private Long jobId;
+
+    // ID of the owning organization
+    private Long organizationId;
+
+    // Comma-separated skills of the posting
+    private String skillsRequired;
+
+    // Industry of the organization
+    private String industry;
+
+    // Location of the organization
+    private String location;
+
+    // Whether the organization is approved
+    private boolean approved;
+}
@@ -1,6 +1,9 @@
 package com.university.placementsystem.dto;
 
+import com.university.placementsystem.entity.ScreeningMode;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 /**
@@ -25,4 +28,15 @@ public class JobPostingCreateRequest {
 
     // Eligibility criteria (optional field)
     private String eligibilityCriteria;
+
+    // Number of students to hire (optional, used by placement allocation)
+    @Positive(message = "Seats must be positive")
+    private Integer seats;
+
+    // Machine-checked eligibility rule, e.g. "graduationYear >= 2025 AND degree IN ('BSc CS', 'BE')" (optional)
+    @Size(max = 1000, message = "Eligibility rule must be at most 1000 characters")
+    private String eligibilityRule;
+
+    // What screening does with applicants failing the rule (optional, defaults to FLAG)
+    private ScreeningMode screeningMode;
 }
@@ -0,0 +1,20 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A job posting recommended to a student, with its match score.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRecommendationDTO {
+
+    // The recommended posting
+    private JobSummaryDTO job;
+
+    // Skill match score in (0, 1]; 1 = the student has exactly the posting's skills
+    private float score;
+}
@@ -0,0 +1,27 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Attributes of a job posting used to build the recommendation index
+ * (its skills are loaded separately from the skill join table).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRecommendationSourceDTO {
+
+    // Unique ID of the job posting
+    private Long jobId;
+
+    // ID of the owning organization
+    private Long organizationId;
+
+    // Whether the organization is approved
+    private boolean approved;
+
+    // Eligibility criteria as entered (graduation years are extracted from it)
+    private String eligibilityCriteria;
+}
@@ -0,0 +1,33 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Searchable text of a job posting and its organization's approval state,
+ * used to build the search index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchSourceDTO {
+
+    // Unique ID of the job posting
+    private Long jobId;
+
+    // ID of the owning organization
+    private Long organizationId;
+
+    // Whether the organization is approved
+    private boolean approved;
+
+    // Job title
+    private String title;
+
+    // Required skills as entered
+    private String skillsRequired;
+
+    // Job description
+    private String description;
+}
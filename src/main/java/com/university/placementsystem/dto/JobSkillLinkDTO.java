@@ -0,0 +1,20 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the job posting / skill join table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSkillLinkDTO {
+
+    // ID of the job posting
+    private Long jobId;
+
+    // ID of the skill in the skill dictionary
+    private Integer skillId;
+}
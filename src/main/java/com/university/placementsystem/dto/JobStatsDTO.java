@@ -0,0 +1,43 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application counters of one job posting, as shown on the recruiter dashboard.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatsDTO {
+
+    // ID of the job posting
+    private Long jobId;
+
+    // Title of the job posting
+    private String title;
+
+    // When the job was posted
+    private LocalDateTime createdAt;
+
+    // All applications ever submitted
+    private long total;
+
+    // Applications currently APPLIED
+    private long applied;
+
+    // Applications currently SHORTLISTED
+    private long shortlisted;
+
+    // Applications currently SELECTED
+    private long selected;
+
+    // Applications currently REJECTED
+    private long rejected;
+
+    // Applications currently WITHDRAWN
+    private long withdrawn;
+}
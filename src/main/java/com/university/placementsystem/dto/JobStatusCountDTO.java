@@ -0,0 +1,24 @@
+package com.university.placementsystem.dto;
+
+import com.university.placementsystem.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of applications of a job posting in one status (result of a GROUP BY query).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobStatusCountDTO {
+
+    // ID of the job posting
+    private Long jobId;
+
+    // Application status
+    private ApplicationStatus status;
+
+    // Number of applications
+    private Long count;
+}
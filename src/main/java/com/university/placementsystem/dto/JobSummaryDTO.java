@@ -0,0 +1,43 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact job posting for listings shown to students.
+ *
+ * <p>Leaves out the (TEXT) description; the full posting is fetched by ID
+ * when a student opens it.</p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSummaryDTO {
+
+    // Unique ID of the job posting
+    private Long id;
+
+    // Title of the job
+    private String title;
+
+    // Skills required for this job
+    private String skillsRequired;
+
+    // Eligibility criteria for applicants
+    private String eligibilityCriteria;
+
+    // Date and time when the job posting was created
+    private LocalDateTime createdAt;
+
+    // Name of the organization offering this job
+    private String organizationName;
+
+    // Industry of the organization
+    private String industry;
+
+    // Location of the organization
+    private String location;
+}
@@ -0,0 +1,28 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification shown to an organization.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDTO {
+
+    // ID of the notification
+    private Long id;
+
+    // Related application (null if none)
+    private Long applicationId;
+
+    // Message text
+    private String message;
+
+    // When the notification was created
+    private LocalDateTime createdAt;
+}
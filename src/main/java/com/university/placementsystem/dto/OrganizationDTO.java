@@ -15,6 +15,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class OrganizationDTO {
 
+    // Unique ID of the organization
+    private Long id;
+
     // Name of the company
     private String companyName;
 
@@ -0,0 +1,48 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Placement analytics of one snapshot: placement rates by university, degree and
+ * graduation year, and selections per industry.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementAnalyticsDTO {
+
+    // Snapshot version (ID)
+    private Long snapshotId;
+
+    // When the snapshot was computed
+    private LocalDateTime createdAt;
+
+    // Number of students
+    private long students;
+
+    // Students with at least one SELECTED application
+    private long placedStudents;
+
+    // placedStudents / students
+    private double placementRate;
+
+    // SELECTED applications
+    private long selections;
+
+    // Placement rate per university, largest group first
+    private List<PlacementRateDTO> byUniversity;
+
+    // Placement rate per degree, largest group first
+    private List<PlacementRateDTO> byDegree;
+
+    // Placement rate per graduation year, in year order
+    private List<PlacementRateDTO> byGraduationYear;
+
+    // Selections per industry, most selections first
+    private List<IndustrySelectionsDTO> byIndustry;
+}
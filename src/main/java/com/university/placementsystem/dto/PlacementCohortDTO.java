@@ -0,0 +1,30 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Students and placed students of one (university, degree, graduation year) cohort
+ * (result of a GROUP BY query).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementCohortDTO {
+
+    // University of the students (may be null)
+    private String university;
+
+    // Degree of the students (may be null)
+    private String degree;
+
+    // Graduation year of the students (may be null)
+    private Integer graduationYear;
+
+    // Number of students
+    private Long students;
+
+    // Students with at least one SELECTED application
+    private Long placed;
+}
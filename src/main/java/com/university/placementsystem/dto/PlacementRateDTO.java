@@ -0,0 +1,26 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Placement rate of one group of students (e.g. one university).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementRateDTO {
+
+    // Group value (e.g. the university name); "(not set)" for students without one
+    private String group;
+
+    // Number of students in the group
+    private long students;
+
+    // Students with at least one SELECTED application
+    private long placed;
+
+    // placed / students (0 for an empty group)
+    private double rate;
+}
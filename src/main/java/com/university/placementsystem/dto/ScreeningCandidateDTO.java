@@ -0,0 +1,40 @@
+package com.university.placementsystem.dto;
+
+import com.university.placementsystem.entity.ApplicationStatus;
+import com.university.placementsystem.entity.ScreeningMode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An application with the student attributes and job rule needed to screen it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScreeningCandidateDTO {
+
+    // ID of the application
+    private Long applicationId;
+
+    // ID of the job posting
+    private Long jobId;
+
+    // Eligibility rule text of the job posting (null = none)
+    private String eligibilityRule;
+
+    // Screening mode of the job posting (null = FLAG)
+    private ScreeningMode screeningMode;
+
+    // Current status of the application
+    private ApplicationStatus status;
+
+    // Degree of the student
+    private String degree;
+
+    // University of the student
+    private String university;
+
+    // Graduation year of the student
+    private Integer graduationYear;
+}
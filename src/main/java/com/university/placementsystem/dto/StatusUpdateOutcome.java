@@ -0,0 +1,19 @@
+package com.university.placementsystem.dto;
+
+/**
+ * Per-application result of a bulk status update.
+ */
+public enum StatusUpdateOutcome {
+
+    // The status was changed
+    UPDATED,
+
+    // The application is already SELECTED or REJECTED and was left unchanged
+    FINALIZED,
+
+    // The application's current status does not allow the requested transition
+    INVALID_TRANSITION,
+
+    // No application with this ID exists for the job posting
+    NOT_FOUND
+}
@@ -24,4 +24,7 @@ public class UserDTO {
 
     // Role of the user (e.g., STUDENT, ADMIN, RECRUITER)
     private UserRole role;
+
+    // ID of the student/organization profile (from the JWT); null if not yet created
+    private Long profileId;
 }
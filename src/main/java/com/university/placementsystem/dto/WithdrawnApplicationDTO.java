@@ -0,0 +1,26 @@
+package com.university.placementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A withdrawn application with what its organization needs to be told.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WithdrawnApplicationDTO {
+
+    // ID of the application
+    private Long applicationId;
+
+    // ID of the organization owning the job posting
+    private Long organizationId;
+
+    // Name of the student
+    private String studentName;
+
+    // Title of the job posting
+    private String jobTitle;
+}
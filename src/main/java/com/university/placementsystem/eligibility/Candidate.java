@@ -0,0 +1,27 @@
+package com.university.placementsystem.eligibility;
+
+import lombok.Value;
+
+import java.util.Set;
+
+/**
+ * Applicant attributes an eligibility rule can test.
+ *
+ * <p>Text values are compared in canonical form (trimmed, lower-cased, single-spaced),
+ * the same form the skill dictionary uses.</p>
+ */
+@Value
+public class Candidate {
+
+    // Degree of the student (may be null)
+    String degree;
+
+    // University of the student (may be null)
+    String university;
+
+    // Graduation year of the student (may be null)
+    Integer graduationYear;
+
+    // Canonical skill names of the student
+    Set<String> skills;
+}
@@ -0,0 +1,34 @@
+package com.university.placementsystem.eligibility;
+
+/**
+ * Compiled eligibility rule of a job posting.
+ *
+ * <p>Produced once per rule text by {@link EligibilityRuleCompiler} and then evaluated
+ * against any number of applicants without re-parsing.</p>
+ */
+@FunctionalInterface
+public interface EligibilityRule {
+
+    // Rule of a posting without criteria: everyone is eligible
+    EligibilityRule ANY = candidate -> true;
+
+    /**
+     * Evaluates the rule for one applicant.
+     *
+     * @param candidate applicant attributes
+     * @return true if the applicant is eligible
+     */
+    boolean test(Candidate candidate);
+
+    default EligibilityRule and(EligibilityRule other) {
+        return candidate -> test(candidate) && other.test(candidate);
+    }
+
+    default EligibilityRule or(EligibilityRule other) {
+        return candidate -> test(candidate) || other.test(candidate);
+    }
+
+    default EligibilityRule negate() {
+        return candidate -> !test(candidate);
+    }
+}
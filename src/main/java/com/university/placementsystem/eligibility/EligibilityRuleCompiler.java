@@ -0,0 +1,334 @@
+package com.university.placementsystem.eligibility;
+
+import com.university.placementsystem.util.SkillNames;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Compiles eligibility rule text into an {@link EligibilityRule}.
+ *
+ * <p>Syntax (keywords and field names are case-insensitive, text is quoted with {@code '}):</p>
+ * <pre>
+ * rule      := or
+ * or        := and ( OR and )*
+ * and       := unary ( AND unary )*
+ * unary     := NOT unary | '(' or ')' | condition
+ * condition := graduationYear ( = | != | &lt; | &lt;= | &gt; | &gt;= ) number
+ *            | graduationYear [NOT] IN ( number, ... )
+ *            | ( degree | university ) ( = | != ) 'text'
+ *            | ( degree | university ) [NOT] IN ( 'text', ... )
+ *            | ( degree | university | skills ) CONTAINS 'text'
+ *            | skills [NOT] IN ( 'text', ... )
+ * </pre>
+ *
+ * <p>Example: {@code graduationYear >= 2025 AND degree IN ('BSc CS', 'BE')}. Text is
+ * compared in canonical form ({@link SkillNames#canonicalize}); {@code skills IN (...)} holds if the applicant has any
+ * of the listed skills. A condition on a value the applicant has not filled in is false.</p>
+ */
+public final class EligibilityRuleCompiler {
+
+    // Upper bound on the rule text, to keep compilation cheap
+    public static final int MAX_LENGTH = 1000;
+
+    private final List<Token> tokens;
+    private int next;
+
+    private EligibilityRuleCompiler(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Compiles rule text.
+     *
+     * @param source rule text; null or blank means "everyone is eligible"
+     * @return compiled rule
+     * @throws InvalidRuleException if the text is not a valid rule
+     */
+    public static EligibilityRule compile(String source) {
+        if (source == null || source.isBlank()) {
+            return EligibilityRule.ANY;
+        }
+        if (source.length() > MAX_LENGTH) {
+            throw new InvalidRuleException("Eligibility rule is longer than " + MAX_LENGTH + " characters");
+        }
+        EligibilityRuleCompiler compiler = new EligibilityRuleCompiler(tokenize(source));
+        EligibilityRule rule = compiler.or();
+        compiler.expect(TokenType.END, "end of rule");
+        return rule;
+    }
+
+    // -------------------- Parser --------------------
+
+    private EligibilityRule or() {
+        EligibilityRule rule = and();
+        while (acceptKeyword("OR")) {
+            rule = rule.or(and());
+        }
+        return rule;
+    }
+
+    private EligibilityRule and() {
+        EligibilityRule rule = unary();
+        while (acceptKeyword("AND")) {
+            rule = rule.and(unary());
+        }
+        return rule;
+    }
+
+    private EligibilityRule unary() {
+        if (acceptKeyword("NOT")) {
+            return unary().negate();
+        }
+        if (acceptSymbol("(")) {
+            EligibilityRule rule = or();
+            expectSymbol(")");
+            return rule;
+        }
+        return condition();
+    }
+
+    private EligibilityRule condition() {
+        Token fieldToken = expect(TokenType.IDENT, "a field name");
+        Field field = Field.from(fieldToken);
+
+        boolean negated = acceptKeyword("NOT");
+        if (acceptKeyword("IN")) {
+            EligibilityRule rule = field.in(literalList(field));
+            return negated ? rule.negate() : rule;
+        }
+        if (negated) {
+            throw error(peek(), "IN after NOT");
+        }
+        if (acceptKeyword("CONTAINS")) {
+            if (field == Field.GRADUATION_YEAR) {
+                throw new InvalidRuleException("CONTAINS cannot be used with graduationYear");
+            }
+            return field.contains(canonicalize(expect(TokenType.STRING, "a quoted text").text));
+        }
+
+        Token operator = expect(TokenType.SYMBOL, "a comparison operator");
+        Object value = literal(field);
+        return field.compare(operator, value);
+    }
+
+    // '(' literal (',' literal)* ')'
+    private Set<Object> literalList(Field field) {
+        expectSymbol("(");
+        Set<Object> values = new HashSet<>();
+        do {
+            values.add(literal(field));
+        } while (acceptSymbol(","));
+        expectSymbol(")");
+        return values;
+    }
+
+    // A number for graduationYear, a quoted text otherwise
+    private Object literal(Field field) {
+        if (field == Field.GRADUATION_YEAR) {
+            Token token = expect(TokenType.NUMBER, "a year");
+            try {
+                return Integer.parseInt(token.text);
+            } catch (NumberFormatException ex) {
+                throw error(token, "a year");
+            }
+        }
+        return canonicalize(expect(TokenType.STRING, "a quoted text").text);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        Token token = peek();
+        if (token.type == TokenType.IDENT && token.text.equalsIgnoreCase(keyword)) {
+            next++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean acceptSymbol(String symbol) {
+        Token token = peek();
+        if (token.type == TokenType.SYMBOL && token.text.equals(symbol)) {
+            next++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!acceptSymbol(symbol)) {
+            throw error(peek(), "'" + symbol + "'");
+        }
+    }
+
+    private Token expect(TokenType type, String description) {
+        Token token = peek();
+        if (token.type != type) {
+            throw error(token, description);
+        }
+        next++;
+        return token;
+    }
+
+    private Token peek() {
+        return tokens.get(next);
+    }
+
+    private static InvalidRuleException error(Token token, String expected) {
+        String found = token.type == TokenType.END ? "end of rule" : "'" + token.text + "'";
+        return new InvalidRuleException("Expected " + expected + " but found " + found + " at position " + (token.position + 1));
+    }
+
+    // Canonical form of a text value, as the skill dictionary stores names; null stays null
+    private static String canonicalize(String raw) {
+        return raw == null ? null : SkillNames.canonicalize(raw);
+    }
+
+    // -------------------- Tokenizer --------------------
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < source.length()) {
+            final char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                while (i < source.length() && (Character.isLetterOrDigit(source.charAt(i)) || source.charAt(i) == '_')) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.IDENT, source.substring(start, i), start));
+            } else if (Character.isDigit(c)) {
+                int start = i;
+                while (i < source.length() && Character.isDigit(source.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, source.substring(start, i), start));
+            } else if (c == '\'') {
+                int start = i++;
+                StringBuilder text = new StringBuilder();
+                while (true) {
+                    if (i >= source.length()) {
+                        throw new InvalidRuleException("Unterminated text starting at position " + (start + 1));
+                    }
+                    char ch = source.charAt(i++);
+                    if (ch == '\'') {
+                        if (i < source.length() && source.charAt(i) == '\'') {
+                            text.append('\'');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        text.append(ch);
+                    }
+                }
+                tokens.add(new Token(TokenType.STRING, text.toString(), start));
+            } else if ("<>!".indexOf(c) >= 0 && i + 1 < source.length()
+                    && (source.charAt(i + 1) == '=' || (c == '<' && source.charAt(i + 1) == '>'))) {
+                tokens.add(new Token(TokenType.SYMBOL, source.substring(i, i + 2), i));
+                i += 2;
+            } else if ("()=<>,".indexOf(c) >= 0) {
+                tokens.add(new Token(TokenType.SYMBOL, String.valueOf(c), i));
+                i++;
+            } else {
+                throw new InvalidRuleException("Unexpected character '" + c + "' at position " + (i + 1));
+            }
+        }
+        tokens.add(new Token(TokenType.END, "", source.length()));
+        return tokens;
+    }
+
+    private enum TokenType { IDENT, NUMBER, STRING, SYMBOL, END }
+
+    private record Token(TokenType type, String text, int position) {
+    }
+
+    // -------------------- Fields --------------------
+
+    // Fields a rule can test, and how each compiles its conditions
+    private enum Field {
+        GRADUATION_YEAR("graduationYear", null),
+        DEGREE("degree", Candidate::getDegree),
+        UNIVERSITY("university", Candidate::getUniversity),
+        SKILLS("skills", null);
+
+        final String name;
+        final Function<Candidate, String> text;
+
+        Field(String name, Function<Candidate, String> text) {
+            this.name = name;
+            this.text = text;
+        }
+
+        static Field from(Token token) {
+            for (Field field : values()) {
+                if (field.name.equalsIgnoreCase(token.text)) {
+                    return field;
+                }
+            }
+            throw new InvalidRuleException("Unknown field '" + token.text + "' at position " + (token.position + 1)
+                    + " (use graduationYear, degree, university or skills)");
+        }
+
+        EligibilityRule in(Set<Object> values) {
+            return switch (this) {
+                case GRADUATION_YEAR -> candidate -> candidate.getGraduationYear() != null
+                        && values.contains(candidate.getGraduationYear());
+                case SKILLS -> candidate -> {
+                    for (String skill : candidate.getSkills()) {
+                        if (values.contains(skill)) {
+                            return true;
+                        }
+                    }
+                    return false;
+                };
+                default -> candidate -> {
+                    String value = canonicalize(text.apply(candidate));
+                    return value != null && values.contains(value);
+                };
+            };
+        }
+
+        EligibilityRule contains(String part) {
+            if (this == SKILLS) {
+                return candidate -> candidate.getSkills().contains(part);
+            }
+            return candidate -> {
+                String value = canonicalize(text.apply(candidate));
+                return value != null && value.contains(part);
+            };
+        }
+
+        EligibilityRule compare(Token operator, Object literal) {
+            if (this == SKILLS) {
+                throw new InvalidRuleException("Use CONTAINS or IN with skills (position " + (operator.position + 1) + ")");
+            }
+            if (this == GRADUATION_YEAR) {
+                final int year = (Integer) literal;
+                return switch (operator.text) {
+                    case "=" -> candidate -> candidate.getGraduationYear() != null && candidate.getGraduationYear() == year;
+                    case "!=", "<>" -> candidate -> candidate.getGraduationYear() != null && candidate.getGraduationYear() != year;
+                    case "<" -> candidate -> candidate.getGraduationYear() != null && candidate.getGraduationYear() < year;
+                    case "<=" -> candidate -> candidate.getGraduationYear() != null && candidate.getGraduationYear() <= year;
+                    case ">" -> candidate -> candidate.getGraduationYear() != null && candidate.getGraduationYear() > year;
+                    case ">=" -> candidate -> candidate.getGraduationYear() != null && candidate.getGraduationYear() >= year;
+                    default -> throw error(operator, "a comparison operator");
+                };
+            }
+            final String expected = (String) literal;
+            return switch (operator.text) {
+                case "=" -> candidate -> expected.equals(canonicalize(text.apply(candidate)));
+                case "!=", "<>" -> candidate -> {
+                    String value = canonicalize(text.apply(candidate));
+                    return value != null && !expected.equals(value);
+                };
+                default -> throw new InvalidRuleException(
+                        "Only =, != and <> compare " + name + " (position " + (operator.position + 1) + ")");
+            };
+        }
+    }
+}
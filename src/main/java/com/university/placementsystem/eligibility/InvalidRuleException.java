@@ -0,0 +1,11 @@
+package com.university.placementsystem.eligibility;
+
+/**
+ * Thrown when an eligibility rule does not follow the rule syntax.
+ */
+public class InvalidRuleException extends IllegalArgumentException {
+
+    public InvalidRuleException(String message) {
+        super(message);
+    }
+}
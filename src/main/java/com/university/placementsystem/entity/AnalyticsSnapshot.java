@@ -0,0 +1,62 @@
+package com.university.placementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An immutable, versioned snapshot of the placement analytics.
+ *
+ * <p>The snapshot ID doubles as its version: a later snapshot has a higher ID. The
+ * headline numbers are stored as columns (for trend listings), the full breakdown as
+ * JSON.</p>
+ */
+@Entity
+@Table(name = "analytics_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsSnapshot {
+
+    // Primary key and snapshot version (pooled blocks from the id_generators table)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "analytics_snapshots_id")
+    @TableGenerator(name = "analytics_snapshots_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "analytics_snapshots", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    // Number of students
+    @Column(nullable = false, updatable = false)
+    private long students;
+
+    // Students with at least one SELECTED application
+    @Column(name = "placed_students", nullable = false, updatable = false)
+    private long placedStudents;
+
+    // SELECTED applications
+    @Column(nullable = false, updatable = false)
+    private long selections;
+
+    // Time taken to compute the snapshot, in milliseconds
+    @Column(name = "duration_millis", nullable = false, updatable = false)
+    private long durationMillis;
+
+    // Full breakdown (PlacementAnalyticsDTO as JSON)
+    @Column(nullable = false, updatable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // Timestamp of creation (set automatically before persist)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Sets {@code createdAt} just before persisting.
+     */
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -2,6 +2,10 @@ package com.university.placementsystem.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.time.LocalDateTime;
 
 /**
@@ -11,16 +15,32 @@ import java.time.LocalDateTime;
  * and the timestamp when the application was submitted.</p>
  */
 @Entity
-@Table(name = "applications")
+@Table(name = "applications",
+        uniqueConstraints = {
+                // A student can apply to a job only once (enforced by the database, not check-then-insert)
+                @UniqueConstraint(name = Application.UK_STUDENT_JOB, columnNames = {"student_id", "job_posting_id"})
+        },
+        indexes = {
+                // Keyset pagination ordered by submission time (id breaks ties)
+                @Index(name = "idx_applications_applied_at", columnList = "applied_at, id"),
+                // Applications of a job by status (applicant filters, counter reconciliation)
+                @Index(name = "idx_applications_job_status", columnList = "job_posting_id, status")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Application {
 
-    // Primary key (auto-generated by the database)
+    // Name of the (student, job) unique constraint
+    public static final String UK_STUDENT_JOB = "uk_applications_student_job";
+
+    // Primary key (pooled blocks from the id_generators table, so inserts can be batched)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "applications_id")
+    @TableGenerator(name = "applications_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "applications", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     // Student who submitted the application (many applications per student)
@@ -33,15 +53,34 @@ public class Application {
     @JoinColumn(name = "job_posting_id", nullable = false)
     private JobPosting jobPosting;
 
-    // Current status of the application (APPLIED, SHORTLISTED, SELECTED, REJECTED)
+    // Current status of the application (APPLIED, SHORTLISTED, SELECTED, REJECTED, WITHDRAWN)
+    // (plain VARCHAR rather than a native ENUM column, so new statuses need no column change)
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
     private ApplicationStatus status;
 
+    // Outcome of automatic screening against the job's eligibility rule (null = not screened)
+    private Boolean eligible;
+
+    // The student's preference for this job among their applications (1 = first choice, null = unranked)
+    @Column(name = "student_preference")
+    private Integer studentPreference;
+
+    // The recruiter's rank of this applicant for the job (1 = best, null = unranked)
+    @Column(name = "recruiter_rank")
+    private Integer recruiterRank;
+
     // Timestamp when the application was created
     @Column(name = "applied_at", nullable = false, updatable = false)
     private LocalDateTime appliedAt;
 
+    // Optimistic lock version, bumped by every status change (including bulk UPDATE statements)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Initializes {@code appliedAt} and sets default status before persisting.
      */
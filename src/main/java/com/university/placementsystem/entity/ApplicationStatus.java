@@ -1,11 +1,18 @@
 package com.university.placementsystem.entity;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * Enumeration representing the status of a student's application
  * in the recruitment process.
  *
  * <p>Tracks the lifecycle of an application from submission
  * to final decision by the organization.</p>
+ *
+ * <p>Allowed transitions: APPLIED &rarr; SHORTLISTED &rarr; SELECTED, and
+ * APPLIED/SHORTLISTED &rarr; REJECTED or WITHDRAWN. SELECTED, REJECTED and
+ * WITHDRAWN are final.</p>
  */
 public enum ApplicationStatus {
 
@@ -19,5 +26,31 @@ public enum ApplicationStatus {
     REJECTED,
 
     // Application has been accepted and the student has been selected
-    SELECTED
+    SELECTED,
+
+    // Application was withdrawn because the student was selected elsewhere (one-offer policy)
+    WITHDRAWN;
+
+    /**
+     * Statuses an application may be in for it to move to this status.
+     *
+     * @return allowed predecessor statuses (empty for {@link #APPLIED}, the initial status)
+     */
+    public Set<ApplicationStatus> allowedPredecessors() {
+        return switch (this) {
+            case APPLIED -> EnumSet.noneOf(ApplicationStatus.class);
+            case SHORTLISTED -> EnumSet.of(APPLIED);
+            case SELECTED -> EnumSet.of(SHORTLISTED);
+            case REJECTED, WITHDRAWN -> EnumSet.of(APPLIED, SHORTLISTED);
+        };
+    }
+
+    /**
+     * Returns whether no further transition is possible from this status.
+     *
+     * @return true for {@link #SELECTED}, {@link #REJECTED} and {@link #WITHDRAWN}
+     */
+    public boolean isFinal() {
+        return this == SELECTED || this == REJECTED || this == WITHDRAWN;
+    }
 }
@@ -0,0 +1,27 @@
+package com.university.placementsystem.entity;
+
+/**
+ * Shared settings of the table-backed ID generators used by all entities.
+ *
+ * <p>IDs are reserved in blocks of {@link #ALLOCATION_SIZE} from one row per entity
+ * in {@value #TABLE}, so Hibernate knows the ID before the INSERT and can batch
+ * inserts (IDENTITY columns force one round trip per row). MySQL has no sequences,
+ * hence a table rather than a sequence generator.</p>
+ */
+public final class IdGenerators {
+
+    // Table holding the next free ID block per entity
+    public static final String TABLE = "id_generators";
+
+    // Column naming the entity (one row per entity table)
+    public static final String PK_COLUMN = "entity";
+
+    // Column holding the upper bound of the last reserved block
+    public static final String VALUE_COLUMN = "next_val";
+
+    // IDs reserved per round trip (matches hibernate.jdbc.batch_size)
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
@@ -0,0 +1,57 @@
+package com.university.placementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A scheduled interview of a shortlisted {@link Application}: one room in one slot.
+ *
+ * <p>The unique constraints are the scheduling rules: a room holds one interview per
+ * slot, a student sits at most one interview per slot, and an application is
+ * interviewed once. The student is copied from the application so the database can
+ * enforce the second rule.</p>
+ */
+@Entity
+@Table(name = "interviews",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_interviews_application", columnNames = {"application_id"}),
+                @UniqueConstraint(name = "uk_interviews_room_slot", columnNames = {"room_id", "slot_id"}),
+                @UniqueConstraint(name = "uk_interviews_student_slot", columnNames = {"student_id", "slot_id"})
+        },
+        indexes = {
+                @Index(name = "idx_interviews_slot", columnList = "slot_id")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Interview {
+
+    // Primary key (pooled blocks from the id_generators table, so inserts can be batched)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "interviews_id")
+    @TableGenerator(name = "interviews_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "interviews", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    // Application being interviewed
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "application_id", nullable = false)
+    private Application application;
+
+    // Applicant (same as the application's student)
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "student_id", nullable = false)
+    private Student student;
+
+    // Assigned room
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "room_id", nullable = false)
+    private InterviewRoom room;
+
+    // Assigned time slot
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "slot_id", nullable = false)
+    private InterviewSlot slot;
+}
@@ -0,0 +1,32 @@
+package com.university.placementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * A room available for interviews during the placement drive.
+ */
+@Entity
+@Table(name = "interview_rooms")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewRoom {
+
+    // Primary key (pooled blocks from the id_generators table)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "interview_rooms_id")
+    @TableGenerator(name = "interview_rooms_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "interview_rooms", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    // Display name (e.g., "Block A - 101"), unique
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+
+    // Whether interviews may be scheduled in this room
+    @Column(nullable = false)
+    private boolean available;
+}
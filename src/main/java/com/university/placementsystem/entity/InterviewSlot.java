@@ -0,0 +1,43 @@
+package com.university.placementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A time window in which every available room can hold one interview.
+ *
+ * <p>Available slots never overlap, so two interviews of a student conflict
+ * exactly when they share a slot.</p>
+ */
+@Entity
+@Table(name = "interview_slots", indexes = {
+        @Index(name = "idx_interview_slots_starts_at", columnList = "starts_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InterviewSlot {
+
+    // Primary key (pooled blocks from the id_generators table)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "interview_slots_id")
+    @TableGenerator(name = "interview_slots_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "interview_slots", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    // Start of the window (inclusive)
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    // End of the window (exclusive)
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    // Whether interviews may be scheduled in this slot
+    @Column(nullable = false)
+    private boolean available;
+}
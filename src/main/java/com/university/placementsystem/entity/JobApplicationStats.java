@@ -0,0 +1,57 @@
+package com.university.placementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Application counters of one {@link JobPosting}: all applications, and how many are
+ * currently in each status.
+ *
+ * <p>Maintained incrementally by {@code JobApplicationStatsService} (buffered deltas,
+ * flushed in batches) so dashboards never count {@code applications} rows.</p>
+ */
+@Entity
+@Table(name = "job_application_stats")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobApplicationStats {
+
+    // Same as the job posting ID
+    @Id
+    @Column(name = "job_posting_id")
+    private Long jobPostingId;
+
+    // Job posting the counters belong to
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "job_posting_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private JobPosting jobPosting;
+
+    // All applications ever submitted
+    @Column(nullable = false)
+    private long total;
+
+    // Applications currently APPLIED
+    @Column(nullable = false)
+    private long applied;
+
+    // Applications currently SHORTLISTED
+    @Column(nullable = false)
+    private long shortlisted;
+
+    // Applications currently SELECTED
+    @Column(nullable = false)
+    private long selected;
+
+    // Applications currently REJECTED
+    @Column(nullable = false)
+    private long rejected;
+
+    // Applications currently WITHDRAWN
+    @Column(nullable = false)
+    private long withdrawn;
+}
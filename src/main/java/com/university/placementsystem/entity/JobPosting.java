@@ -3,6 +3,8 @@ package com.university.placementsystem.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Entity representing a job posting created by an {@link Organization}.
@@ -11,16 +13,24 @@ import java.time.LocalDateTime;
  * and creation timestamp. A posting always belongs to one organization.</p>
  */
 @Entity
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = {
+        // Keyset pagination ordered by creation time (id breaks ties)
+        @Index(name = "idx_job_postings_created_at", columnList = "created_at, id"),
+        // An organization's postings, newest first (recruiter dashboard)
+        @Index(name = "idx_job_postings_organization", columnList = "organization_id, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class JobPosting {
 
-    // Primary key (auto-generated by the database)
+    // Primary key (pooled blocks from the id_generators table, so inserts can be batched)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "job_postings_id")
+    @TableGenerator(name = "job_postings_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "job_postings", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     // Job title
@@ -31,14 +41,37 @@ public class JobPosting {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String description;
 
-    // Comma-separated list of required skills
+    // Comma-separated list of required skills (kept for display)
     @Column(name = "skills_required", length = 500)
     private String skillsRequired;
 
+    // Normalized required skills (dictionary entries), kept in sync with {@code skillsRequired} by the services
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "job_posting_skills",
+            joinColumns = @JoinColumn(name = "job_posting_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_job_posting_skills_skill", columnList = "skill_id, job_posting_id"))
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<Skill> skillSet = new HashSet<>();
+
     // Eligibility criteria for applicants
     @Column(name = "eligibility_criteria", length = 500)
     private String eligibilityCriteria;
 
+    // Number of students the organization will hire for this posting (null = one per shortlisted applicant)
+    private Integer seats;
+
+    // Machine-checked eligibility rule (see EligibilityRuleCompiler), null = no automatic screening
+    @Column(name = "eligibility_rule", length = 1000)
+    private String eligibilityRule;
+
+    // What screening does with applicants failing the rule (null = FLAG)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "screening_mode", length = 10)
+    private ScreeningMode screeningMode;
+
     // Timestamp of creation (set automatically before persist)
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,54 @@
+package com.university.placementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A message for an organization's recruiters (e.g., an applicant accepted another offer).
+ */
+@Entity
+@Table(name = "notifications", indexes = {
+        // Newest notifications of an organization first
+        @Index(name = "idx_notifications_organization", columnList = "organization_id, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Notification {
+
+    // Primary key (pooled blocks from the id_generators table, so inserts can be batched)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notifications_id")
+    @TableGenerator(name = "notifications_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "notifications", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Long id;
+
+    // Recipient organization
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "organization_id", nullable = false)
+    private Organization organization;
+
+    // Related application, if any
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    // Message text
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    // Timestamp of creation (set automatically before persist)
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Sets {@code createdAt} just before persisting.
+     */
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
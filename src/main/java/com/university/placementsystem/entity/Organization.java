@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entity representing an organization profile in the Placement System.
@@ -20,9 +21,12 @@ import lombok.*;
 @Builder
 public class Organization {
 
-    // Primary key (auto-generated by the database)
+    // Primary key (pooled blocks from the id_generators table, so inserts can be batched)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "organizations_id")
+    @TableGenerator(name = "organizations_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "organizations", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     // Associated user account (1-to-1, unique per organization)
@@ -51,4 +55,10 @@ public class Organization {
     // Whether the organization is approved by the admin
     @Column(nullable = false)
     private boolean approved = false;
+
+    // Optimistic lock version, bumped by every profile change (also identifies the profile version in ETags)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
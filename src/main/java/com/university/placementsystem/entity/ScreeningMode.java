@@ -0,0 +1,14 @@
+package com.university.placementsystem.entity;
+
+/**
+ * What automatic screening does with an application that fails the
+ * eligibility rule of its job posting.
+ */
+public enum ScreeningMode {
+
+    // Only flag the application as ineligible; the recruiter decides
+    FLAG,
+
+    // Flag it and move it from APPLIED to REJECTED
+    REJECT
+}
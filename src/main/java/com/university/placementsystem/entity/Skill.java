@@ -0,0 +1,32 @@
+package com.university.placementsystem.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entry of the skill dictionary.
+ *
+ * <p>Each distinct skill is stored once under its canonical name (trimmed,
+ * case-folded, single-spaced) and referenced by a compact integer ID from
+ * students and job postings.</p>
+ */
+@Entity
+@Table(name = "skills")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Skill {
+
+    // Primary key (pooled blocks from the id_generators table)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "skills_id")
+    @TableGenerator(name = "skills_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "skills", allocationSize = IdGenerators.ALLOCATION_SIZE)
+    private Integer id;
+
+    // Canonical skill name (e.g., "spring boot"), unique
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+}
@@ -6,6 +6,10 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Entity representing a student profile in the Placement System.
@@ -22,9 +26,12 @@ import lombok.*;
 @Builder
 public class Student {
 
-    // Primary key (auto-generated by the database)
+    // Primary key (pooled blocks from the id_generators table, so inserts can be batched)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "students_id")
+    @TableGenerator(name = "students_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "students", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     // Associated user account (1-to-1, unique per student)
@@ -50,12 +57,28 @@ public class Student {
     @Column(name = "graduation_year", nullable = false)
     private Integer graduationYear;
 
-    // Skills (stored as comma-separated string for now)
-    // TODO: normalize into a table or store as JSON if needed
+    // Skills as entered by the student (comma-separated, kept for display)
     @Column(length = 500)
     private String skills;
 
+    // Normalized skills (dictionary entries), kept in sync with {@code skills} by the services
+    @ManyToMany(fetch = FetchType.LAZY)
+    @JoinTable(name = "student_skills",
+            joinColumns = @JoinColumn(name = "student_id"),
+            inverseJoinColumns = @JoinColumn(name = "skill_id"),
+            indexes = @Index(name = "idx_student_skills_skill", columnList = "skill_id, student_id"))
+    @Builder.Default
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Set<Skill> skillSet = new HashSet<>();
+
     // Path to the uploaded resume file (e.g., PDF in storage)
     @Column(name = "resume_path")
     private String resumePath;
+
+    // Optimistic lock version, bumped by every profile change (also identifies the profile version in ETags)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
@@ -22,9 +22,12 @@ import lombok.*;
 @Builder
 public class User {
 
-    // Primary key (auto-generated by the database)
+    // Primary key (pooled blocks from the id_generators table, so inserts can be batched)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN, valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "users", allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     // Display the name of the user
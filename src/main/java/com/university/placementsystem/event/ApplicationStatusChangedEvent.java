@@ -0,0 +1,16 @@
+package com.university.placementsystem.event;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published when the status of applications changes (recruiter updates, REJECT-mode
+ * screening, allocation runs).
+ */
+@Value
+public class ApplicationStatusChangedEvent {
+
+    // IDs of the changed applications
+    List<Long> applicationIds;
+}
@@ -0,0 +1,15 @@
+package com.university.placementsystem.event;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published when a student submits one or more applications.
+ */
+@Value
+public class ApplicationsSubmittedEvent {
+
+    // IDs of the new applications
+    List<Long> applicationIds;
+}
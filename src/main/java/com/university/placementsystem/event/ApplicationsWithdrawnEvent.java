@@ -0,0 +1,15 @@
+package com.university.placementsystem.event;
+
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published when applications are withdrawn because their student was selected elsewhere.
+ */
+@Value
+public class ApplicationsWithdrawnEvent {
+
+    // IDs of the withdrawn applications
+    List<Long> applicationIds;
+}
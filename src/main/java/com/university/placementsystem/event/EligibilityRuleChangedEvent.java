@@ -0,0 +1,13 @@
+package com.university.placementsystem.event;
+
+import lombok.Value;
+
+/**
+ * Published when an organization changes the eligibility rule of a job posting.
+ */
+@Value
+public class EligibilityRuleChangedEvent {
+
+    // ID of the job posting
+    Long jobPostingId;
+}
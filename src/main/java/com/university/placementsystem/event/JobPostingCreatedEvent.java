@@ -0,0 +1,16 @@
+package com.university.placementsystem.event;
+
+import lombok.Value;
+
+/**
+ * Published when an organization creates a new job posting.
+ */
+@Value
+public class JobPostingCreatedEvent {
+
+    // ID of the new job posting
+    Long jobPostingId;
+
+    // ID of the organization that posted it
+    Long organizationId;
+}
@@ -0,0 +1,13 @@
+package com.university.placementsystem.event;
+
+import lombok.Value;
+
+/**
+ * Published when an organization's profile or approval status changes.
+ */
+@Value
+public class OrganizationUpdatedEvent {
+
+    // ID of the changed organization
+    Long organizationId;
+}
@@ -0,0 +1,16 @@
+package com.university.placementsystem.event;
+
+import lombok.Value;
+
+/**
+ * Published when an administrator activates or deactivates a user account.
+ */
+@Value
+public class UserStatusChangedEvent {
+
+    // ID of the affected user
+    Long userId;
+
+    // New value of the account's active flag
+    boolean active;
+}
@@ -0,0 +1,28 @@
+package com.university.placementsystem.repository;
+
+import com.university.placementsystem.dto.AnalyticsSnapshotSummaryDTO;
+import com.university.placementsystem.entity.AnalyticsSnapshot;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for {@link AnalyticsSnapshot} entities.
+ */
+public interface AnalyticsSnapshotRepository extends JpaRepository<AnalyticsSnapshot, Long> {
+
+    // Latest snapshot
+    Optional<AnalyticsSnapshot> findFirstByOrderByIdDesc();
+
+    // Headline numbers of the newest snapshots, newest first (no payloads)
+    @Query("""
+            select new com.university.placementsystem.dto.AnalyticsSnapshotSummaryDTO(
+                s.id, s.createdAt, s.students, s.placedStudents, s.selections, s.durationMillis)
+            from AnalyticsSnapshot s
+            order by s.id desc
+            """)
+    List<AnalyticsSnapshotSummaryDTO> findSummaries(Limit limit);
+}
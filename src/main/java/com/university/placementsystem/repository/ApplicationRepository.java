@@ -1,9 +1,35 @@
 package com.university.placementsystem.repository;
 
+import com.university.placementsystem.dto.AllocationCandidateDTO;
+import com.university.placementsystem.dto.ApplicantDTO;
+import com.university.placementsystem.dto.ApplicationCountDTO;
+import com.university.placementsystem.dto.ApplicationSkillDTO;
+import com.university.placementsystem.dto.ApplicationDTO;
+import com.university.placementsystem.dto.ApplicationResponse;
+import com.university.placementsystem.dto.ApplicationUpdateDTO;
+import com.university.placementsystem.dto.ChangeStampDTO;
+import com.university.placementsystem.dto.IndustrySelectionsDTO;
+import com.university.placementsystem.dto.JobCountDTO;
+import com.university.placementsystem.dto.JobStatusCountDTO;
+import com.university.placementsystem.dto.ScreeningCandidateDTO;
 import com.university.placementsystem.entity.Application;
+import com.university.placementsystem.entity.ApplicationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Application} entities.
@@ -13,6 +39,9 @@ import java.util.List;
  */
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
+    // Rows per JDBC round-trip when streaming exports
+    int EXPORT_FETCH_SIZE = 1000;
+
     // Find all applications submitted by a given student
     List<Application> findByStudent_Id(Long studentId);
 
@@ -21,4 +50,284 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     // Check whether a student has already applied for a given job posting
     boolean existsByStudent_IdAndJobPosting_Id(Long studentId, Long jobPostingId);
+
+    // Job IDs (out of the given ones) the student has already applied to
+    @Query("select a.jobPosting.id from Application a where a.student.id = :studentId and a.jobPosting.id in :jobIds")
+    Set<Long> findAppliedJobIds(Long studentId, Collection<Long> jobIds);
+
+    // IDs of all jobs a student has applied for
+    @Query("select a.jobPosting.id from Application a where a.student.id = :studentId")
+    Set<Long> findAllAppliedJobIds(Long studentId);
+
+    // Applications of a student with job and organization details, in one statement
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationResponse(
+                j.id, j.title, o.companyName, a.status, a.appliedAt)
+            from Application a join a.jobPosting j join j.organization o
+            where a.student.id = :studentId
+            order by a.id
+            """)
+    List<ApplicationResponse> findResponsesByStudent(Long studentId);
+
+    // Change stamp of a student's application list (status changes bump application versions,
+    // profile changes bump organization versions)
+    @Query("""
+            select new com.university.placementsystem.dto.ChangeStampDTO(count(a), max(a.id), sum(a.version + o.version))
+            from Application a join a.jobPosting j join j.organization o
+            where a.student.id = :studentId
+            """)
+    ChangeStampDTO findChangeStampByStudent(Long studentId);
+
+    // Current state of the given applications, with their students (pushed to subscribed students)
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationUpdateDTO(
+                a.student.id, a.id, j.id, j.title, o.companyName, a.status, a.appliedAt)
+            from Application a join a.jobPosting j join j.organization o
+            where a.id in :ids
+            """)
+    List<ApplicationUpdateDTO> findUpdates(Collection<Long> ids);
+
+    // Applicants of a job (optionally with one status), earliest application first
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicantDTO(
+                a.id, s.id, u.username, u.email, s.university, s.degree, s.graduationYear, s.skills,
+                a.status, a.appliedAt)
+            from Application a join a.student s join s.user u
+            where a.jobPosting.id = :jobId and (:status is null or a.status = :status)
+            order by a.appliedAt, a.id
+            """)
+    List<ApplicantDTO> findApplicants(Long jobId, ApplicationStatus status);
+
+    // Per application of a job: how many of the given skills its student has (applications with none are left out)
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationCountDTO(a.id, count(k))
+            from Application a join a.student s join s.skillSet k
+            where a.jobPosting.id = :jobId and k.id in :skillIds
+            group by a.id
+            """)
+    List<ApplicationCountDTO> countMatchingSkills(Long jobId, Collection<Integer> skillIds);
+
+    // ---- Eligibility screening ----
+
+    // Screening inputs of the given applications (student attributes and their job's rule)
+    @Query("""
+            select new com.university.placementsystem.dto.ScreeningCandidateDTO(
+                a.id, j.id, j.eligibilityRule, j.screeningMode, a.status,
+                s.degree, s.university, s.graduationYear)
+            from Application a join a.jobPosting j join a.student s
+            where a.id in :ids
+            """)
+    List<ScreeningCandidateDTO> findScreeningCandidates(Collection<Long> ids);
+
+    // Next batch of a job's applications with their screening inputs, ordered by ID
+    @Query("""
+            select new com.university.placementsystem.dto.ScreeningCandidateDTO(
+                a.id, j.id, j.eligibilityRule, j.screeningMode, a.status,
+                s.degree, s.university, s.graduationYear)
+            from Application a join a.jobPosting j join a.student s
+            where j.id = :jobId and a.id > :afterId
+            order by a.id
+            """)
+    List<ScreeningCandidateDTO> findScreeningCandidatesPage(Long jobId, Long afterId, Limit limit);
+
+    // Dictionary skills of the students behind the given applications
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationSkillDTO(a.id, k.name)
+            from Application a join a.student s join s.skillSet k
+            where a.id in :ids
+            """)
+    List<ApplicationSkillDTO> findApplicantSkills(Collection<Long> ids);
+
+    // Records the screening outcome of the given applications (null = not screened)
+    @Modifying(clearAutomatically = true)
+    @Query("update Application a set a.eligible = :eligible where a.id in :ids")
+    int updateEligibility(Collection<Long> ids, Boolean eligible);
+
+    // ---- Placement allocation ----
+
+    // Shortlisted applications of students without an offer, grouped by student in order of preference
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("""
+            select new com.university.placementsystem.dto.AllocationCandidateDTO(
+                a.id, a.student.id, j.id, j.seats, a.studentPreference, a.recruiterRank)
+            from Application a join a.jobPosting j
+            where a.status = com.university.placementsystem.entity.ApplicationStatus.SHORTLISTED
+              and not exists (select 1 from Application o
+                              where o.student = a.student
+                                and o.status = com.university.placementsystem.entity.ApplicationStatus.SELECTED)
+            order by a.student.id, a.studentPreference asc nulls last, a.id
+            """)
+    Stream<AllocationCandidateDTO> streamAllocationCandidates();
+
+    // Number of selected applications per job (seats already filled)
+    @Query("""
+            select new com.university.placementsystem.dto.JobCountDTO(a.jobPosting.id, count(a))
+            from Application a
+            where a.status = com.university.placementsystem.entity.ApplicationStatus.SELECTED
+            group by a.jobPosting.id
+            """)
+    List<JobCountDTO> countSelectedByJob();
+
+    // Students (out of the given ones) holding a SELECTED application
+    @Query("""
+            select distinct a.student.id from Application a
+            where a.student.id in :studentIds
+              and a.status = com.university.placementsystem.entity.ApplicationStatus.SELECTED
+            """)
+    List<Long> findStudentIdsWithOffer(Collection<Long> studentIds);
+
+    // Number of selected applications of the given jobs (jobs without any are left out)
+    @Query("""
+            select new com.university.placementsystem.dto.JobCountDTO(a.jobPosting.id, count(a))
+            from Application a
+            where a.jobPosting.id in :jobIds
+              and a.status = com.university.placementsystem.entity.ApplicationStatus.SELECTED
+            group by a.jobPosting.id
+            """)
+    List<JobCountDTO> countSelectedByJobIds(Collection<Long> jobIds);
+
+    // Moves the given applications (of any job) to a new status if they are in one of the expected statuses
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Application a set a.status = :status, a.version = a.version + 1
+            where a.id in :ids and a.status in :fromStatuses
+            """)
+    int updateStatusesByIds(Collection<Long> ids, ApplicationStatus status, Collection<ApplicationStatus> fromStatuses);
+
+    // ---- Application counters ----
+
+    // Number of applications per job and status
+    @Query("""
+            select new com.university.placementsystem.dto.JobStatusCountDTO(a.jobPosting.id, a.status, count(a))
+            from Application a
+            group by a.jobPosting.id, a.status
+            """)
+    List<JobStatusCountDTO> countByJobAndStatus();
+
+    // Number of applications per status for the given jobs
+    @Query("""
+            select new com.university.placementsystem.dto.JobStatusCountDTO(a.jobPosting.id, a.status, count(a))
+            from Application a
+            where a.jobPosting.id in :jobIds
+            group by a.jobPosting.id, a.status
+            """)
+    List<JobStatusCountDTO> countByJobAndStatus(Collection<Long> jobIds);
+
+    // ---- Placement analytics ----
+
+    // Number of selected applications per industry of the hiring organization
+    @Query("""
+            select new com.university.placementsystem.dto.IndustrySelectionsDTO(o.industry, count(a))
+            from Application a join a.jobPosting j join j.organization o
+            where a.status = com.university.placementsystem.entity.ApplicationStatus.SELECTED
+            group by o.industry
+            """)
+    List<IndustrySelectionsDTO> countSelectionsByIndustry();
+
+    // ---- One-offer policy ----
+
+    // Students of the given applications of a job
+    @Query("select a.student.id from Application a where a.jobPosting.id = :jobId and a.id in :ids")
+    List<Long> findStudentIds(Long jobId, Collection<Long> ids);
+
+    // Open applications of the given students to other jobs, row-locked in ID order before they are withdrawn
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select a from Application a
+            where a.student.id in :studentIds and a.jobPosting.id <> :jobId and a.status in :statuses
+            order by a.id
+            """)
+    List<Application> lockOtherApplications(Collection<Long> studentIds, Long jobId,
+                                            Collection<ApplicationStatus> statuses);
+
+    // Applications of a job (out of the given IDs), row-locked in ID order for a bulk status change
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Application a where a.id in :ids and a.jobPosting.id = :jobId order by a.id")
+    List<Application> lockForStatusUpdate(Long jobId, Collection<Long> ids);
+
+    // Moves the given applications of a job to a new status if they are in one of the allowed predecessor statuses
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Application a set a.status = :status, a.version = a.version + 1
+            where a.id in :ids and a.jobPosting.id = :jobId and a.status in :fromStatuses
+            """)
+    int updateStatuses(Long jobId, Collection<Long> ids, ApplicationStatus status,
+                       Collection<ApplicationStatus> fromStatuses);
+
+    // Compare-and-set of one application's status: validates job, ownership and transition in the WHERE clause
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update Application a set a.status = :status, a.version = a.version + 1
+            where a.id = :id and a.jobPosting.id = :jobId and a.status in :fromStatuses
+              and exists (select 1 from JobPosting j where j.id = :jobId and j.organization.id = :organizationId)
+            """)
+    int compareAndSetStatus(Long id, Long jobId, Long organizationId, ApplicationStatus status,
+                            Collection<ApplicationStatus> fromStatuses);
+
+    // Current status of one application (no entity load)
+    @Query("select a.status from Application a where a.id = :id")
+    Optional<ApplicationStatus> findStatusById(Long id);
+
+    // ---- DTO projections (one SQL statement, no lazy loading) ----
+
+    // Next page ordered by ID (index range seek on the primary key)
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationDTO(
+                a.id, u.username, u.email, j.title, o.companyName, a.status, a.appliedAt)
+            from Application a
+            join a.student s join s.user u
+            join a.jobPosting j join j.organization o
+            where a.id > :afterId
+            order by a.id
+            """)
+    List<ApplicationDTO> findPageById(Long afterId, Limit limit);
+
+    // First page ordered by submission time, newest first
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationDTO(
+                a.id, u.username, u.email, j.title, o.companyName, a.status, a.appliedAt)
+            from Application a
+            join a.student s join s.user u
+            join a.jobPosting j join j.organization o
+            order by a.appliedAt desc, a.id desc
+            """)
+    List<ApplicationDTO> findFirstPageByAppliedAt(Limit limit);
+
+    // Next page ordered by submission time, newest first (seek past the cursor row)
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationDTO(
+                a.id, u.username, u.email, j.title, o.companyName, a.status, a.appliedAt)
+            from Application a
+            join a.student s join s.user u
+            join a.jobPosting j join j.organization o
+            where a.appliedAt < :appliedAt or (a.appliedAt = :appliedAt and a.id < :id)
+            order by a.appliedAt desc, a.id desc
+            """)
+    List<ApplicationDTO> findPageByAppliedAt(LocalDateTime appliedAt, Long id, Limit limit);
+
+    // Export rows filtered by optional status and submission window, streamed from an open cursor
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationDTO(
+                a.id, u.username, u.email, j.title, o.companyName, a.status, a.appliedAt)
+            from Application a
+            join a.student s join s.user u
+            join a.jobPosting j join j.organization o
+            where (:status is null or a.status = :status)
+              and (:from is null or a.appliedAt >= :from)
+              and (:to is null or a.appliedAt < :to)
+            order by a.id
+            """)
+    Stream<ApplicationDTO> streamForExport(ApplicationStatus status, LocalDateTime from, LocalDateTime to);
+
+    // A single application with student and job/organization details
+    @Query("""
+            select new com.university.placementsystem.dto.ApplicationDTO(
+                a.id, u.username, u.email, j.title, o.companyName, a.status, a.appliedAt)
+            from Application a
+            join a.student s join s.user u
+            join a.jobPosting j join j.organization o
+            where a.id = :id
+            """)
+    Optional<ApplicationDTO> findDTOById(Long id);
 }
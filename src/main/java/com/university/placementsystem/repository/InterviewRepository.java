@@ -0,0 +1,72 @@
+package com.university.placementsystem.repository;
+
+import com.university.placementsystem.dto.InterviewDTO;
+import com.university.placementsystem.dto.InterviewPlacementDTO;
+import com.university.placementsystem.entity.Interview;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link Interview} entities.
+ */
+public interface InterviewRepository extends JpaRepository<Interview, Long> {
+
+    // Every scheduled interview with its current room and slot
+    @Query("""
+            select new com.university.placementsystem.dto.InterviewPlacementDTO(
+                i.id, i.application.id, i.student.id, j.organization.id, i.room.id, i.slot.id)
+            from Interview i join i.application a join a.jobPosting j
+            """)
+    List<InterviewPlacementDTO> findPlacements();
+
+    // Shortlisted applications that have no interview yet
+    @Query("""
+            select new com.university.placementsystem.dto.InterviewPlacementDTO(
+                null, a.id, a.student.id, j.organization.id, null, null)
+            from Application a join a.jobPosting j
+            where a.status = com.university.placementsystem.entity.ApplicationStatus.SHORTLISTED
+              and not exists (select 1 from Interview i where i.application = a)
+            order by a.id
+            """)
+    List<InterviewPlacementDTO> findUnscheduled();
+
+    // Removes interviews of applications that are no longer shortlisted
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            delete from Interview i
+            where i.application.id in (select a.id from Application a
+                where a.status <> com.university.placementsystem.entity.ApplicationStatus.SHORTLISTED)
+            """)
+    int deleteReleased();
+
+    // Removes the given interviews
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Interview i where i.id in :ids")
+    int deleteByIds(Collection<Long> ids);
+
+    // Interviews of a student, earliest first
+    @Query("""
+            select new com.university.placementsystem.dto.InterviewDTO(
+                i.id, a.id, u.username, j.id, j.title, o.companyName, r.name, sl.startsAt, sl.endsAt)
+            from Interview i join i.application a join a.jobPosting j join j.organization o
+                 join i.student s join s.user u join i.room r join i.slot sl
+            where s.id = :studentId
+            order by sl.startsAt, i.id
+            """)
+    List<InterviewDTO> findForStudent(Long studentId);
+
+    // Interviews for a job posting, earliest first
+    @Query("""
+            select new com.university.placementsystem.dto.InterviewDTO(
+                i.id, a.id, u.username, j.id, j.title, o.companyName, r.name, sl.startsAt, sl.endsAt)
+            from Interview i join i.application a join a.jobPosting j join j.organization o
+                 join i.student s join s.user u join i.room r join i.slot sl
+            where j.id = :jobId
+            order by sl.startsAt, i.id
+            """)
+    List<InterviewDTO> findForJob(Long jobId);
+}
@@ -0,0 +1,18 @@
+package com.university.placementsystem.repository;
+
+import com.university.placementsystem.entity.InterviewRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository interface for {@link InterviewRoom} entities.
+ */
+public interface InterviewRoomRepository extends JpaRepository<InterviewRoom, Long> {
+
+    // Check whether a room with the given name exists
+    boolean existsByName(String name);
+
+    // Rooms open for interviews, in a stable order
+    List<InterviewRoom> findByAvailableTrueOrderById();
+}
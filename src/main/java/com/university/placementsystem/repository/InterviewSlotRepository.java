@@ -0,0 +1,24 @@
+package com.university.placementsystem.repository;
+
+import com.university.placementsystem.entity.InterviewSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for {@link InterviewSlot} entities.
+ */
+public interface InterviewSlotRepository extends JpaRepository<InterviewSlot, Long> {
+
+    // Slots open for interviews, in chronological order
+    List<InterviewSlot> findByAvailableTrueOrderByStartsAtAscIdAsc();
+
+    // Whether an open slot overlaps the window [startsAt, endsAt)
+    @Query("""
+            select count(s) > 0 from InterviewSlot s
+            where s.available = true and s.startsAt < :endsAt and s.endsAt > :startsAt
+            """)
+    boolean existsOverlapping(LocalDateTime startsAt, LocalDateTime endsAt);
+}
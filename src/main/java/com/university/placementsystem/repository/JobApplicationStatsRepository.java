@@ -0,0 +1,32 @@
+package com.university.placementsystem.repository;
+
+import com.university.placementsystem.dto.JobStatsDTO;
+import com.university.placementsystem.entity.JobApplicationStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository interface for {@link JobApplicationStats} (written by JDBC batches, read here).
+ */
+public interface JobApplicationStatsRepository extends JpaRepository<JobApplicationStats, Long> {
+
+    // Job IDs (out of the given ones) that already have a counter row
+    @Query("select s.jobPostingId from JobApplicationStats s where s.jobPostingId in :jobIds")
+    Set<Long> findExistingIds(Collection<Long> jobIds);
+
+    // Counters of every posting of an organization, newest posting first (postings without counters read as 0)
+    @Query("""
+            select new com.university.placementsystem.dto.JobStatsDTO(
+                j.id, j.title, j.createdAt,
+                coalesce(s.total, 0), coalesce(s.applied, 0), coalesce(s.shortlisted, 0),
+                coalesce(s.selected, 0), coalesce(s.rejected, 0), coalesce(s.withdrawn, 0))
+            from JobPosting j left join JobApplicationStats s on s.jobPostingId = j.id
+            where j.organization.id = :organizationId
+            order by j.createdAt desc, j.id desc
+            """)
+    List<JobStatsDTO> findByOrganization(Long organizationId);
+}
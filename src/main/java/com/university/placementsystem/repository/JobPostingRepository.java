@@ -1,9 +1,24 @@
 package com.university.placementsystem.repository;
 
+import com.university.placementsystem.dto.ChangeStampDTO;
+import com.university.placementsystem.dto.JobFacetSourceDTO;
+import com.university.placementsystem.dto.JobPostingDTO;
+import com.university.placementsystem.dto.JobRecommendationSourceDTO;
+import com.university.placementsystem.dto.JobSearchSourceDTO;
+import com.university.placementsystem.dto.JobSkillLinkDTO;
+import com.university.placementsystem.dto.JobSummaryDTO;
 import com.university.placementsystem.entity.JobPosting;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link JobPosting} entities.
@@ -14,4 +29,187 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
 
     // Find all job postings created by a given organization
     List<JobPosting> findByOrganizationId(Long organizationId);
+
+    // Change stamp of an organization's job listing (postings are only added)
+    @Query("""
+            select new com.university.placementsystem.dto.ChangeStampDTO(count(j), max(j.id), 0L)
+            from JobPosting j
+            where j.organization.id = :organizationId
+            """)
+    ChangeStampDTO findChangeStampByOrganization(Long organizationId);
+
+    // Owning organization of a job posting (no entity load)
+    @Query("select j.organization.id from JobPosting j where j.id = :jobId")
+    Optional<Long> findOrganizationIdById(Long jobId);
+
+    // Postings row-locked in ID order (serializes manual selections with the seat check of a placement allocation)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from JobPosting j where j.id in :ids order by j.id")
+    List<JobPosting> lockByIds(Collection<Long> ids);
+
+    // IDs (out of the given ones) that exist
+    @Query("select j.id from JobPosting j where j.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    // Free-text eligibility criteria of a posting (null if none, or if the posting does not exist)
+    @Query("select j.eligibilityCriteria from JobPosting j where j.id = :jobId")
+    String findEligibilityCriteria(Long jobId);
+
+    // Skill dictionary IDs linked to a posting
+    @Query("select k.id from JobPosting j join j.skillSet k where j.id = :jobId")
+    Set<Integer> findSkillIds(Long jobId);
+
+    // Next batch of postings with a skill string but no linked skills (skill migration)
+    @Query("""
+            select j from JobPosting j
+            where j.id > :afterId and j.skillsRequired is not null and j.skillsRequired <> '' and j.skillSet is empty
+            order by j.id
+            """)
+    List<JobPosting> findSkillMigrationBatch(Long afterId, Limit limit);
+
+    // ---- DTO projections (one SQL statement, no lazy loading) ----
+
+    // Next page ordered by ID (index range seek on the primary key)
+    @Query("""
+            select new com.university.placementsystem.dto.JobPostingDTO(
+                j.id, j.title, j.description, j.skillsRequired, j.eligibilityCriteria, j.createdAt, o.companyName)
+            from JobPosting j join j.organization o
+            where j.id > :afterId
+            order by j.id
+            """)
+    List<JobPostingDTO> findPageById(Long afterId, Limit limit);
+
+    // First page ordered by creation time, newest first
+    @Query("""
+            select new com.university.placementsystem.dto.JobPostingDTO(
+                j.id, j.title, j.description, j.skillsRequired, j.eligibilityCriteria, j.createdAt, o.companyName)
+            from JobPosting j join j.organization o
+            order by j.createdAt desc, j.id desc
+            """)
+    List<JobPostingDTO> findFirstPageByCreatedAt(Limit limit);
+
+    // Next page ordered by creation time, newest first (seek past the cursor row)
+    @Query("""
+            select new com.university.placementsystem.dto.JobPostingDTO(
+                j.id, j.title, j.description, j.skillsRequired, j.eligibilityCriteria, j.createdAt, o.companyName)
+            from JobPosting j join j.organization o
+            where j.createdAt < :createdAt or (j.createdAt = :createdAt and j.id < :id)
+            order by j.createdAt desc, j.id desc
+            """)
+    List<JobPostingDTO> findPageByCreatedAt(LocalDateTime createdAt, Long id, Limit limit);
+
+    // ---- Student feed (approved organizations only, no description column) ----
+
+    // First feed page, newest first
+    @Query("""
+            select new com.university.placementsystem.dto.JobSummaryDTO(
+                j.id, j.title, j.skillsRequired, j.eligibilityCriteria, j.createdAt,
+                o.companyName, o.industry, o.location)
+            from JobPosting j join j.organization o
+            where o.approved = true
+            order by j.createdAt desc, j.id desc
+            """)
+    List<JobSummaryDTO> findFirstFeedPage(Limit limit);
+
+    // Next feed page, newest first (seek past the cursor row)
+    @Query("""
+            select new com.university.placementsystem.dto.JobSummaryDTO(
+                j.id, j.title, j.skillsRequired, j.eligibilityCriteria, j.createdAt,
+                o.companyName, o.industry, o.location)
+            from JobPosting j join j.organization o
+            where o.approved = true
+              and (j.createdAt < :createdAt or (j.createdAt = :createdAt and j.id < :id))
+            order by j.createdAt desc, j.id desc
+            """)
+    List<JobSummaryDTO> findFeedPage(LocalDateTime createdAt, Long id, Limit limit);
+
+    // Postings of approved organizations among the given IDs (hydrates search hits)
+    @Query("""
+            select new com.university.placementsystem.dto.JobSummaryDTO(
+                j.id, j.title, j.skillsRequired, j.eligibilityCriteria, j.createdAt,
+                o.companyName, o.industry, o.location)
+            from JobPosting j join j.organization o
+            where j.id in :ids and o.approved = true
+            """)
+    List<JobSummaryDTO> findSummariesByIds(Collection<Long> ids);
+
+    // A single posting of an approved organization, with full details
+    @Query("""
+            select new com.university.placementsystem.dto.JobPostingDTO(
+                j.id, j.title, j.description, j.skillsRequired, j.eligibilityCriteria, j.createdAt, o.companyName)
+            from JobPosting j join j.organization o
+            where j.id = :id and o.approved = true
+            """)
+    Optional<JobPostingDTO> findApprovedDTOById(Long id);
+
+    // ---- Search index sources ----
+
+    // Next batch of postings with their organization's approval state, ordered by ID
+    @Query("""
+            select new com.university.placementsystem.dto.JobSearchSourceDTO(
+                j.id, o.id, o.approved, j.title, j.skillsRequired, j.description)
+            from JobPosting j join j.organization o
+            where j.id > :afterId
+            order by j.id
+            """)
+    List<JobSearchSourceDTO> findSearchSourcesPage(Long afterId, Limit limit);
+
+    // Searchable text of a single posting and its organization's approval state
+    @Query("""
+            select new com.university.placementsystem.dto.JobSearchSourceDTO(
+                j.id, o.id, o.approved, j.title, j.skillsRequired, j.description)
+            from JobPosting j join j.organization o
+            where j.id = :id
+            """)
+    Optional<JobSearchSourceDTO> findSearchSourceById(Long id);
+
+    // ---- Facet index sources ----
+
+    // Next batch of postings with their organization's facet attributes, ordered by ID
+    @Query("""
+            select new com.university.placementsystem.dto.JobFacetSourceDTO(
+                j.id, o.id, j.skillsRequired, o.industry, o.location, o.approved)
+            from JobPosting j join j.organization o
+            where j.id > :afterId
+            order by j.id
+            """)
+    List<JobFacetSourceDTO> findFacetSourcesPage(Long afterId, Limit limit);
+
+    // Facet attributes of a single posting and its organization
+    @Query("""
+            select new com.university.placementsystem.dto.JobFacetSourceDTO(
+                j.id, o.id, j.skillsRequired, o.industry, o.location, o.approved)
+            from JobPosting j join j.organization o
+            where j.id = :id
+            """)
+    Optional<JobFacetSourceDTO> findFacetSourceById(Long id);
+
+    // ---- Recommendation index sources ----
+
+    // Next batch of postings with their organization's approval state, ordered by ID
+    @Query("""
+            select new com.university.placementsystem.dto.JobRecommendationSourceDTO(
+                j.id, o.id, o.approved, j.eligibilityCriteria)
+            from JobPosting j join j.organization o
+            where j.id > :afterId
+            order by j.id
+            """)
+    List<JobRecommendationSourceDTO> findRecommendationSourcesPage(Long afterId, Limit limit);
+
+    // Recommendation attributes of a single posting
+    @Query("""
+            select new com.university.placementsystem.dto.JobRecommendationSourceDTO(
+                j.id, o.id, o.approved, j.eligibilityCriteria)
+            from JobPosting j join j.organization o
+            where j.id = :id
+            """)
+    Optional<JobRecommendationSourceDTO> findRecommendationSourceById(Long id);
+
+    // Skill links of the postings with afterId < ID <= lastId
+    @Query("""
+            select new com.university.placementsystem.dto.JobSkillLinkDTO(j.id, k.id)
+            from JobPosting j join j.skillSet k
+            where j.id > :afterId and j.id <= :lastId
+            """)
+    List<JobSkillLinkDTO> findSkillLinks(Long afterId, Long lastId);
 }
@@ -0,0 +1,34 @@
+package com.university.placementsystem.repository;
+
+import com.university.placementsystem.dto.NotificationDTO;
+import com.university.placementsystem.dto.WithdrawnApplicationDTO;
+import com.university.placementsystem.entity.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for {@link Notification} entities.
+ */
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // Newest notifications of an organization
+    @Query("""
+            select new com.university.placementsystem.dto.NotificationDTO(n.id, n.applicationId, n.message, n.createdAt)
+            from Notification n
+            where n.organization.id = :organizationId
+            order by n.id desc
+            """)
+    List<NotificationDTO> findLatest(Long organizationId, Limit limit);
+
+    // Recipients and message details of withdrawn applications
+    @Query("""
+            select new com.university.placementsystem.dto.WithdrawnApplicationDTO(a.id, j.organization.id, u.username, j.title)
+            from Application a join a.jobPosting j join a.student s join s.user u
+            where a.id in :ids
+            """)
+    List<WithdrawnApplicationDTO> findWithdrawn(Collection<Long> ids);
+}
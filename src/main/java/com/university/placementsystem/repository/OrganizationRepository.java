@@ -1,7 +1,10 @@
 package com.university.placementsystem.repository;
 
+import com.university.placementsystem.dto.OrganizationDTO;
 import com.university.placementsystem.entity.Organization;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -22,4 +25,37 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
 
     // Find all organizations that are not approved
     List<Organization> findByApprovedFalse();
+
+    // Resolve only the organization ID for a user (no join on users)
+    @Query("select o.id from Organization o where o.user.id = :userId")
+    Optional<Long> findIdByUserId(Long userId);
+
+    // Version of an organization profile (empty if the organization does not exist)
+    @Query("select o.version from Organization o where o.id = :organizationId")
+    Optional<Long> findVersionById(Long organizationId);
+
+    // Check whether the user already has an organization profile
+    boolean existsByUserId(Long userId);
+
+    // ---- DTO projections (one SQL statement, no lazy loading) ----
+
+    // Next page of organizations ordered by ID, with the contact email of the linked user
+    @Query("""
+            select new com.university.placementsystem.dto.OrganizationDTO(
+                o.id, o.companyName, o.industry, o.location, o.description, o.approved, u.email)
+            from Organization o join o.user u
+            where o.id > :afterId
+            order by o.id
+            """)
+    List<OrganizationDTO> findPageById(Long afterId, Limit limit);
+
+    // Organizations pending approval with the contact email of the linked user
+    @Query("""
+            select new com.university.placementsystem.dto.OrganizationDTO(
+                o.id, o.companyName, o.industry, o.location, o.description, o.approved, u.email)
+            from Organization o join o.user u
+            where o.approved = false
+            order by o.id
+            """)
+    List<OrganizationDTO> findPendingDTOs();
 }
@@ -0,0 +1,15 @@
+package com.university.placementsystem.repository;
+
+import com.university.placementsystem.entity.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for the {@link Skill} dictionary.
+ */
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+
+    // Find a skill by its canonical name
+    Optional<Skill> findByName(String name);
+}
@@ -1,9 +1,17 @@
 package com.university.placementsystem.repository;
 
+import com.university.placementsystem.dto.PlacementCohortDTO;
 import com.university.placementsystem.entity.Student;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for managing {@link Student} entities.
@@ -18,4 +26,49 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
 
     // Find a student by the linked user's email
     Optional<Student> findByUserEmail(String email);
+
+    // Resolve only the student ID for a user (no join on users)
+    @Query("select s.id from Student s where s.user.id = :userId")
+    Optional<Long> findIdByUserId(Long userId);
+
+    // Students row-locked in ID order (serializes selections of the same student under the one-offer policy)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Student s where s.id in :ids order by s.id")
+    List<Student> lockByIds(Collection<Long> ids);
+
+    // Check whether the user already has a student profile
+    boolean existsByUserId(Long userId);
+
+    // Version of a student profile (empty if the student does not exist)
+    @Query("select s.version from Student s where s.id = :studentId")
+    Optional<Long> findVersionById(Long studentId);
+
+    // Graduation year of a student (empty if the student does not exist)
+    @Query("select s.graduationYear from Student s where s.id = :studentId")
+    Optional<Integer> findGraduationYear(Long studentId);
+
+    // Skill dictionary IDs linked to a student
+    @Query("select k.id from Student s join s.skillSet k where s.id = :studentId")
+    Set<Integer> findSkillIds(Long studentId);
+
+    // Next batch of students with a skill string but no linked skills (skill migration)
+    @Query("""
+            select s from Student s
+            where s.id > :afterId and s.skills is not null and s.skills <> '' and s.skillSet is empty
+            order by s.id
+            """)
+    List<Student> findSkillMigrationBatch(Long afterId, Limit limit);
+
+    // Students and placed students (with a SELECTED application) per university, degree and graduation year
+    @Query("""
+            select new com.university.placementsystem.dto.PlacementCohortDTO(
+                s.university, s.degree, s.graduationYear, count(s),
+                sum(case when exists (select 1 from Application a
+                                      where a.student = s
+                                        and a.status = com.university.placementsystem.entity.ApplicationStatus.SELECTED)
+                         then 1 else 0 end))
+            from Student s
+            group by s.university, s.degree, s.graduationYear
+            """)
+    List<PlacementCohortDTO> countPlacementByCohort();
 }
@@ -1,9 +1,12 @@
 package com.university.placementsystem.repository;
 
 import com.university.placementsystem.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +22,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Check if an active user already exists with the given email
     boolean existsByEmailAndActiveTrue(String email);
+
+    // IDs of all deactivated users (used to seed the in-memory status cache)
+    @Query("select u.id from User u where u.active = false")
+    List<Long> findDeactivatedIds();
+
+    // Next page of users ordered by ID (index range seek on the primary key)
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
 }
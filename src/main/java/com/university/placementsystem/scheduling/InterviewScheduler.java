@@ -0,0 +1,234 @@
+package com.university.placementsystem.scheduling;
+
+import java.util.Arrays;
+
+/**
+ * Assigns interviews to (time slot, room) cells without double-booking a room or a student.
+ *
+ * <p>Cells are numbered {@code slot * roomCount + room}; slots are consecutive,
+ * non-overlapping time windows, so a student is free in a slot unless another of their
+ * interviews sits in it. Interviews with a pinned cell keep it (an existing schedule);
+ * only the others are placed, which makes rescheduling after a slot or room change
+ * touch just the affected interviews.</p>
+ *
+ * <p>Placement is greedy: interviews of the busiest students go first (they have the
+ * fewest free slots), each into the earliest slot where the student is free and a room
+ * is open, preferring the room the same organization used in the previous slot so a
+ * panel stays put. Interviews left over are then repaired by local search: for every
+ * slot where the student is free but all rooms are taken, one movable interview of that
+ * slot is relocated to another slot to make room. Occupancy is tracked in flat arrays
+ * and per-student slot bitsets, so no objects are allocated per interview.</p>
+ */
+public final class InterviewScheduler {
+
+    // Returned for interviews that could not be placed
+    public static final int UNSCHEDULED = -1;
+
+    // Upper bound on cells examined by the repair phase (keeps hopeless, overfull instances fast)
+    private static final long REPAIR_BUDGET = 50_000_000L;
+
+    private final int slotCount;
+    private final int roomCount;
+    private final int studentCount;
+    private final boolean[] open;
+    private final int[] student;
+    private final int[] organization;
+    private final int words;
+
+    // Interview in each cell, -1 = free
+    private final int[] owner;
+    // Cell of each interview, UNSCHEDULED = not placed
+    private final int[] cell;
+    // Interviews that may not move
+    private final boolean[] fixed;
+    // Bit per (student, slot): the student has an interview in the slot
+    private final long[] busy;
+    // Open, unoccupied rooms per slot
+    private final int[] freeRooms;
+    private int freeCells;
+
+    private InterviewScheduler(int slotCount, int roomCount, boolean[] open, int studentCount,
+                               int[] student, int[] organization) {
+        this.slotCount = slotCount;
+        this.roomCount = roomCount;
+        this.studentCount = studentCount;
+        this.open = open;
+        this.student = student;
+        this.organization = organization;
+        this.words = (slotCount + 63) >>> 6;
+        this.owner = new int[slotCount * roomCount];
+        this.cell = new int[student.length];
+        this.fixed = new boolean[student.length];
+        this.busy = new long[studentCount * words];
+        this.freeRooms = new int[slotCount];
+        Arrays.fill(owner, -1);
+        Arrays.fill(cell, UNSCHEDULED);
+        for (int c = 0; c < owner.length; c++) {
+            if (open[c]) {
+                freeRooms[c / roomCount]++;
+                freeCells++;
+            }
+        }
+    }
+
+    /**
+     * Computes a conflict-free schedule.
+     *
+     * @param slotCount    number of time slots (in chronological order)
+     * @param roomCount    number of rooms
+     * @param open         whether each cell can be used, length {@code slotCount * roomCount}
+     * @param studentCount number of distinct students
+     * @param student      student of each interview ({@code 0 .. studentCount - 1})
+     * @param organization organization of each interview (any int; used to keep panels in one room)
+     * @param pinned       cell each interview must keep, or {@link #UNSCHEDULED} to have it placed;
+     *                     a pinned cell that is closed or conflicts with an earlier pin is treated as unpinned
+     * @return the cell of each interview, or {@link #UNSCHEDULED}
+     */
+    public static int[] schedule(int slotCount, int roomCount, boolean[] open, int studentCount,
+                                 int[] student, int[] organization, int[] pinned) {
+        InterviewScheduler scheduler =
+                new InterviewScheduler(slotCount, roomCount, open, studentCount, student, organization);
+        scheduler.run(pinned);
+        return scheduler.cell;
+    }
+
+    // -------------------- Helpers --------------------
+
+    private void run(int[] pinned) {
+        final int n = student.length;
+
+        // Keep valid pins and count every student's interviews
+        int[] load = new int[studentCount];
+        int toPlace = 0;
+        for (int i = 0; i < n; i++) {
+            load[student[i]]++;
+            int c = pinned[i];
+            if (c >= 0 && c < owner.length && open[c] && owner[c] == -1 && !isBusy(student[i], c / roomCount)) {
+                occupy(i, c);
+                fixed[i] = true;
+            } else {
+                toPlace++;
+            }
+        }
+
+        // Most constrained first: order by descending student load, then by index (packed into one long)
+        long[] order = new long[toPlace];
+        for (int i = 0, k = 0; i < n; i++) {
+            if (!fixed[i]) {
+                order[k++] = ((long) (Integer.MAX_VALUE - load[student[i]]) << 32) | i;
+            }
+        }
+        Arrays.sort(order);
+
+        // Greedy pass
+        int[] unplaced = new int[toPlace];
+        int unplacedCount = 0;
+        for (long key : order) {
+            int i = (int) key;
+            if (!placeGreedily(i)) {
+                unplaced[unplacedCount++] = i;
+            }
+        }
+
+        // Local search: relocate one interview per attempt to open a cell
+        long budget = REPAIR_BUDGET;
+        boolean progress = true;
+        while (progress && unplacedCount > 0 && freeCells > 0 && budget > 0) {
+            progress = false;
+            int remaining = 0;
+            for (int k = 0; k < unplacedCount; k++) {
+                int i = unplaced[k];
+                long spent = repair(i, budget);
+                if (spent < 0) {
+                    budget += spent;
+                    progress = true;
+                } else {
+                    budget -= spent;
+                    unplaced[remaining++] = i;
+                }
+            }
+            unplacedCount = remaining;
+        }
+    }
+
+    // Puts the interview into the earliest slot with a free room and a free student
+    private boolean placeGreedily(int i) {
+        final int s = student[i];
+        for (int t = 0; t < slotCount; t++) {
+            if (freeRooms[t] > 0 && !isBusy(s, t)) {
+                occupy(i, t * roomCount + chooseRoom(t, organization[i]));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Tries to place the interview by moving one other interview; returns -(work) on success, work otherwise
+    private long repair(int i, long budget) {
+        final int s = student[i];
+        long work = 0;
+        for (int t = 0; t < slotCount && work < budget; t++) {
+            if (freeRooms[t] > 0 || isBusy(s, t)) {
+                continue;
+            }
+            for (int r = 0; r < roomCount; r++) {
+                final int c = t * roomCount + r;
+                final int j = owner[c];
+                if (j == -1 || fixed[j]) {
+                    continue;
+                }
+                for (int u = 0; u < slotCount; u++) {
+                    work++;
+                    if (u != t && freeRooms[u] > 0 && !isBusy(student[j], u)) {
+                        vacate(j);
+                        occupy(j, u * roomCount + chooseRoom(u, organization[j]));
+                        occupy(i, c);
+                        return -work;
+                    }
+                }
+            }
+        }
+        return Math.max(work, 1);
+    }
+
+    // A free open room of the slot, preferring one the organization used in the previous slot
+    private int chooseRoom(int t, int org) {
+        int first = -1;
+        for (int r = 0; r < roomCount; r++) {
+            final int c = t * roomCount + r;
+            if (!open[c] || owner[c] != -1) {
+                continue;
+            }
+            if (t > 0 && owner[c - roomCount] != -1 && organization[owner[c - roomCount]] == org) {
+                return r;
+            }
+            if (first == -1) {
+                first = r;
+            }
+        }
+        return first;
+    }
+
+    private void occupy(int i, int c) {
+        final int t = c / roomCount;
+        owner[c] = i;
+        cell[i] = c;
+        freeRooms[t]--;
+        freeCells--;
+        busy[student[i] * words + (t >>> 6)] |= 1L << t;
+    }
+
+    private void vacate(int i) {
+        final int c = cell[i];
+        final int t = c / roomCount;
+        owner[c] = -1;
+        cell[i] = UNSCHEDULED;
+        freeRooms[t]++;
+        freeCells++;
+        busy[student[i] * words + (t >>> 6)] &= ~(1L << t);
+    }
+
+    private boolean isBusy(int s, int t) {
+        return (busy[s * words + (t >>> 6)] & (1L << t)) != 0;
+    }
+}
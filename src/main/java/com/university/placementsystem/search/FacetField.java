@@ -0,0 +1,32 @@
+package com.university.placementsystem.search;
+
+/**
+ * Dimensions students can filter job postings by.
+ */
+public enum FacetField {
+
+    // Industry of the posting organization
+    INDUSTRY("industry"),
+
+    // Location of the posting organization
+    LOCATION("location"),
+
+    // A single skill from the posting's comma-separated skill list
+    SKILL("skill");
+
+    // Name used in request parameters and responses
+    private final String paramName;
+
+    FacetField(String paramName) {
+        this.paramName = paramName;
+    }
+
+    /**
+     * Returns the name used in request parameters and responses.
+     *
+     * @return parameter name
+     */
+    public String getParamName() {
+        return paramName;
+    }
+}
@@ -0,0 +1,73 @@
+package com.university.placementsystem.search;
+
+import lombok.Value;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Graduation years accepted by a job posting, extracted from its free-text eligibility criteria.
+ *
+ * <p>Heuristic: the four-digit years mentioned in the text give the range
+ * (e.g. "2024 or 2025 graduates" = 2024..2025). Words such as "onwards" or "later"
+ * open the upper end, "earlier" or "before" the lower end. Criteria without a year
+ * accept every graduation year.</p>
+ */
+@Value
+public class GraduationYearRange {
+
+    // Accepts every graduation year
+    public static final GraduationYearRange ANY = new GraduationYearRange(0, 0);
+
+    private static final Pattern YEAR = Pattern.compile("\\b(19|20)\\d{2}\\b");
+    private static final Pattern OPEN_END = Pattern.compile("onwards?|later|after|above|\\d{4}\\s*\\+");
+    private static final Pattern OPEN_START = Pattern.compile("earlier|before|prior|below");
+
+    // Earliest accepted year, 0 = no lower bound
+    int min;
+
+    // Latest accepted year, 0 = no upper bound
+    int max;
+
+    /**
+     * Extracts the accepted graduation years from eligibility criteria.
+     *
+     * @param criteria eligibility criteria as entered (may be null)
+     * @return accepted range, {@link #ANY} if the text names no year
+     */
+    public static GraduationYearRange parse(String criteria) {
+        if (criteria == null || criteria.isBlank()) {
+            return ANY;
+        }
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        Matcher matcher = YEAR.matcher(criteria);
+        while (matcher.find()) {
+            final int year = Integer.parseInt(matcher.group());
+            min = Math.min(min, year);
+            max = Math.max(max, year);
+        }
+        if (max == 0) {
+            return ANY;
+        }
+        String text = criteria.toLowerCase(Locale.ROOT);
+        if (OPEN_END.matcher(text).find()) {
+            max = 0;
+        }
+        if (OPEN_START.matcher(text).find()) {
+            min = 0;
+        }
+        return new GraduationYearRange(min, max);
+    }
+
+    /**
+     * Returns whether a graduation year is accepted.
+     *
+     * @param year graduation year
+     * @return true if within the range
+     */
+    public boolean contains(int year) {
+        return (min == 0 || year >= min) && (max == 0 || year <= max);
+    }
+}
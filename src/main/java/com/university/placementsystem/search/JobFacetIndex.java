@@ -0,0 +1,296 @@
+package com.university.placementsystem.search;
+
+import lombok.Value;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory facet index over job postings, backed by compressed (Roaring) bitmaps.
+ *
+ * <p>Every posting gets a dense ordinal, assigned in insertion order (so higher
+ * ordinals are newer postings). Each facet value (an industry, a location or a single
+ * skill) keeps a bitmap of the ordinals that carry it, and one more bitmap holds the
+ * postings of approved organizations. Filtering is then a few bitmap ORs/ANDs, and each
+ * facet count is one AND-cardinality, with no SQL involved.</p>
+ *
+ * <p>Industry and location belong to the organization, so each organization also keeps
+ * the bitmap of its postings; a profile change moves that bitmap between facet values.
+ * Reads run in parallel; writes take an exclusive lock.</p>
+ */
+public class JobFacetIndex {
+
+    // Facet values per field, keyed by normalized (trimmed, lower-case) value
+    private final Map<FacetField, Map<String, FacetValue>> values = new EnumMap<>(FacetField.class);
+
+    // Postings of approved organizations
+    private final RoaringBitmap visible = new RoaringBitmap();
+
+    // Organization ID -> its facet attributes and postings
+    private final Map<Long, OrganizationEntry> organizations = new HashMap<>();
+
+    // Job ID <-> ordinal
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] jobIds = new long[1024];
+    private int ordinalCount;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public JobFacetIndex() {
+        for (FacetField field : FacetField.values()) {
+            values.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Sets the facet attributes of an organization, moving its postings as needed.
+     *
+     * @param organizationId ID of the organization
+     * @param industry       industry (may be null)
+     * @param location       location (may be null)
+     * @param approved       whether its postings are visible to students
+     */
+    public void putOrganization(long organizationId, String industry, String location, boolean approved) {
+        lock.writeLock().lock();
+        try {
+            OrganizationEntry org = organizations.computeIfAbsent(organizationId, id -> new OrganizationEntry());
+            org.industry = move(FacetField.INDUSTRY, org.jobs, org.industry, industry);
+            org.location = move(FacetField.LOCATION, org.jobs, org.location, location);
+            if (org.approved != approved) {
+                if (approved) {
+                    visible.or(org.jobs);
+                } else {
+                    visible.andNot(org.jobs);
+                }
+                org.approved = approved;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a job posting. Postings never change after creation, so re-adding is a no-op.
+     *
+     * @param jobId          ID of the job posting
+     * @param organizationId ID of the owning organization (see {@link #putOrganization})
+     * @param skills         comma-separated skill list
+     */
+    public void addJob(long jobId, long organizationId, String skills) {
+        lock.writeLock().lock();
+        try {
+            if (ordinals.containsKey(jobId)) {
+                return;
+            }
+            final int ordinal = ordinalCount++;
+            if (ordinal == jobIds.length) {
+                jobIds = Arrays.copyOf(jobIds, ordinal * 2);
+            }
+            jobIds[ordinal] = jobId;
+            ordinals.put(jobId, ordinal);
+
+            if (skills != null) {
+                for (String skill : skills.split(",")) {
+                    facetValue(FacetField.SKILL, skill).ifPresentAdd(ordinal);
+                }
+            }
+
+            OrganizationEntry org = organizations.computeIfAbsent(organizationId, id -> new OrganizationEntry());
+            org.jobs.add(ordinal);
+            facetValue(FacetField.INDUSTRY, org.industry).ifPresentAdd(ordinal);
+            facetValue(FacetField.LOCATION, org.location).ifPresentAdd(ordinal);
+            if (org.approved) {
+                visible.add(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Filters visible postings and counts facet values.
+     *
+     * <p>Values of one field are OR-ed, fields are AND-ed. The counts of a field are
+     * computed against the filters of the other fields only, so selecting one industry
+     * still shows how many postings the other industries would add.</p>
+     *
+     * @param filters    selected values per field (missing or empty = no filter)
+     * @param afterJobId last job ID of the previous page, or null for the first page
+     * @param limit      page size
+     * @param topValues  maximum number of values reported per field
+     * @return matching job IDs (newest first) and facet counts
+     */
+    public Result search(Map<FacetField, ? extends Collection<String>> filters,
+                         Long afterJobId, int limit, int topValues) {
+        lock.readLock().lock();
+        try {
+            Map<FacetField, RoaringBitmap> selected = new EnumMap<>(FacetField.class);
+            filters.forEach((field, selection) -> {
+                if (selection != null && !selection.isEmpty()) {
+                    selected.put(field, union(field, selection));
+                }
+            });
+
+            RoaringBitmap matches = visible.clone();
+            selected.values().forEach(matches::and);
+
+            Map<FacetField, Map<String, Integer>> counts = new EnumMap<>(FacetField.class);
+            for (FacetField field : FacetField.values()) {
+                RoaringBitmap base = visible.clone();
+                selected.forEach((other, bitmap) -> {
+                    if (other != field) {
+                        base.and(bitmap);
+                    }
+                });
+                counts.put(field, topCounts(field, base, topValues));
+            }
+
+            // Page: newest (highest ordinal) first, strictly below the cursor's ordinal
+            RoaringBitmap remaining = matches;
+            if (afterJobId != null) {
+                Integer afterOrdinal = ordinals.get(afterJobId);
+                remaining = RoaringBitmap.and(matches, RoaringBitmap.bitmapOfRange(0, afterOrdinal == null ? 0 : afterOrdinal));
+            }
+            List<Long> page = new ArrayList<>(limit);
+            IntIterator it = remaining.getReverseIntIterator();
+            while (it.hasNext() && page.size() < limit) {
+                page.add(jobIds[it.next()]);
+            }
+            boolean hasMore = it.hasNext();
+
+            return new Result(matches.getLongCardinality(), page, hasMore, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Outcome of a facet search.
+     */
+    @Value
+    public static class Result {
+
+        // Number of postings matching all filters
+        long total;
+
+        // Job IDs of the requested page, newest first
+        List<Long> jobIds;
+
+        // Whether more matching postings follow this page
+        boolean hasMore;
+
+        // Facet value label -> count, per field, highest counts first
+        Map<FacetField, Map<String, Integer>> counts;
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Moves an organization's postings from one value of a field to another; returns the new value
+    private String move(FacetField field, RoaringBitmap jobs, String oldValue, String newValue) {
+        if (normalize(oldValue).equals(normalize(newValue))) {
+            return newValue;
+        }
+        Map<String, FacetValue> byKey = values.get(field);
+        FacetValue old = byKey.get(normalize(oldValue));
+        if (old != null) {
+            old.jobs.andNot(jobs);
+            if (old.jobs.isEmpty()) {
+                byKey.remove(normalize(oldValue));
+            }
+        }
+        facetValue(field, newValue).ifPresentOr(jobs);
+        return newValue;
+    }
+
+    // Value entry for a raw value (created on demand); an empty handle for blank values
+    private FacetHandle facetValue(FacetField field, String rawValue) {
+        String key = normalize(rawValue);
+        if (key.isEmpty()) {
+            return FacetHandle.NONE;
+        }
+        FacetValue value = values.get(field).computeIfAbsent(key, k -> new FacetValue(rawValue.trim()));
+        return new FacetHandle(value);
+    }
+
+    // OR of the bitmaps of the selected values of a field
+    private RoaringBitmap union(FacetField field, Collection<String> selection) {
+        RoaringBitmap result = new RoaringBitmap();
+        Map<String, FacetValue> byKey = values.get(field);
+        for (String raw : selection) {
+            FacetValue value = byKey.get(normalize(raw));
+            if (value != null) {
+                result.or(value.jobs);
+            }
+        }
+        return result;
+    }
+
+    // Highest non-zero counts of a field's values within the base set
+    private Map<String, Integer> topCounts(FacetField field, RoaringBitmap base, int topValues) {
+        List<Map.Entry<String, Integer>> nonZero = new ArrayList<>();
+        for (FacetValue value : values.get(field).values()) {
+            int count = RoaringBitmap.andCardinality(value.jobs, base);
+            if (count > 0) {
+                nonZero.add(Map.entry(value.label, count));
+            }
+        }
+        nonZero.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Integer> top = new LinkedHashMap<>();
+        for (int i = 0; i < nonZero.size() && i < topValues; i++) {
+            top.put(nonZero.get(i).getKey(), nonZero.get(i).getValue());
+        }
+        return top;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // One facet value: display label (first spelling seen) and its postings
+    private static final class FacetValue {
+        final String label;
+        final RoaringBitmap jobs = new RoaringBitmap();
+
+        FacetValue(String label) {
+            this.label = label;
+        }
+    }
+
+    // Optional facet value, so blank values can be skipped without null checks at call sites
+    private record FacetHandle(FacetValue value) {
+        static final FacetHandle NONE = new FacetHandle(null);
+
+        void ifPresentAdd(int ordinal) {
+            if (value != null) {
+                value.jobs.add(ordinal);
+            }
+        }
+
+        void ifPresentOr(RoaringBitmap jobs) {
+            if (value != null) {
+                value.jobs.or(jobs);
+            }
+        }
+    }
+
+    // Facet attributes and postings of one organization
+    private static final class OrganizationEntry {
+        String industry;
+        String location;
+        boolean approved;
+        final RoaringBitmap jobs = new RoaringBitmap();
+    }
+}
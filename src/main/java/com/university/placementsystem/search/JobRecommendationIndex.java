@@ -0,0 +1,376 @@
+package com.university.placementsystem.search;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory, column-oriented snapshot of job postings for skill-based recommendations.
+ *
+ * <p>Every posting gets a dense ordinal in insertion order (higher = newer). Its
+ * attributes live in parallel primitive arrays, and its skills are stored as a sorted
+ * run of dictionary IDs inside one shared {@code int[]} (offsets per ordinal), so a
+ * scan touches a few contiguous arrays and allocates nothing per posting.</p>
+ *
+ * <p>Scoring is the cosine similarity of IDF-weighted skill sets: skills few postings
+ * ask for weigh more than ubiquitous ones. The student's skills become a bitset probed
+ * once per posting skill; postings whose graduation-year range excludes the student,
+ * postings of unapproved organizations and excluded postings are skipped. Large
+ * snapshots are scanned in chunks on the common fork/join pool, each chunk keeping
+ * its own bounded min-heap; the heaps are merged at the end.</p>
+ *
+ * <p>Reads run in parallel; writes take an exclusive lock.</p>
+ */
+public class JobRecommendationIndex {
+
+    // Snapshots smaller than this are scanned on the calling thread
+    static final int PARALLEL_THRESHOLD = 16_384;
+    private static final int CHUNK_SIZE = 8_192;
+
+    // Per-ordinal columns
+    private long[] jobIds = new long[1024];
+    private int[] skillStart = new int[1025];
+    private int[] organizationOrdinals = new int[1024];
+    private int[] minYears = new int[1024];
+    private int[] maxYears = new int[1024];
+    private int ordinalCount;
+
+    // Skill IDs of all postings, one sorted run per ordinal
+    private int[] skills = new int[4096];
+
+    // Number of postings per skill ID
+    private int[] documentFrequency = new int[256];
+
+    // Job ID -> ordinal
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+
+    // Organization ID -> organization ordinal, and the ordinals of approved organizations
+    private final Map<Long, Integer> organizations = new HashMap<>();
+    private final BitSet approvedOrganizations = new BitSet();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Sets whether an organization's postings may be recommended.
+     *
+     * @param organizationId ID of the organization
+     * @param approved       whether the organization is approved
+     */
+    public void putOrganization(long organizationId, boolean approved) {
+        lock.writeLock().lock();
+        try {
+            approvedOrganizations.set(organizationOrdinal(organizationId), approved);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a job posting; re-adding one is a no-op.
+     *
+     * <p>Only the required skills and the graduation years taken from the free-text
+     * eligibility criteria are indexed; both are fixed when the posting is created. The
+     * eligibility rule and screening mode can be edited later (see
+     * {@code OrganizationService#updateEligibilityRule}) but are not indexed here. If
+     * skills or criteria ever become editable, the change only shows after a rebuild.</p>
+     *
+     * @param jobId          ID of the job posting
+     * @param organizationId ID of the owning organization (see {@link #putOrganization})
+     * @param skillIds       skill dictionary IDs of the posting (any order, duplicates ignored)
+     * @param years          graduation years the posting accepts
+     */
+    public void addJob(long jobId, long organizationId, Collection<Integer> skillIds, GraduationYearRange years) {
+        final int[] sorted = skillIds.stream().mapToInt(Integer::intValue).filter(id -> id >= 0)
+                .sorted().distinct().toArray();
+
+        lock.writeLock().lock();
+        try {
+            if (ordinals.containsKey(jobId)) {
+                return;
+            }
+            final int ordinal = ordinalCount;
+            if (ordinal == jobIds.length) {
+                final int capacity = ordinal * 2;
+                jobIds = Arrays.copyOf(jobIds, capacity);
+                skillStart = Arrays.copyOf(skillStart, capacity + 1);
+                organizationOrdinals = Arrays.copyOf(organizationOrdinals, capacity);
+                minYears = Arrays.copyOf(minYears, capacity);
+                maxYears = Arrays.copyOf(maxYears, capacity);
+            }
+
+            final int start = skillStart[ordinal];
+            if (start + sorted.length > skills.length) {
+                skills = Arrays.copyOf(skills, Math.max(skills.length * 2, start + sorted.length));
+            }
+            System.arraycopy(sorted, 0, skills, start, sorted.length);
+            for (int skillId : sorted) {
+                if (skillId >= documentFrequency.length) {
+                    documentFrequency = Arrays.copyOf(documentFrequency, Math.max(documentFrequency.length * 2, skillId + 1));
+                }
+                documentFrequency[skillId]++;
+            }
+
+            jobIds[ordinal] = jobId;
+            skillStart[ordinal + 1] = start + sorted.length;
+            organizationOrdinals[ordinal] = organizationOrdinal(organizationId);
+            minYears[ordinal] = years.getMin();
+            maxYears[ordinal] = years.getMax();
+            ordinals.put(jobId, ordinal);
+            ordinalCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks the visible postings for a student.
+     *
+     * @param studentSkills  skill dictionary IDs of the student
+     * @param graduationYear graduation year of the student (null = no eligibility filter)
+     * @param excludedJobIds postings to leave out (e.g. already applied for)
+     * @param limit          maximum number of results
+     * @return best matches, highest score first (newer postings first on ties)
+     */
+    public List<Hit> recommend(Collection<Integer> studentSkills, Integer graduationYear,
+                               Collection<Long> excludedJobIds, int limit) {
+        if (studentSkills.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (ordinalCount == 0) {
+                return List.of();
+            }
+            final float[] idf = inverseDocumentFrequencies();
+            final long[] studentMask = new long[(idf.length + 63) >>> 6];
+            float studentNorm = 0;
+            for (int skillId : studentSkills) {
+                if (skillId >= 0 && skillId < idf.length && idf[skillId] > 0 && !isSet(studentMask, skillId)) {
+                    studentMask[skillId >>> 6] |= 1L << skillId;
+                    studentNorm += idf[skillId] * idf[skillId];
+                }
+            }
+            if (studentNorm == 0) {
+                return List.of();
+            }
+
+            BitSet excluded = new BitSet();
+            for (Long jobId : excludedJobIds) {
+                Integer ordinal = ordinals.get(jobId);
+                if (ordinal != null) {
+                    excluded.set(ordinal);
+                }
+            }
+
+            final Scan scan = new Scan(idf, studentMask, (float) Math.sqrt(studentNorm),
+                    graduationYear == null ? 0 : graduationYear, excluded, limit);
+            final int count = ordinalCount;
+            TopK best;
+            if (count < PARALLEL_THRESHOLD) {
+                best = scan.run(0, count);
+            } else {
+                final int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+                best = IntStream.range(0, chunks).parallel()
+                        .mapToObj(chunk -> scan.run(chunk * CHUNK_SIZE, Math.min(count, (chunk + 1) * CHUNK_SIZE)))
+                        .reduce(TopK::merge)
+                        .orElseGet(() -> new TopK(limit));
+            }
+            return best.drain(jobIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed postings.
+     *
+     * @return posting count (including those of unapproved organizations)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A recommended job posting and its score.
+     */
+    @Value
+    public static class Hit {
+
+        // ID of the job posting
+        long jobId;
+
+        // Cosine similarity of the IDF-weighted skill sets, in (0, 1]
+        float score;
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Organization ordinal, assigned on first sight (caller holds the write lock)
+    private int organizationOrdinal(long organizationId) {
+        return organizations.computeIfAbsent(organizationId, id -> organizations.size());
+    }
+
+    // IDF weight per skill ID; 0 for skills no posting asks for
+    private float[] inverseDocumentFrequencies() {
+        float[] idf = new float[documentFrequency.length];
+        for (int skillId = 0; skillId < idf.length; skillId++) {
+            if (documentFrequency[skillId] > 0) {
+                idf[skillId] = (float) Math.log(1 + (double) ordinalCount / documentFrequency[skillId]);
+            }
+        }
+        return idf;
+    }
+
+    private static boolean isSet(long[] mask, int bit) {
+        return (mask[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    // One recommendation query over a range of ordinals (runs under the caller's read lock)
+    private final class Scan {
+        final float[] idf;
+        final long[] studentMask;
+        final float studentNorm;
+        final int graduationYear;
+        final BitSet excluded;
+        final int limit;
+
+        Scan(float[] idf, long[] studentMask, float studentNorm, int graduationYear, BitSet excluded, int limit) {
+            this.idf = idf;
+            this.studentMask = studentMask;
+            this.studentNorm = studentNorm;
+            this.graduationYear = graduationYear;
+            this.excluded = excluded;
+            this.limit = limit;
+        }
+
+        TopK run(int from, int to) {
+            TopK best = new TopK(limit);
+            for (int ordinal = from; ordinal < to; ordinal++) {
+                if (!approvedOrganizations.get(organizationOrdinals[ordinal]) || excluded.get(ordinal)) {
+                    continue;
+                }
+                if (graduationYear != 0
+                        && ((minYears[ordinal] != 0 && graduationYear < minYears[ordinal])
+                            || (maxYears[ordinal] != 0 && graduationYear > maxYears[ordinal]))) {
+                    continue;
+                }
+                float matched = 0;
+                float jobNorm = 0;
+                for (int i = skillStart[ordinal], end = skillStart[ordinal + 1]; i < end; i++) {
+                    final int skillId = skills[i];
+                    final float weight = idf[skillId];
+                    jobNorm += weight * weight;
+                    if (isSet(studentMask, skillId)) {
+                        matched += weight * weight;
+                    }
+                }
+                if (matched > 0) {
+                    best.offer(ordinal, matched / ((float) Math.sqrt(jobNorm) * studentNorm));
+                }
+            }
+            return best;
+        }
+    }
+
+    // Bounded min-heap of (ordinal, score); the root is the weakest kept entry
+    private static final class TopK {
+        final int[] heapOrdinals;
+        final float[] heapScores;
+        int size;
+
+        TopK(int limit) {
+            heapOrdinals = new int[limit];
+            heapScores = new float[limit];
+        }
+
+        void offer(int ordinal, float score) {
+            if (size < heapOrdinals.length) {
+                heapOrdinals[size] = ordinal;
+                heapScores[size] = score;
+                siftUp(size++);
+            } else if (weaker(heapOrdinals[0], heapScores[0], ordinal, score)) {
+                heapOrdinals[0] = ordinal;
+                heapScores[0] = score;
+                siftDown();
+            }
+        }
+
+        TopK merge(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.heapOrdinals[i], other.heapScores[i]);
+            }
+            return this;
+        }
+
+        // Empties the heap into hits, best first
+        List<Hit> drain(long[] jobIds) {
+            Hit[] hits = new Hit[size];
+            while (size > 0) {
+                hits[size - 1] = new Hit(jobIds[heapOrdinals[0]], heapScores[0]);
+                size--;
+                heapOrdinals[0] = heapOrdinals[size];
+                heapScores[0] = heapScores[size];
+                siftDown();
+            }
+            return new ArrayList<>(Arrays.asList(hits));
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                final int parent = (index - 1) >>> 1;
+                if (!weaker(heapOrdinals[index], heapScores[index], heapOrdinals[parent], heapScores[parent])) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown() {
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size
+                        && weaker(heapOrdinals[child + 1], heapScores[child + 1], heapOrdinals[child], heapScores[child])) {
+                    child++;
+                }
+                if (!weaker(heapOrdinals[child], heapScores[child], heapOrdinals[index], heapScores[index])) {
+                    break;
+                }
+                swap(index, child);
+                index = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            final int ordinal = heapOrdinals[a];
+            final float score = heapScores[a];
+            heapOrdinals[a] = heapOrdinals[b];
+            heapScores[a] = heapScores[b];
+            heapOrdinals[b] = ordinal;
+            heapScores[b] = score;
+        }
+
+        // Lower score is weaker; on equal scores the older posting (lower ordinal) is weaker
+        private static boolean weaker(int ordinalA, float scoreA, int ordinalB, float scoreB) {
+            return scoreA < scoreB || (scoreA == scoreB && ordinalA < ordinalB);
+        }
+    }
+}
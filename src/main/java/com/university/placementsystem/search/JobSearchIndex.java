@@ -0,0 +1,344 @@
+package com.university.placementsystem.search;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over job postings with BM25 ranking.
+ *
+ * <p>Each posting gets a dense ordinal; every term maps to an append-only list of
+ * (ordinal, weighted term frequency) pairs. Title, skills and description terms are
+ * weighted 3 / 2 / 1, so a match in the title counts more than one in the description.
+ * A query is the OR of its terms; documents matching more (and rarer) terms score higher.</p>
+ *
+ * <p>Each ordinal also records its organization's ordinal; postings of organizations
+ * not in the approved-organizations bitset are skipped while scoring, so the top-K
+ * holds only visible postings. Approval changes flip one bit. Term statistics
+ * (document frequencies, average length) still count every live posting.</p>
+ *
+ * <p>Re-adding a posting tombstones its old ordinal; tombstoned entries stay in the
+ * posting lists (skipped at query time) until the index is rebuilt, but each list
+ * keeps a count of its live entries, so IDF only counts current versions. Reads run in
+ * parallel (each with a pooled score array); writes take an exclusive lock.</p>
+ */
+public class JobSearchIndex {
+
+    // BM25 parameters (standard defaults)
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Per-field term weights
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float SKILLS_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    // Term -> postings
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    // Ordinal -> job ID, weighted document length and organization ordinal
+    private long[] jobIds = new long[1024];
+    private float[] lengths = new float[1024];
+    private int[] organizationOrdinals = new int[1024];
+
+    // Ordinal -> posting lists of its terms (their live counts drop when it is tombstoned)
+    private Postings[][] documentPostings = new Postings[1024][];
+
+    // Job ID -> current ordinal, and ordinals replaced by a newer version
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    // Organization ID -> organization ordinal, and the ordinals of approved organizations
+    private final Map<Long, Integer> organizations = new HashMap<>();
+    private final BitSet approvedOrganizations = new BitSet();
+
+    // Ordinals assigned so far / live documents / sum of live lengths
+    private int ordinalCount;
+    private int liveCount;
+    private double totalLength;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Score accumulators (all zeros, one per concurrent query) kept for reuse. A small pool
+    // rather than one per thread: with virtual threads every request runs on a new thread.
+    private static final int MAX_POOLED_SCRATCH = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private final BlockingQueue<float[]> scratchPool = new ArrayBlockingQueue<>(MAX_POOLED_SCRATCH);
+
+    /**
+     * Sets whether an organization's postings may be returned.
+     *
+     * @param organizationId ID of the organization
+     * @param approved       whether the organization is approved
+     */
+    public void putOrganization(long organizationId, boolean approved) {
+        lock.writeLock().lock();
+        try {
+            approvedOrganizations.set(organizationOrdinal(organizationId), approved);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a job posting, replacing any previous version with the same ID.
+     *
+     * @param jobId          ID of the job posting
+     * @param organizationId ID of the owning organization (see {@link #putOrganization})
+     * @param title          job title
+     * @param skills         required skills
+     * @param description    job description
+     */
+    public void add(long jobId, long organizationId, String title, String skills, String description) {
+        Map<String, Float> frequencies = new HashMap<>();
+        float length = count(frequencies, title, TITLE_WEIGHT)
+                + count(frequencies, skills, SKILLS_WEIGHT)
+                + count(frequencies, description, DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            remove(jobId);
+
+            final int ordinal = ordinalCount++;
+            if (ordinal == jobIds.length) {
+                jobIds = Arrays.copyOf(jobIds, ordinal * 2);
+                lengths = Arrays.copyOf(lengths, ordinal * 2);
+                organizationOrdinals = Arrays.copyOf(organizationOrdinals, ordinal * 2);
+                documentPostings = Arrays.copyOf(documentPostings, ordinal * 2);
+            }
+            jobIds[ordinal] = jobId;
+            lengths[ordinal] = length;
+            organizationOrdinals[ordinal] = organizationOrdinal(organizationId);
+            ordinals.put(jobId, ordinal);
+            liveCount++;
+            totalLength += length;
+
+            Postings[] lists = new Postings[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                Postings list = postings.computeIfAbsent(entry.getKey(), t -> new Postings());
+                list.add(ordinal, entry.getValue());
+                lists[i++] = list;
+            }
+            documentPostings[ordinal] = lists;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param query free-text query
+     * @param limit maximum number of hits
+     * @return hits of approved organizations, ordered by descending score (empty if none match)
+     */
+    public List<Hit> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return List.of();
+            }
+            float[] scores = borrowScratch(ordinalCount);
+            BitSet touched = new BitSet();
+            try {
+                final float avgLength = (float) (totalLength / liveCount);
+
+                for (String term : terms) {
+                    Postings list = postings.get(term);
+                    if (list == null) {
+                        continue;
+                    }
+                    final float idf = (float) Math.log(1 + (liveCount - list.live + 0.5) / (list.live + 0.5));
+                    for (int i = 0; i < list.size; i++) {
+                        final int ordinal = list.ordinals[i];
+                        if (deleted.get(ordinal) || !approvedOrganizations.get(organizationOrdinals[ordinal])) {
+                            continue;
+                        }
+                        final float tf = list.frequencies[i];
+                        final float norm = K1 * (1 - B + B * lengths[ordinal] / avgLength);
+                        touched.set(ordinal);
+                        scores[ordinal] += idf * tf * (K1 + 1) / (tf + norm);
+                    }
+                }
+
+                return topK(scores, touched, limit);
+            } finally {
+                for (int ordinal = touched.nextSetBit(0); ordinal >= 0; ordinal = touched.nextSetBit(ordinal + 1)) {
+                    scores[ordinal] = 0;
+                }
+                scratchPool.offer(scores);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed job postings.
+     *
+     * @return live document count (including postings of unapproved organizations)
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A matching job posting and its relevance score.
+     */
+    @Value
+    public static class Hit {
+
+        // ID of the job posting
+        long jobId;
+
+        // BM25 score (higher is more relevant)
+        float score;
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Tombstones the current ordinal of a job (caller holds the write lock)
+    private void remove(long jobId) {
+        Integer previous = ordinals.remove(jobId);
+        if (previous != null) {
+            deleted.set(previous);
+            for (Postings list : documentPostings[previous]) {
+                list.live--;
+            }
+            documentPostings[previous] = null;
+            liveCount--;
+            totalLength -= lengths[previous];
+        }
+    }
+
+    // Organization ordinal, assigned on first sight (caller holds the write lock)
+    private int organizationOrdinal(long organizationId) {
+        return organizations.computeIfAbsent(organizationId, id -> organizations.size());
+    }
+
+    // Adds weighted term counts of one field; returns the field's weighted length
+    private static float count(Map<String, Float> frequencies, String text, float weight) {
+        List<String> terms = TextAnalyzer.analyze(text);
+        for (String term : terms) {
+            frequencies.merge(term, weight, Float::sum);
+        }
+        return terms.size() * weight;
+    }
+
+    // Pooled accumulator with room for all ordinals (all zeros); arrays too small for the
+    // grown index are dropped. Returned with offer(), which discards it when the pool is full.
+    private float[] borrowScratch(int size) {
+        float[] scores;
+        while ((scores = scratchPool.poll()) != null) {
+            if (scores.length >= size) {
+                return scores;
+            }
+        }
+        return new float[size + size / 4];
+    }
+
+    // Best `limit` ordinals by score, using a bounded min-heap
+    private List<Hit> topK(float[] scores, BitSet touched, int limit) {
+        final int k = Math.min(limit, touched.cardinality());
+        int[] heap = new int[k];
+        int heapSize = 0;
+
+        for (int ordinal = touched.nextSetBit(0); ordinal >= 0; ordinal = touched.nextSetBit(ordinal + 1)) {
+            if (heapSize < k) {
+                heap[heapSize] = ordinal;
+                siftUp(heap, heapSize++, scores);
+            } else if (scores[ordinal] > scores[heap[0]]) {
+                heap[0] = ordinal;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>(heapSize);
+        while (heapSize > 0) {
+            final int ordinal = heap[0];
+            hits.add(new Hit(jobIds[ordinal], scores[ordinal]));
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        // Popped lowest first
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        final int value = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (scores[heap[parent]] <= scores[value]) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        if (size == 0) {
+            return;
+        }
+        int index = 0;
+        final int value = heap[0];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && scores[heap[child + 1]] < scores[heap[child]]) {
+                child++;
+            }
+            if (scores[value] <= scores[heap[child]]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    // Growable (ordinal, frequency) list of one term, in ascending ordinal order
+    private static final class Postings {
+        int[] ordinals = new int[4];
+        float[] frequencies = new float[4];
+        int size;
+        // Entries whose ordinal is not tombstoned (the term's document frequency)
+        int live;
+
+        void add(int ordinal, float frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+            live++;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.university.placementsystem.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Holds an in-memory index that is kept current from change events and occasionally
+ * rebuilt from the database.
+ *
+ * <p>Changes are applied to the current index in the order they arrive. While a
+ * rebuild is loading a fresh index, they are also recorded; before the fresh index is
+ * swapped in, every recorded change is replayed onto it, in order, until none are
+ * left. The last (empty) check and the swap happen under the same lock that
+ * {@link #apply} holds, so no change can land between them and no older change is
+ * ever replayed over a newer one.</p>
+ *
+ * @param <T> index type (must allow reads concurrent with its own writes)
+ */
+public final class RebuildableIndex<T> {
+
+    // Current index (replaced wholesale by a rebuild)
+    private volatile T current;
+
+    // Changes received while a rebuild is running (null when no rebuild is running)
+    private List<Consumer<T>> changesDuringRebuild;
+    private final Object mutex = new Object();
+
+    public RebuildableIndex(T initial) {
+        this.current = initial;
+    }
+
+    /**
+     * Returns the current index.
+     *
+     * @return index to query
+     */
+    public T get() {
+        return current;
+    }
+
+    /**
+     * Applies a change to the current index, remembering it if a rebuild is running.
+     *
+     * @param change mutation of the index
+     */
+    public void apply(Consumer<T> change) {
+        synchronized (mutex) {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+            change.accept(current);
+        }
+    }
+
+    /**
+     * Loads a fresh index, replays the changes received meanwhile and swaps it in.
+     *
+     * <p>If loading fails, the current index is kept and the exception is rethrown.</p>
+     *
+     * @param loader builds the fresh index (called without holding the lock)
+     * @return the index now in use
+     * @throws IllegalStateException if another rebuild is running
+     */
+    public T rebuild(Supplier<T> loader) {
+        synchronized (mutex) {
+            if (changesDuringRebuild != null) {
+                throw new IllegalStateException("A rebuild is already running");
+            }
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            T fresh = loader.get();
+            while (true) {
+                List<Consumer<T>> replay;
+                synchronized (mutex) {
+                    replay = changesDuringRebuild;
+                    if (replay.isEmpty()) {
+                        current = fresh;
+                        changesDuringRebuild = null;
+                        return fresh;
+                    }
+                    changesDuringRebuild = new ArrayList<>();
+                }
+                replay.forEach(change -> change.accept(fresh));
+            }
+        } catch (RuntimeException ex) {
+            synchronized (mutex) {
+                changesDuringRebuild = null;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.university.placementsystem.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into normalized search terms.
+ *
+ * <p>Terms are lower-cased runs of letters and digits; {@code +}, {@code #} and {@code .}
+ * are kept inside a term so skills such as {@code c++}, {@code c#} and {@code node.js}
+ * survive. Trailing dots are trimmed, and common English stop words and one-character
+ * terms (other than {@code c} and {@code r}) are dropped.</p>
+ */
+public final class TextAnalyzer {
+
+    // Words that carry no meaning for job search
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "to", "we", "with", "you", "our", "will", "this", "that");
+
+    // One-letter terms that are meaningful (programming languages)
+    private static final Set<String> SHORT_TERMS = Set.of("c", "r");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Tokenizes and normalizes text.
+     *
+     * @param text input (may be null)
+     * @return terms in order of appearance, duplicates included
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        final String lower = text.toLowerCase(Locale.ROOT);
+        final int n = lower.length();
+        int i = 0;
+        while (i < n) {
+            while (i < n && !Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < n && isTermChar(lower.charAt(i))) {
+                i++;
+            }
+            int end = i;
+            while (end > start && lower.charAt(end - 1) == '.') {
+                end--;
+            }
+            if (end > start) {
+                addTerm(terms, lower.substring(start, end));
+            }
+        }
+        return terms;
+    }
+
+    // -------------------- Helpers --------------------
+
+    private static boolean isTermChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.';
+    }
+
+    private static void addTerm(List<String> terms, String term) {
+        if (STOP_WORDS.contains(term)) {
+            return;
+        }
+        if (term.length() == 1 && !SHORT_TERMS.contains(term)) {
+            return;
+        }
+        terms.add(term);
+    }
+}
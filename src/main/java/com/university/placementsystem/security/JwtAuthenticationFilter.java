@@ -1,7 +1,6 @@
 package com.university.placementsystem.security;
 
 import com.university.placementsystem.dto.UserDTO;
-import com.university.placementsystem.entity.User;
 import com.university.placementsystem.entity.UserRole;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,8 +25,9 @@ import java.util.List;
  *
  * <p>Executes once per request to:</p>
  * <ul>
- *   <li>Extract and validate the JWT from the {@code Authorization} header</li>
- *   <li>Load user details and ensure the account is active</li>
+ *   <li>Extract and validate the JWT from the {@code Authorization} header, or redeem a
+ *       {@link StreamTicketStore} ticket when a browser opens an application stream</li>
+ *   <li>Ensure the account is active (via {@link UserActivityCache})</li>
  *   <li>Set the authenticated {@link UserDTO} into the {@link SecurityContextHolder}</li>
  * </ul>
  */
@@ -42,9 +42,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // Bearer prefix in the Authorization header
     private static final String BEARER_PREFIX = "Bearer ";
 
+    // Stream opened by EventSource (no headers), authenticated by a ticket query parameter
+    private static final String STREAM_PATH = "/api/student/applications/stream";
+    private static final String TICKET_PARAM = "ticket";
+
     // Utility for generating and parsing JWTs
     private final JwtUtil jwtUtil;
 
+    // In-memory active/deactivated status of user accounts
+    private final UserActivityCache userActivityCache;
+
+    // Single-use tickets for application streams
+    private final StreamTicketStore streamTicketStore;
+
     /**
      * Main filter logic.
      *
@@ -76,29 +86,39 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Extract token from the Authorization header
         final String token = getBearerToken(request.getHeader(AUTH_HEADER));
         if (!StringUtils.hasText(token)) {
+            final String ticket = request.getParameter(TICKET_PARAM);
+            if (STREAM_PATH.equals(request.getRequestURI()) && StringUtils.hasText(ticket)) {
+                final UserDTO principal = streamTicketStore.redeem(ticket);
+                if (principal != null) {
+                    if (!userActivityCache.isActive(principal.getId())) {
+                        writeJsonError(response);
+                        return;
+                    }
+                    SecurityContextHolder.getContext()
+                            .setAuthentication(buildAuthentication(principal, principal.getRole()));
+                }
+            }
             chain.doFilter(request, response); // no token found, continue
             return;
         }
 
         try {
-            // Extract claims
-            final String idStr   = jwtUtil.extractId(token);
-            final String email   = jwtUtil.extractUsername(token);
-            final String roleStr = jwtUtil.extractRole(token);
-            final String name    = jwtUtil.extractName(token);
+            // Verify the token once and read all claims from the result
+            final JwtPrincipal claims = jwtUtil.parseToken(token);
+            final Long id        = claims.getId();
+            final String email   = claims.getEmail();
+            final String roleStr = claims.getRole();
+            final String name    = claims.getName();
 
             // Ensure required claims are present
-            if (!StringUtils.hasText(idStr) || !StringUtils.hasText(email) || !StringUtils.hasText(roleStr)) {
+            if (id == null || !StringUtils.hasText(email) || !StringUtils.hasText(roleStr)) {
                 log.debug("JWT missing required claims (id/email/role)");
                 chain.doFilter(request, response);
                 return;
             }
 
-            final Long id = Long.parseLong(idStr);
-
-            // Verify that the user account is active
-            final User user = jwtUtil.loadUserById(id);
-            if (user == null || !user.isActive()) {
+            // Verify that the user account is active (served from memory, no DB round-trip)
+            if (!userActivityCache.isActive(id)) {
                 writeJsonError(response);
                 return;
             }
@@ -114,7 +134,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
 
             // Build authenticated principal and set into context
-            final UserDTO principal = new UserDTO(id, name, email, role);
+            final UserDTO principal = new UserDTO(id, name, email, role, claims.getProfileId());
             SecurityContextHolder.getContext().setAuthentication(buildAuthentication(principal, role));
 
         } catch (Exception ex) {
@@ -0,0 +1,44 @@
+package com.university.placementsystem.security;
+
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Immutable result of verifying a JWT once.
+ *
+ * <p>Holds every claim the authentication filter needs, so a token is
+ * parsed and its signature checked a single time per request (or not at all
+ * when served from {@link VerifiedTokenCache}).</p>
+ */
+@Value
+public class JwtPrincipal {
+
+    // User ID (claim "id"), may be null if the claim is missing
+    Long id;
+
+    // Subject (email)
+    String email;
+
+    // Raw role claim (validated by the filter)
+    String role;
+
+    // Display name
+    String name;
+
+    // Student/organization profile ID (claim "pid"), null until a profile exists
+    Long profileId;
+
+    // Expiration time of the token
+    Instant expiresAt;
+
+    /**
+     * Returns whether the token has expired at the given instant.
+     *
+     * @param now reference time
+     * @return true if expired
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
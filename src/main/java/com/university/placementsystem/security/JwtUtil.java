@@ -1,15 +1,15 @@
 package com.university.placementsystem.security;
 
-import com.university.placementsystem.entity.User;
 import com.university.placementsystem.entity.UserRole;
-import com.university.placementsystem.repository.UserRepository;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -17,10 +17,9 @@ import java.util.Map;
  *
  * <p>Features:</p>
  * <ul>
- *   <li>Generates JWT tokens with user claims (id, email, role, name)</li>
- *   <li>Parses claims from existing tokens</li>
+ *   <li>Generates JWT tokens with user claims (id, email, role, name, profile ID)</li>
+ *   <li>Parses claims from existing tokens (verified once, then cached)</li>
  *   <li>Validates expiration and signature</li>
- *   <li>Provides a helper to load users from DB by ID</li>
  * </ul>
  */
 @Component
@@ -31,6 +30,7 @@ public class JwtUtil {
     private static final String CLAIM_ID = "id";     // user ID
     private static final String CLAIM_ROLE = "role"; // user role
     private static final String CLAIM_NAME = "name"; // user display name
+    private static final String CLAIM_PROFILE_ID = "pid"; // student/organization profile ID (once created)
 
     // === Token Config ===
     // TODO: move secret to configuration (env var / application.yml) and rotate periodically
@@ -38,79 +38,102 @@ public class JwtUtil {
             "adfghjngbvsawqsedyfvthjmknhbgdfcxsawqedrhnjbgvfdctsexwraxdcthbj"; // HMAC secret (demo only)
     private static final long EXPIRATION_TIME_MS = 1000 * 60 * 60 * 24; // 24 hours
 
-    private final UserRepository userRepository;
+    // Signing key and parser are immutable and thread-safe, so they are built once
+    private static final Key SIGNING_KEY = Keys.hmacShaKeyFor(SECRET.getBytes());
+    private static final JwtParser PARSER = Jwts.parserBuilder().setSigningKey(SIGNING_KEY).build();
 
-    /**
-     * Builds the signing key used for JWT operations.
-     *
-     * @return HMAC-SHA key
-     */
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET.getBytes());
-    }
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Generates a JWT token with user-specific claims.
      *
-     * @param id    user ID
-     * @param email user email (subject)
-     * @param role  user role
-     * @param name  display name
+     * @param id        user ID
+     * @param email     user email (subject)
+     * @param role      user role
+     * @param name      display name
+     * @param profileId ID of the student/organization profile, or {@code null} if none exists yet
      * @return signed JWT string
      */
-    public String generateToken(String id, String email, UserRole role, String name) {
+    public String generateToken(String id, String email, UserRole role, String name, Long profileId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_ID, id);
+        claims.put(CLAIM_ROLE, role.name());
+        claims.put(CLAIM_NAME, name);
+        if (profileId != null) {
+            claims.put(CLAIM_PROFILE_ID, String.valueOf(profileId));
+        }
+
         return Jwts.builder()
-                .setClaims(Map.of(
-                        CLAIM_ID, id,
-                        CLAIM_ROLE, role.name(),
-                        CLAIM_NAME, name
-                ))
+                .setClaims(claims)
                 .setSubject(email) // subject is the email
                 .setIssuedAt(new Date()) // issued now
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME_MS)) // expiry time
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256) // HMAC-SHA256
+                .signWith(SIGNING_KEY, SignatureAlgorithm.HS256) // HMAC-SHA256
                 .compact();
     }
 
     /**
-     * Extracts all claims from a token.
+     * Verifies a token and returns all of its claims as one immutable object.
+     *
+     * <p>Repeat calls with the same token are served from {@link VerifiedTokenCache}
+     * without re-running signature verification.</p>
+     *
+     * @param token JWT token
+     * @return verified {@link JwtPrincipal}
+     * @throws JwtException if the token is invalid or expired
+     */
+    public JwtPrincipal parseToken(String token) {
+        return verifiedTokenCache.getOrVerify(token, JwtUtil::verify);
+    }
+
+    /**
+     * Verifies signature and expiry, then maps the claims to a {@link JwtPrincipal}.
      *
      * @param token JWT token
-     * @return parsed {@link Claims}
+     * @return verified principal
      */
-    private Claims getAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static JwtPrincipal verify(String token) {
+        Claims claims = PARSER.parseClaimsJws(token).getBody();
+        String id = claims.get(CLAIM_ID, String.class);
+        String profileId = claims.get(CLAIM_PROFILE_ID, String.class);
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                id != null ? Long.valueOf(id) : null,
+                claims.getSubject(),
+                claims.get(CLAIM_ROLE, String.class),
+                claims.get(CLAIM_NAME, String.class),
+                profileId != null ? Long.valueOf(profileId) : null,
+                expiration != null ? expiration.toInstant() : null
+        );
     }
 
     // === Claim Getters ===
 
     /** Returns subject (email) from token. */
     public String extractUsername(String token) {
-        return getAllClaims(token).getSubject();
+        return parseToken(token).getEmail();
     }
 
     /** Returns role from token. */
     public String extractRole(String token) {
-        return (String) getAllClaims(token).get(CLAIM_ROLE);
+        return parseToken(token).getRole();
     }
 
     /** Returns display name from token. */
     public String extractName(String token) {
-        return (String) getAllClaims(token).get(CLAIM_NAME);
+        return parseToken(token).getName();
     }
 
     /** Returns user ID from token. */
     public String extractId(String token) {
-        return (String) getAllClaims(token).get(CLAIM_ID);
+        Long id = parseToken(token).getId();
+        return id != null ? String.valueOf(id) : null;
     }
 
     /** Returns expiration time from token. */
     public Date extractExpiration(String token) {
-        return getAllClaims(token).getExpiration();
+        Instant expiresAt = parseToken(token).getExpiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
     // === Validation Helpers ===
@@ -139,16 +162,4 @@ public class JwtUtil {
             return false; // invalid signature/format/expired/etc.
         }
     }
-
-    /**
-     * Loads a {@link User} entity from the database by ID.
-     *
-     * @param id user ID
-     * @return {@link User} entity
-     * @throws RuntimeException if user not found
-     */
-    public User loadUserById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-    }
 }
@@ -0,0 +1,99 @@
+package com.university.placementsystem.security;
+
+import com.university.placementsystem.dto.UserDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived, single-use tickets that authenticate the opening of an application stream.
+ *
+ * <p>A browser's {@code EventSource} cannot send an {@code Authorization} header. The
+ * student page therefore exchanges its JWT for a ticket (an authenticated POST) and
+ * passes it as the {@code ticket} query parameter of the stream URL, where
+ * {@link JwtAuthenticationFilter} redeems it. A ticket is a random 256-bit value, valid
+ * for a few seconds and redeemable once, so one that ends up in an access log is
+ * already spent. Every reconnect asks for a new ticket.</p>
+ */
+@Component
+public class StreamTicketStore {
+
+    // ---- Messages / constants ----
+    private static final int TICKET_BYTES = 32;
+    private static final String MSG_TOO_MANY_TICKETS = "Too many pending stream tickets; please retry later";
+
+    // How long an issued ticket can be redeemed
+    @Value("${security.stream-ticket.ttl:30s}")
+    private Duration ttl;
+
+    // Maximum number of outstanding tickets
+    @Value("${security.stream-ticket.max-size:10000}")
+    private int maxSize;
+
+    // Ticket -> principal it was issued to
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Issues a ticket for an authenticated user.
+     *
+     * @param principal the authenticated user
+     * @return opaque, URL-safe ticket
+     * @throws ResponseStatusException if too many unredeemed tickets are outstanding
+     */
+    public String issue(UserDTO principal) {
+        final Instant now = Instant.now();
+        if (tickets.size() >= maxSize) {
+            tickets.values().removeIf(ticket -> ticket.isExpiredAt(now));
+            if (tickets.size() >= maxSize) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, MSG_TOO_MANY_TICKETS);
+            }
+        }
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String value = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(value, new Ticket(principal, now.plus(ttl)));
+        return value;
+    }
+
+    /**
+     * Redeems a ticket; it cannot be used again.
+     *
+     * @param value ticket as issued
+     * @return the principal it was issued to, or null if it is unknown, spent or expired
+     */
+    public UserDTO redeem(String value) {
+        Ticket ticket = tickets.remove(value);
+        if (ticket == null || ticket.isExpiredAt(Instant.now())) {
+            return null;
+        }
+        return ticket.principal();
+    }
+
+    /**
+     * Returns the number of outstanding tickets.
+     *
+     * @return issued, unredeemed tickets (including expired ones not yet purged)
+     */
+    public int size() {
+        return tickets.size();
+    }
+
+    // -------------------- Helpers --------------------
+
+    private record Ticket(UserDTO principal, Instant expiresAt) {
+
+        boolean isExpiredAt(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
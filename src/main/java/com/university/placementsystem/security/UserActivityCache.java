@@ -0,0 +1,130 @@
+package com.university.placementsystem.security;
+
+import com.university.placementsystem.event.UserStatusChangedEvent;
+import com.university.placementsystem.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory view of which user accounts are deactivated.
+ *
+ * <p>Deactivated accounts are rare, so only their IDs are kept. The authentication
+ * filter checks this set instead of loading the {@code users} row on every request.</p>
+ *
+ * <p>Freshness:</p>
+ * <ul>
+ *   <li>Admin activate/deactivate actions update the set immediately via {@link UserStatusChangedEvent}</li>
+ *   <li>The set is reloaded from the database once it is older than
+ *       {@code security.user-status.max-staleness}, as a safety net for changes made elsewhere</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserActivityCache {
+
+    private final UserRepository userRepository;
+
+    // Upper bound on how long the set may go without a full reload
+    @Value("${security.user-status.max-staleness:60s}")
+    private Duration maxStaleness;
+
+    // Currently known deactivated user IDs (replaced wholesale on reload)
+    private volatile Set<Long> deactivated = ConcurrentHashMap.newKeySet();
+
+    // System time (ms) of the last completed reload; 0 = never loaded
+    private volatile long loadedAt;
+
+    // Changes received while a reload is in flight, replayed onto the fresh set
+    private final Map<Long, Boolean> changesSinceReload = new HashMap<>();
+
+    // Serializes reloads and event application
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final Object mutex = new Object();
+
+    /**
+     * Returns whether the given user account is active.
+     *
+     * <p>No database access unless the cached set has gone stale.</p>
+     *
+     * @param userId user ID
+     * @return false if the account is known to be deactivated
+     */
+    public boolean isActive(Long userId) {
+        refreshIfStale();
+        return !deactivated.contains(userId);
+    }
+
+    /**
+     * Applies an activation change as soon as it has been committed.
+     *
+     * @param event status change published by the admin service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserStatusChanged(UserStatusChangedEvent event) {
+        synchronized (mutex) {
+            apply(deactivated, event.getUserId(), event.isActive());
+            changesSinceReload.put(event.getUserId(), event.isActive());
+        }
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Reloads the set if it is older than the configured staleness bound
+    private void refreshIfStale() {
+        final long now = System.currentTimeMillis();
+        if (loadedAt != 0 && now - loadedAt < maxStaleness.toMillis()) {
+            return;
+        }
+
+        // First load blocks everyone; later reloads are done by one request while others use the current set
+        if (loadedAt == 0) {
+            reloadLock.lock();
+        } else if (!reloadLock.tryLock()) {
+            return;
+        }
+        try {
+            if (loadedAt == 0 || now - loadedAt >= maxStaleness.toMillis()) {
+                reload();
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Rebuilds the set from the database, replaying events that arrived during the query
+    private void reload() {
+        synchronized (mutex) {
+            changesSinceReload.clear();
+        }
+
+        Set<Long> fresh = ConcurrentHashMap.newKeySet();
+        fresh.addAll(userRepository.findDeactivatedIds());
+
+        synchronized (mutex) {
+            changesSinceReload.forEach((id, active) -> apply(fresh, id, active));
+            changesSinceReload.clear();
+            deactivated = fresh;
+            loadedAt = System.currentTimeMillis();
+        }
+        log.debug("Reloaded user status cache: {} deactivated account(s)", fresh.size());
+    }
+
+    private static void apply(Set<Long> target, Long userId, boolean active) {
+        if (active) {
+            target.remove(userId);
+        } else {
+            target.add(userId);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.university.placementsystem.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded, expiry-aware cache of already verified JWTs.
+ *
+ * <p>Entries are keyed by a SHA-256 digest of the raw token, so the token itself
+ * is never kept in memory. A hit skips signature verification and claim parsing
+ * entirely; expired entries are dropped on access and during eviction sweeps.</p>
+ *
+ * <p>Hit/miss counts are published as {@code security.jwt.cache} counters.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    // Metrics registry (hit/miss counters and size gauge)
+    private final MeterRegistry meterRegistry;
+
+    // Maximum number of cached tokens
+    @Value("${security.jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    // Digest -> verified principal
+    private final Map<String, JwtPrincipal> entries = new ConcurrentHashMap<>();
+
+    // Counters
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Registers cache metrics.
+     */
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("security.jwt.cache", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("security.jwt.cache", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("security.jwt.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached principal for a token, verifying and caching it on a miss.
+     *
+     * @param token    raw JWT
+     * @param verifier full verification, invoked only on a miss; may throw
+     * @return verified principal
+     */
+    public JwtPrincipal getOrVerify(String token, Function<String, JwtPrincipal> verifier) {
+        final String key = digest(token);
+        final Instant now = Instant.now();
+
+        JwtPrincipal cached = entries.get(key);
+        if (cached != null) {
+            if (!cached.isExpiredAt(now)) {
+                hits.increment();
+                return cached;
+            }
+            entries.remove(key, cached);
+        }
+
+        misses.increment();
+        JwtPrincipal principal = verifier.apply(token);
+
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(key, principal);
+        return principal;
+    }
+
+    /** Returns the number of cache hits so far. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of cache misses so far. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Drops expired entries, then arbitrary ones until the cache is back under 90% of its bound
+    private synchronized void evict(Instant now) {
+        if (entries.size() < maxSize) {
+            return; // another thread already made room
+        }
+        entries.values().removeIf(p -> p.isExpiredAt(now));
+
+        final int target = (int) (maxSize * 0.9);
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    // SHA-256 of the token, Base64-encoded
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
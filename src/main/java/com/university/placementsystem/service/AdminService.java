@@ -1,23 +1,37 @@
 package com.university.placementsystem.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.university.placementsystem.dto.ApplicationDTO;
+import com.university.placementsystem.dto.CursorPage;
 import com.university.placementsystem.dto.JobPostingDTO;
 import com.university.placementsystem.dto.OrganizationDTO;
-import com.university.placementsystem.entity.Application;
-import com.university.placementsystem.entity.JobPosting;
+import com.university.placementsystem.entity.ApplicationStatus;
 import com.university.placementsystem.entity.Organization;
 import com.university.placementsystem.entity.User;
+import com.university.placementsystem.event.OrganizationUpdatedEvent;
+import com.university.placementsystem.event.UserStatusChangedEvent;
 import com.university.placementsystem.repository.ApplicationRepository;
 import com.university.placementsystem.repository.JobPostingRepository;
 import com.university.placementsystem.repository.OrganizationRepository;
 import com.university.placementsystem.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Admin service for managing users, organizations, job postings, and applications.
@@ -34,20 +48,41 @@ public class AdminService {
     private final JobPostingRepository jobPostingRepository;
     private final ApplicationRepository applicationRepository;
 
+    // Notifies in-memory caches (e.g. the auth filter's user status cache)
+    private final ApplicationEventPublisher eventPublisher;
+
+    // JSON serializer for NDJSON exports
+    private final ObjectMapper objectMapper;
+
     // ---- Messages / constants ----
     private static final String MSG_USER_NOT_FOUND = "User not found";
     private static final String MSG_ORG_NOT_FOUND = "Organization not found";
     private static final String MSG_APP_NOT_FOUND = "Application not found";
+    private static final String MSG_INVALID_SORT = "Unsupported sort field";
+
+    // ---- Pagination ----
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String SORT_ID = "id";
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final String SORT_APPLIED_AT = "appliedAt";
+
+    // ---- Export ----
+    private static final String CSV_HEADER = "id,studentName,studentEmail,jobTitle,organizationName,status,appliedAt\n";
 
     // ---------- Users ----------
 
     /**
-     * Returns all users in the system.
+     * Returns one page of users ordered by ID.
      *
-     * @return list of users
+     * @param after cursor from the previous page (null for the first page)
+     * @param limit page size (clamped to 1..200)
+     * @return page of users
      */
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<User> getUsers(String after, int limit) {
+        int size = clampLimit(limit);
+        List<User> rows = userRepository.findByIdGreaterThanOrderByIdAsc(KeysetCursor.decodeId(after), Limit.of(size + 1));
+        return CursorPage.of(rows, size, u -> KeysetCursor.ofId(u.getId()));
     }
 
     /**
@@ -61,6 +96,7 @@ public class AdminService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_USER_NOT_FOUND));
         user.setActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(id, false));
     }
 
     /**
@@ -74,20 +110,22 @@ public class AdminService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_USER_NOT_FOUND));
         user.setActive(true);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserStatusChangedEvent(id, true));
     }
 
     // ---------- Organizations ----------
 
     /**
-     * Returns all organizations.
+     * Returns one page of organizations ordered by ID.
      *
-     * @return list of organization DTOs
+     * @param after cursor from the previous page (null for the first page)
+     * @param limit page size (clamped to 1..200)
+     * @return page of organization DTOs
      */
-    public List<OrganizationDTO> getAllOrganizations() {
-        return organizationRepository.findAll()
-                .stream()
-                .map(this::toOrganizationDTO)
-                .collect(Collectors.toList());
+    public CursorPage<OrganizationDTO> getOrganizations(String after, int limit) {
+        int size = clampLimit(limit);
+        List<OrganizationDTO> rows = organizationRepository.findPageById(KeysetCursor.decodeId(after), Limit.of(size + 1));
+        return CursorPage.of(rows, size, o -> KeysetCursor.ofId(o.getId()));
     }
 
     /**
@@ -96,10 +134,7 @@ public class AdminService {
      * @return list of pending organization DTOs
      */
     public List<OrganizationDTO> getPendingOrganizations() {
-        return organizationRepository.findByApprovedFalse()
-                .stream()
-                .map(this::toOrganizationDTO)
-                .collect(Collectors.toList());
+        return organizationRepository.findPendingDTOs();
     }
 
     /**
@@ -113,6 +148,7 @@ public class AdminService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_ORG_NOT_FOUND));
         org.setApproved(true);
         organizationRepository.save(org);
+        eventPublisher.publishEvent(new OrganizationUpdatedEvent(org.getId()));
     }
 
     /**
@@ -126,35 +162,111 @@ public class AdminService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_ORG_NOT_FOUND));
         org.setApproved(false);
         organizationRepository.save(org);
+        eventPublisher.publishEvent(new OrganizationUpdatedEvent(org.getId()));
         // If you intend to delete on reject, replace with: organizationRepository.delete(org);
     }
 
     // ---------- Jobs ----------
 
     /**
-     * Returns all job postings across organizations.
+     * Returns one page of job postings across organizations.
      *
-     * @return list of job posting DTOs
+     * @param after cursor from the previous page (null for the first page)
+     * @param limit page size (clamped to 1..200)
+     * @param sort  {@code id} (default, ascending) or {@code createdAt} (newest first)
+     * @return page of job posting DTOs
+     * @throws ResponseStatusException if the sort field or cursor is invalid
      */
-    public List<JobPostingDTO> getAllJobPostings() {
-        return jobPostingRepository.findAll()
-                .stream()
-                .map(this::toJobPostingDTO)
-                .collect(Collectors.toList());
+    public CursorPage<JobPostingDTO> getJobPostings(String after, int limit, String sort) {
+        int size = clampLimit(limit);
+        Limit fetch = Limit.of(size + 1);
+
+        if (sort == null || SORT_ID.equals(sort)) {
+            List<JobPostingDTO> rows = jobPostingRepository.findPageById(KeysetCursor.decodeId(after), fetch);
+            return CursorPage.of(rows, size, j -> KeysetCursor.ofId(j.getId()));
+        }
+        if (SORT_CREATED_AT.equals(sort)) {
+            KeysetCursor cursor = KeysetCursor.decodeTimestamp(after);
+            List<JobPostingDTO> rows = cursor == null
+                    ? jobPostingRepository.findFirstPageByCreatedAt(fetch)
+                    : jobPostingRepository.findPageByCreatedAt(cursor.getTimestamp(), cursor.getId(), fetch);
+            return CursorPage.of(rows, size, j -> KeysetCursor.ofTimestamp(j.getCreatedAt(), j.getId()));
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_INVALID_SORT);
     }
 
     // ---------- Applications ----------
 
     /**
-     * Returns all applications across organizations.
+     * Returns one page of applications across organizations.
      *
-     * @return list of application DTOs
+     * @param after cursor from the previous page (null for the first page)
+     * @param limit page size (clamped to 1..200)
+     * @param sort  {@code id} (default, ascending) or {@code appliedAt} (newest first)
+     * @return page of application DTOs
+     * @throws ResponseStatusException if the sort field or cursor is invalid
      */
-    public List<ApplicationDTO> getAllApplications() {
-        return applicationRepository.findAll()
-                .stream()
-                .map(this::toApplicationDTO)
-                .collect(Collectors.toList());
+    public CursorPage<ApplicationDTO> getApplications(String after, int limit, String sort) {
+        int size = clampLimit(limit);
+        Limit fetch = Limit.of(size + 1);
+
+        if (sort == null || SORT_ID.equals(sort)) {
+            List<ApplicationDTO> rows = applicationRepository.findPageById(KeysetCursor.decodeId(after), fetch);
+            return CursorPage.of(rows, size, a -> KeysetCursor.ofId(a.getId()));
+        }
+        if (SORT_APPLIED_AT.equals(sort)) {
+            KeysetCursor cursor = KeysetCursor.decodeTimestamp(after);
+            List<ApplicationDTO> rows = cursor == null
+                    ? applicationRepository.findFirstPageByAppliedAt(fetch)
+                    : applicationRepository.findPageByAppliedAt(cursor.getTimestamp(), cursor.getId(), fetch);
+            return CursorPage.of(rows, size, a -> KeysetCursor.ofTimestamp(a.getAppliedAt(), a.getId()));
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_INVALID_SORT);
+    }
+
+    /**
+     * Streams applications to the given output in constant memory.
+     *
+     * <p>Rows are read from a cursor with a JDBC fetch size and written one at a time;
+     * nothing is collected into a list. Must be called through the Spring proxy so the
+     * read-only transaction stays open while the stream is consumed.</p>
+     *
+     * @param format output format
+     * @param status optional status filter
+     * @param from   optional first submission date (inclusive)
+     * @param to     optional last submission date (inclusive)
+     * @param out    destination stream (not closed)
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public void exportApplications(ExportFormat format,
+                                   ApplicationStatus status,
+                                   LocalDate from,
+                                   LocalDate to,
+                                   OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        try (Stream<ApplicationDTO> rows = applicationRepository.streamForExport(
+                status,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null)) {
+
+            Iterator<ApplicationDTO> it = rows.iterator();
+            while (it.hasNext()) {
+                ApplicationDTO app = it.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, app);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(app));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
     }
 
     /**
@@ -165,47 +277,45 @@ public class AdminService {
      * @throws ResponseStatusException if the application does not exist
      */
     public ApplicationDTO getApplicationById(Long id) {
-        return applicationRepository.findById(id)
-                .map(this::toApplicationDTO)
+        return applicationRepository.findDTOById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_APP_NOT_FOUND));
     }
 
-    // ---------- Mappers ----------
-
-    // Maps Organization entity to DTO
-    private OrganizationDTO toOrganizationDTO(Organization org) {
-        return new OrganizationDTO(
-                org.getCompanyName(),
-                org.getIndustry(),
-                org.getLocation(),
-                org.getDescription(),
-                org.isApproved(),
-                org.getUser().getEmail()
-        );
+    // ---------- Export helpers ----------
+
+    // Writes one application as a CSV line
+    private static void writeCsvRow(Writer writer, ApplicationDTO app) throws IOException {
+        writer.write(String.valueOf(app.getId()));
+        writer.write(',');
+        writer.write(csv(app.getStudentName()));
+        writer.write(',');
+        writer.write(csv(app.getStudentEmail()));
+        writer.write(',');
+        writer.write(csv(app.getJobTitle()));
+        writer.write(',');
+        writer.write(csv(app.getOrganizationName()));
+        writer.write(',');
+        writer.write(app.getStatus());
+        writer.write(',');
+        writer.write(app.getAppliedAt() != null ? app.getAppliedAt().toString() : "");
+        writer.write('\n');
     }
 
-    // Maps JobPosting entity to DTO
-    private JobPostingDTO toJobPostingDTO(JobPosting job) {
-        return new JobPostingDTO(
-                job.getId(),
-                job.getTitle(),
-                job.getDescription(),
-                job.getSkillsRequired(),
-                job.getEligibilityCriteria(),
-                job.getCreatedAt(),
-                job.getOrganization().getCompanyName()
-        );
+    // Quotes a CSV field when it contains a separator, quote, or line break
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
     }
 
-    // Maps Application entity to DTO
-    private ApplicationDTO toApplicationDTO(Application app) {
-        return new ApplicationDTO(
-                app.getId(),
-                app.getStudent().getUser().getUsername(),
-                app.getStudent().getUser().getEmail(),
-                app.getJobPosting().getTitle(),
-                app.getJobPosting().getOrganization().getCompanyName(),
-                app.getStatus().name()
-        );
+    // ---------- Pagination helpers ----------
+
+    // Clamps a requested page size into the supported range
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
 }
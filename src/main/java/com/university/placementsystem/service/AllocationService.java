@@ -0,0 +1,323 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.allocation.StableMatcher;
+import com.university.placementsystem.dto.AllocationCandidateDTO;
+import com.university.placementsystem.dto.AllocationResultDTO;
+import com.university.placementsystem.dto.JobCountDTO;
+import com.university.placementsystem.entity.ApplicationStatus;
+import com.university.placementsystem.event.ApplicationStatusChangedEvent;
+import com.university.placementsystem.repository.ApplicationRepository;
+import com.university.placementsystem.repository.JobPostingRepository;
+import com.university.placementsystem.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * End-of-drive placement allocation: gives each student at most one offer while
+ * respecting the seat limit of every job posting.
+ *
+ * <p>Reads all SHORTLISTED applications of students who have no offer yet (one
+ * streamed projection query), with the students' preferences and the recruiters'
+ * rankings, and runs {@link StableMatcher} over primitive arrays. Unranked choices
+ * come after ranked ones; ties are broken by application ID. Seats already filled by
+ * SELECTED applications are subtracted, and postings without a seat limit can take
+ * every shortlisted applicant.</p>
+ *
+ * <p>The outcome is written in batched UPDATE statements within one transaction: the
+ * matched application of each placed student becomes SELECTED and every other
+ * considered application REJECTED. Rows whose status changed since they were read
+ * are skipped; the application counters of the affected jobs are rebuilt afterwards,
+ * and the changes are pushed to the students' application streams.
+ * A dry run computes and reports the same numbers without writing.</p>
+ *
+ * <p>Before writing, the write transaction row-locks the seat-limited postings and
+ * re-counts their SELECTED applications, then row-locks the students being placed and
+ * checks that none has been given an offer meanwhile. Manual selections take the same
+ * locks (job first, then student), so none can slip in between these checks and the
+ * commit. If anything changed since the candidates were read, nothing is written and
+ * the allocation is recomputed (up to three attempts); students who got an offer are
+ * no longer candidates then.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AllocationService {
+
+    // Data access
+    private final ApplicationRepository applicationRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final StudentRepository studentRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Per-job application counters (rebuilt for the jobs an allocation changed)
+    private final JobApplicationStatsService statsService;
+
+    // Publishes the outcome to the students' application streams
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ---- Messages / constants ----
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String MSG_ALREADY_RUNNING = "An allocation run is already in progress";
+    private static final String MSG_SELECTIONS_CHANGED = "Selections kept changing during the allocation; please retry";
+    private static final Set<ApplicationStatus> FROM_SHORTLISTED = EnumSet.of(ApplicationStatus.SHORTLISTED);
+
+    // Guards against overlapping runs
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Computes the allocation and, unless this is a dry run, writes it.
+     *
+     * @param dryRun true to only report what would change
+     * @return summary of the run
+     * @throws ResponseStatusException if another run is in progress, or if selections
+     *                                 changed the filled seats during every attempt
+     */
+    public AllocationResultDTO run(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, MSG_ALREADY_RUNNING);
+        }
+        try {
+            for (int attempt = 1; ; attempt++) {
+                AllocationResultDTO result = allocate(dryRun);
+                if (result != null) {
+                    log.info("Placement allocation {}: {}", dryRun ? "dry run" : "applied", result);
+                    return result;
+                }
+                if (attempt == MAX_ATTEMPTS) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, MSG_SELECTIONS_CHANGED);
+                }
+                log.info("Seats were filled during placement allocation; recomputing (attempt {})", attempt + 1);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Loads, matches and (unless dry run) writes; null if selections made meanwhile invalidated the match
+    private AllocationResultDTO allocate(boolean dryRun) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Candidates candidates = readOnly.execute(tx -> load());
+
+        final long started = System.nanoTime();
+        int[] placed = StableMatcher.match(candidates.studentCount, candidates.seats(),
+                candidates.studentStart, candidates.jobIndex, candidates.jobRank, candidates.applicationIds);
+        final long matchingMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Split the considered applications into the selected and the rejected ones
+        final int entryCount = candidates.entryCount;
+        boolean[] isSelected = new boolean[entryCount];
+        int selectedCount = 0;
+        for (int entry : placed) {
+            if (entry != StableMatcher.UNPLACED) {
+                isSelected[entry] = true;
+                selectedCount++;
+            }
+        }
+        long[] selected = new long[selectedCount];
+        long[] rejected = new long[entryCount - selectedCount];
+        for (int e = 0, s = 0, r = 0; e < entryCount; e++) {
+            if (isSelected[e]) {
+                selected[s++] = candidates.applicationIds[e];
+            } else {
+                rejected[r++] = candidates.applicationIds[e];
+            }
+        }
+
+        int skipped = 0;
+        if (!dryRun && entryCount > 0) {
+            long[] placedStudents = placedStudentIds(candidates, placed);
+            Integer updated = new TransactionTemplate(transactionManager).execute(tx -> {
+                if (!filledSeatsUnchanged(candidates) || !noneHasAnOffer(placedStudents)) {
+                    return null;
+                }
+                return updateInChunks(selected, ApplicationStatus.SELECTED)
+                        + updateInChunks(rejected, ApplicationStatus.REJECTED);
+            });
+            if (updated == null) {
+                return null;
+            }
+            skipped = entryCount - updated;
+            statsService.reconcile(candidates.jobIds());
+        }
+
+        return new AllocationResultDTO(dryRun, candidates.studentCount, candidates.jobCount,
+                entryCount, selectedCount, rejected.length, candidates.studentCount - selectedCount,
+                skipped, matchingMillis);
+    }
+
+    // Locks the seat-limited jobs and checks their SELECTED counts still match the loaded ones (in the write transaction)
+    private boolean filledSeatsUnchanged(Candidates candidates) {
+        List<Long> jobIds = candidates.filledAtLoad.keySet().stream().sorted().toList();
+        Map<Long, Long> filled = new HashMap<>();
+        for (int from = 0; from < jobIds.size(); from += UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = jobIds.subList(from, Math.min(jobIds.size(), from + UPDATE_CHUNK_SIZE));
+            jobPostingRepository.lockByIds(chunk);
+            for (JobCountDTO row : applicationRepository.countSelectedByJobIds(chunk)) {
+                filled.put(row.getJobId(), row.getCount());
+            }
+        }
+        for (Map.Entry<Long, Long> loaded : candidates.filledAtLoad.entrySet()) {
+            if (filled.getOrDefault(loaded.getKey(), 0L).longValue() != loaded.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Locks the given students (in ID order, chunk by chunk) and checks none holds a SELECTED application
+    private boolean noneHasAnOffer(long[] studentIds) {
+        for (int from = 0; from < studentIds.length; from += UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = Arrays.stream(studentIds, from, Math.min(studentIds.length, from + UPDATE_CHUNK_SIZE))
+                    .boxed().toList();
+            studentRepository.lockByIds(chunk);
+            if (!applicationRepository.findStudentIdsWithOffer(chunk).isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // IDs of the students the matching placed, in ascending order
+    private static long[] placedStudentIds(Candidates candidates, int[] placed) {
+        long[] ids = new long[candidates.studentCount];
+        int count = 0;
+        for (int s = 0; s < candidates.studentCount; s++) {
+            if (placed[s] != StableMatcher.UNPLACED) {
+                ids[count++] = candidates.studentIds[s];
+            }
+        }
+        long[] sorted = Arrays.copyOf(ids, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // Streams the candidate applications into primitive arrays (grouped by student, in preference order)
+    private Candidates load() {
+        Map<Long, Long> filled = new HashMap<>();
+        for (JobCountDTO row : applicationRepository.countSelectedByJob()) {
+            filled.put(row.getJobId(), row.getCount());
+        }
+
+        Candidates candidates = new Candidates();
+        Map<Long, Integer> jobIndexes = new HashMap<>();
+        long currentStudent = Long.MIN_VALUE;
+        try (Stream<AllocationCandidateDTO> rows = applicationRepository.streamAllocationCandidates()) {
+            Iterator<AllocationCandidateDTO> it = rows.iterator();
+            while (it.hasNext()) {
+                AllocationCandidateDTO row = it.next();
+                if (row.getStudentId() != currentStudent) {
+                    currentStudent = row.getStudentId();
+                    candidates.startStudent(currentStudent);
+                }
+                Integer job = jobIndexes.get(row.getJobId());
+                if (job == null) {
+                    job = jobIndexes.size();
+                    jobIndexes.put(row.getJobId(), job);
+                    long free = Integer.MAX_VALUE;
+                    if (row.getSeats() != null) {
+                        long taken = filled.getOrDefault(row.getJobId(), 0L);
+                        candidates.filledAtLoad.put(row.getJobId(), taken);
+                        free = row.getSeats() - taken;
+                    }
+                    candidates.addJob(row.getJobId(), (int) Math.max(0, free));
+                }
+                candidates.addEntry(row.getApplicationId(), job,
+                        row.getRecruiterRank() == null ? Integer.MAX_VALUE : row.getRecruiterRank());
+            }
+        }
+        candidates.finish();
+        return candidates;
+    }
+
+    // Applies a status to the given application IDs, chunk by chunk; returns the number of rows changed.
+    // Each chunk is published as one change event, delivered after the write transaction commits.
+    private int updateInChunks(long[] ids, ApplicationStatus status) {
+        int updated = 0;
+        for (int from = 0; from < ids.length; from += UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = Arrays.stream(ids, from, Math.min(ids.length, from + UPDATE_CHUNK_SIZE)).boxed().toList();
+            updated += applicationRepository.updateStatusesByIds(chunk, status, FROM_SHORTLISTED);
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(chunk));
+        }
+        return updated;
+    }
+
+    // Matcher input in CSR layout, grown while streaming
+    private static final class Candidates {
+        int studentCount;
+        int jobCount;
+        int entryCount;
+        int[] studentStart = new int[1024];
+        long[] studentIds = new long[1024];
+        int[] jobSeats = new int[256];
+        long[] jobIds = new long[256];
+        long[] applicationIds = new long[4096];
+        int[] jobIndex = new int[4096];
+        int[] jobRank = new int[4096];
+        // Seat-limited job ID -> SELECTED applications when loaded
+        final Map<Long, Long> filledAtLoad = new HashMap<>();
+
+        void startStudent(long studentId) {
+            if (studentCount + 1 == studentStart.length) {
+                studentStart = Arrays.copyOf(studentStart, studentStart.length * 2);
+                studentIds = Arrays.copyOf(studentIds, studentStart.length);
+            }
+            studentIds[studentCount] = studentId;
+            studentStart[studentCount++] = entryCount;
+        }
+
+        void addJob(long jobId, int seats) {
+            if (jobCount == jobSeats.length) {
+                jobSeats = Arrays.copyOf(jobSeats, jobCount * 2);
+                jobIds = Arrays.copyOf(jobIds, jobCount * 2);
+            }
+            jobIds[jobCount] = jobId;
+            jobSeats[jobCount++] = seats;
+        }
+
+        void addEntry(long applicationId, int job, int rank) {
+            if (entryCount == applicationIds.length) {
+                final int capacity = entryCount * 2;
+                applicationIds = Arrays.copyOf(applicationIds, capacity);
+                jobIndex = Arrays.copyOf(jobIndex, capacity);
+                jobRank = Arrays.copyOf(jobRank, capacity);
+            }
+            applicationIds[entryCount] = applicationId;
+            jobIndex[entryCount] = job;
+            jobRank[entryCount] = rank;
+            entryCount++;
+        }
+
+        // Closes the last student's range
+        void finish() {
+            studentStart[studentCount] = entryCount;
+        }
+
+        int[] seats() {
+            return Arrays.copyOf(jobSeats, jobCount);
+        }
+
+        List<Long> jobIds() {
+            return Arrays.stream(jobIds, 0, jobCount).boxed().toList();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.university.placementsystem.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+
+/**
+ * Orders supported when an organization lists the applicants of a job posting.
+ */
+public enum ApplicantSort {
+
+    // Best match first; earlier applications first on equal scores
+    SCORE,
+
+    // Earliest application first
+    APPLIED_AT;
+
+    /**
+     * Parses a sort name case-insensitively ("score", "appliedAt" or "applied_at").
+     *
+     * @param value requested sort
+     * @return matching sort
+     * @throws ResponseStatusException if the sort is not supported
+     */
+    public static ApplicantSort from(String value) {
+        if (value != null) {
+            String key = value.trim().replace("_", "").toUpperCase(Locale.ROOT);
+            for (ApplicantSort sort : values()) {
+                if (sort.name().replace("_", "").equals(key)) {
+                    return sort;
+                }
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported sort");
+    }
+}
@@ -0,0 +1,390 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.config.AsyncConfig;
+import com.university.placementsystem.dto.ApplicationSkillDTO;
+import com.university.placementsystem.dto.ScreeningCandidateDTO;
+import com.university.placementsystem.eligibility.Candidate;
+import com.university.placementsystem.eligibility.EligibilityRule;
+import com.university.placementsystem.eligibility.EligibilityRuleCompiler;
+import com.university.placementsystem.eligibility.InvalidRuleException;
+import com.university.placementsystem.entity.ApplicationStatus;
+import com.university.placementsystem.entity.ScreeningMode;
+import com.university.placementsystem.event.ApplicationStatusChangedEvent;
+import com.university.placementsystem.event.ApplicationsSubmittedEvent;
+import com.university.placementsystem.event.EligibilityRuleChangedEvent;
+import com.university.placementsystem.repository.ApplicationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Automatic screening of applications against the eligibility rule of their job posting.
+ *
+ * <p>New applications are queued after their transaction commits and screened off the
+ * request thread by one worker, which collects IDs into batches: one query loads the
+ * batch with the student attributes and job rules, and the outcome is written with
+ * one UPDATE per job and outcome. Each rule is compiled once per posting (and again
+ * only when its text changes).</p>
+ *
+ * <p>Applicants failing the rule are flagged ({@code eligible = false}); in
+ * {@link ScreeningMode#REJECT} mode those still APPLIED are also moved to REJECTED.
+ * When a rule changes, all applicants of the job are re-screened in pages that are
+ * processed in parallel. Applications rejected by an earlier rule stay rejected
+ * (REJECTED is final), but their flag is updated. Rejections are published to the
+ * students' application streams once committed.</p>
+ *
+ * <p>The worker and the re-evaluations run on {@link AsyncConfig} executors. On
+ * shutdown (after the web server has stopped taking requests) the worker screens
+ * what is still queued and running re-evaluations are awaited.</p>
+ */
+@Slf4j
+@Service
+public class ApplicationScreeningService implements SmartLifecycle {
+
+    // Data access
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // Per-job application counters
+    private final JobApplicationStatsService statsService;
+
+    // Publishes rejections to the students' application streams
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Runs re-evaluations of jobs whose rule changed (bounded), their pages, and the batching worker
+    private final TaskExecutor reevaluationExecutor;
+    private final TaskExecutor pageExecutor;
+    private final TaskExecutor workerExecutor;
+
+    // ---- Messages / constants ----
+    private static final int BATCH_SIZE = 500;
+    private static final long BATCH_WAIT_MS = 200;
+    // Stopped after the web server (so no submissions arrive once the queue is drained)
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+    private static final int QUEUE_CAPACITY = 100_000;
+    private static final int MAX_CACHED_RULES = 10_000;
+
+    // Application IDs waiting to be screened
+    private final BlockingQueue<Long> pending = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+
+    // Job ID -> compiled rule (with the text it was compiled from)
+    private final Map<Long, CompiledRule> rules = new ConcurrentHashMap<>();
+
+    // Jobs with a queued or running re-evaluation: true = (re-)run needed, false = running and current
+    private final Map<Long, Boolean> reevaluations = new ConcurrentHashMap<>();
+
+    // Whether the worker should keep waiting for new applications
+    private volatile boolean running;
+
+    // Completes when the worker has returned
+    private CompletableFuture<Void> worker;
+
+    public ApplicationScreeningService(ApplicationRepository applicationRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       JobApplicationStatsService statsService,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Qualifier(AsyncConfig.ELIGIBILITY_EXECUTOR) TaskExecutor reevaluationExecutor,
+                                       @Qualifier(AsyncConfig.ELIGIBILITY_PAGE_EXECUTOR) TaskExecutor pageExecutor,
+                                       @Qualifier(AsyncConfig.SCREENING_EXECUTOR) TaskExecutor workerExecutor) {
+        this.applicationRepository = applicationRepository;
+        this.statsService = statsService;
+        this.eventPublisher = eventPublisher;
+        this.reevaluationExecutor = reevaluationExecutor;
+        this.pageExecutor = pageExecutor;
+        this.workerExecutor = workerExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Starts the screening worker.
+     */
+    @Override
+    public void start() {
+        running = true;
+        worker = CompletableFuture.runAsync(this::runWorker, workerExecutor);
+    }
+
+    /**
+     * Stops the worker once the queued applications are screened, then waits for
+     * running re-evaluations (each bounded by the shutdown timeout).
+     */
+    @Override
+    public void stop() {
+        running = false;
+        final long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MS;
+        try {
+            worker.get(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            while (!reevaluations.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(BATCH_WAIT_MS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            log.warn("Screening did not finish before shutdown; {} application(s) left unscreened", pending.size(), ex);
+        }
+        if (!reevaluations.isEmpty()) {
+            log.warn("Re-screening of job(s) {} still running at shutdown", reevaluations.keySet());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Queues newly committed applications for screening.
+     *
+     * @param event submission event published by the student application service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsSubmitted(ApplicationsSubmittedEvent event) {
+        for (Long id : event.getApplicationIds()) {
+            if (!pending.offer(id)) {
+                // Left unscreened (eligible = null) until the job's next re-evaluation
+                log.warn("Screening queue full; application {} was not screened", id);
+            }
+        }
+    }
+
+    /**
+     * Re-screens all applicants of a job in the background after its rule changed.
+     *
+     * <p>Changes are coalesced per job: while a re-evaluation is queued, further changes
+     * add nothing (it reads the rule when it runs); while one is running, exactly one
+     * more run follows it. Re-evaluations of the same job therefore never overlap.</p>
+     *
+     * @param event change event published by the organization service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEligibilityRuleChanged(EligibilityRuleChangedEvent event) {
+        final Long jobId = event.getJobPostingId();
+        if (reevaluations.put(jobId, Boolean.TRUE) == null) {
+            reevaluationExecutor.execute(() -> runReevaluations(jobId));
+        }
+    }
+
+    /**
+     * Screens the given applications against their jobs' current rules.
+     *
+     * @param applicationIds IDs of the applications
+     * @return number of applications screened
+     */
+    public int screen(Collection<Long> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return 0;
+        }
+        return apply(applicationRepository.findScreeningCandidates(applicationIds), false);
+    }
+
+    /**
+     * Re-screens every applicant of a job, processing pages of 500 applications in parallel.
+     *
+     * <p>If the job no longer has a rule, existing flags are cleared.</p>
+     *
+     * @param jobId ID of the job posting
+     * @return number of applications screened
+     */
+    public int reevaluate(Long jobId) {
+        try {
+            List<CompletableFuture<Integer>> pages = new ArrayList<>();
+            long afterId = 0;
+            List<ScreeningCandidateDTO> page;
+            do {
+                page = applicationRepository.findScreeningCandidatesPage(jobId, afterId, Limit.of(BATCH_SIZE));
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getApplicationId();
+                final List<ScreeningCandidateDTO> candidates = page;
+                pages.add(CompletableFuture.supplyAsync(() -> apply(candidates, true), pageExecutor));
+            } while (page.size() == BATCH_SIZE);
+
+            int screened = pages.stream().mapToInt(CompletableFuture::join).sum();
+            log.info("Re-screened {} application(s) of job {}", screened, jobId);
+            return screened;
+        } catch (RuntimeException ex) {
+            log.error("Re-screening of job {} failed", jobId, ex);
+            throw ex;
+        }
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Re-evaluates a job until no change arrived since its last run, then forgets it
+    private void runReevaluations(Long jobId) {
+        do {
+            while (reevaluations.replace(jobId, Boolean.TRUE, Boolean.FALSE)) {
+                try {
+                    reevaluate(jobId);
+                } catch (RuntimeException ex) {
+                    // Already logged; the next rule change retries
+                }
+            }
+        } while (!reevaluations.remove(jobId, Boolean.FALSE));
+    }
+
+    // Takes queued IDs in batches (waiting briefly for a batch to fill) and screens them, until
+    // stopped and the queue is empty
+    private void runWorker() {
+        List<Long> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !pending.isEmpty()) {
+            try {
+                Long first = pending.poll(BATCH_WAIT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BATCH_WAIT_MS);
+                while (batch.size() < BATCH_SIZE) {
+                    pending.drainTo(batch, BATCH_SIZE - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() == BATCH_SIZE || remaining <= 0) {
+                        break;
+                    }
+                    Long next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                screen(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Screening of {} application(s) failed", batch.size(), ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Evaluates the candidates and writes the outcomes in one transaction; returns the number screened
+    private int apply(List<ScreeningCandidateDTO> candidates, boolean clearWithoutRule) {
+        Map<Long, List<ScreeningCandidateDTO>> byJob = new LinkedHashMap<>();
+        for (ScreeningCandidateDTO candidate : candidates) {
+            byJob.computeIfAbsent(candidate.getJobId(), id -> new ArrayList<>()).add(candidate);
+        }
+
+        return transactionTemplate.execute(tx -> {
+            int screened = 0;
+            // Application ID -> canonical skill names (loaded once, only if some job has a rule)
+            Map<Long, Set<String>> skills = null;
+            for (List<ScreeningCandidateDTO> jobCandidates : byJob.values()) {
+                ScreeningCandidateDTO first = jobCandidates.get(0);
+                EligibilityRule rule = ruleFor(first.getJobId(), first.getEligibilityRule());
+
+                if (rule != null && skills == null) {
+                    skills = loadSkills(candidates);
+                }
+
+                List<Long> eligible = new ArrayList<>();
+                List<Long> ineligible = new ArrayList<>();
+                for (ScreeningCandidateDTO candidate : jobCandidates) {
+                    if (rule == null || rule.test(toCandidate(candidate, skills))) {
+                        eligible.add(candidate.getApplicationId());
+                    } else {
+                        ineligible.add(candidate.getApplicationId());
+                    }
+                }
+
+                if (rule == null) {
+                    if (clearWithoutRule) {
+                        applicationRepository.updateEligibility(eligible, null);
+                    }
+                    continue;
+                }
+                if (!eligible.isEmpty()) {
+                    applicationRepository.updateEligibility(eligible, true);
+                }
+                if (!ineligible.isEmpty()) {
+                    applicationRepository.updateEligibility(ineligible, false);
+                    if (first.getScreeningMode() == ScreeningMode.REJECT) {
+                        int rejected = applicationRepository.updateStatuses(first.getJobId(), ineligible,
+                                ApplicationStatus.REJECTED, EnumSet.of(ApplicationStatus.APPLIED));
+                        statsService.record(first.getJobId(), ApplicationStatus.APPLIED,
+                                ApplicationStatus.REJECTED, rejected);
+                        if (rejected > 0) {
+                            // Delivered after commit; already rejected ones are pushed with their unchanged status
+                            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(List.copyOf(ineligible)));
+                        }
+                    }
+                }
+                screened += jobCandidates.size();
+            }
+            return screened;
+        });
+    }
+
+    // Compiled rule of a job, compiling only when the text differs from the cached one; null = no rule
+    private EligibilityRule ruleFor(Long jobId, String text) {
+        if (text == null || text.isBlank()) {
+            rules.remove(jobId);
+            return null;
+        }
+        CompiledRule cached = rules.get(jobId);
+        if (cached != null && cached.text().equals(text)) {
+            return cached.rule();
+        }
+        EligibilityRule rule;
+        try {
+            rule = EligibilityRuleCompiler.compile(text);
+        } catch (InvalidRuleException ex) {
+            // Rules are validated when saved; an invalid one (e.g. edited in the database) is not applied
+            log.warn("Ignoring invalid eligibility rule of job {}: {}", jobId, ex.getMessage());
+            return null;
+        }
+        if (rules.size() >= MAX_CACHED_RULES) {
+            rules.clear();
+        }
+        rules.put(jobId, new CompiledRule(text, rule));
+        return rule;
+    }
+
+    // Dictionary skill names of the candidates' students, by application ID
+    private Map<Long, Set<String>> loadSkills(List<ScreeningCandidateDTO> candidates) {
+        List<Long> ids = candidates.stream().map(ScreeningCandidateDTO::getApplicationId).toList();
+        Map<Long, Set<String>> skills = new HashMap<>();
+        for (ApplicationSkillDTO row : applicationRepository.findApplicantSkills(ids)) {
+            skills.computeIfAbsent(row.getApplicationId(), id -> new HashSet<>()).add(row.getSkill());
+        }
+        return skills;
+    }
+
+    private static Candidate toCandidate(ScreeningCandidateDTO row, Map<Long, Set<String>> skills) {
+        return new Candidate(row.getDegree(), row.getUniversity(), row.getGraduationYear(),
+                skills.getOrDefault(row.getApplicationId(), Set.of()));
+    }
+
+    private record CompiledRule(String text, EligibilityRule rule) {
+    }
+}
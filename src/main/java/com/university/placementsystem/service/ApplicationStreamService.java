@@ -0,0 +1,268 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.config.AsyncConfig;
+import com.university.placementsystem.dto.ApplicationUpdateDTO;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.event.ApplicationStatusChangedEvent;
+import com.university.placementsystem.event.ApplicationsWithdrawnEvent;
+import com.university.placementsystem.repository.ApplicationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes application status changes to students over Server-Sent Events.
+ *
+ * <p>Each open stream is a subscriber with a small bounded queue. Status changes are
+ * published after the recruiter's transaction commits: the changed applications are
+ * read with one projection query and offered to the queues of their students'
+ * subscribers, and a drain task on the stream executor writes them out. A subscriber
+ * whose queue is full (a slow or stalled client) is evicted; the student page
+ * ({@code student.js}) then reconnects with a fresh stream ticket (see
+ * {@link com.university.placementsystem.security.StreamTicketStore}) and reloads the
+ * list. Idle streams hold no thread
+ * (async servlet requests), and a heartbeat comment keeps proxies from closing them
+ * and detects dead connections.</p>
+ *
+ * <p>The number of streams is capped ({@code student.stream.max-subscribers}) and
+ * each student keeps at most a few; opening one more closes the student's oldest.</p>
+ */
+@Slf4j
+@Service
+public class ApplicationStreamService {
+
+    // Data access
+    private final ApplicationRepository applicationRepository;
+    private final ProfileIdResolver profileIdResolver;
+
+    // Writes queued events to the connections
+    private final TaskExecutor executor;
+
+    // Stream limits and timing
+    private final int maxSubscribers;
+    private final int maxPerStudent;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+
+    // ---- Messages / constants ----
+    private static final String MSG_TOO_MANY_STREAMS = "Too many open streams; please retry later";
+    private static final String EVENT_CONNECTED = "connected";
+    private static final String EVENT_APPLICATION = "application";
+    // Queued in place of an event to send a heartbeat comment
+    private static final Object HEARTBEAT = new Object();
+
+    // Open streams per student, oldest first
+    private final Map<Long, Deque<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    // Number of open streams
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public ApplicationStreamService(ApplicationRepository applicationRepository,
+                                    ProfileIdResolver profileIdResolver,
+                                    @Qualifier(AsyncConfig.STREAM_EXECUTOR) TaskExecutor executor,
+                                    @Value("${student.stream.max-subscribers:50000}") int maxSubscribers,
+                                    @Value("${student.stream.max-per-student:3}") int maxPerStudent,
+                                    @Value("${student.stream.queue-capacity:32}") int queueCapacity,
+                                    @Value("${student.stream.timeout:30m}") Duration timeout) {
+        this.applicationRepository = applicationRepository;
+        this.profileIdResolver = profileIdResolver;
+        this.executor = executor;
+        this.maxSubscribers = maxSubscribers;
+        this.maxPerStudent = maxPerStudent;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Opens a stream of the logged-in student's application updates.
+     *
+     * @param user logged-in student
+     * @return the SSE emitter of the stream
+     * @throws ResponseStatusException if the profile does not exist or too many streams are open
+     */
+    public SseEmitter subscribe(UserDTO user) {
+        Long studentId = profileIdResolver.resolveStudentId(user);
+
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, MSG_TOO_MANY_STREAMS);
+        }
+        Subscriber subscriber = new Subscriber(studentId, new SseEmitter(timeoutMillis), queueCapacity);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(ex -> remove(subscriber));
+
+        Deque<Subscriber> streams = subscribers.compute(studentId, (id, existing) -> {
+            Deque<Subscriber> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(subscriber);
+            return deque;
+        });
+        while (streams.size() > maxPerStudent) {
+            Subscriber oldest = streams.pollFirst();
+            if (oldest != null) {
+                evict(oldest);
+            }
+        }
+
+        enqueue(subscriber, SseEmitter.event().name(EVENT_CONNECTED).data(studentId));
+        return subscriber.emitter;
+    }
+
+    /**
+     * Pushes applications whose status changed (recruiter updates, screening rejections, allocation).
+     *
+     * @param event change event, delivered after the changing transaction committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        publish(event.getApplicationIds());
+    }
+
+    /**
+     * Pushes applications withdrawn by the one-offer policy.
+     *
+     * @param event withdrawal event, delivered after the selecting transaction committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationsWithdrawn(ApplicationsWithdrawnEvent event) {
+        publish(event.getApplicationIds());
+    }
+
+    /**
+     * Sends a heartbeat comment on every open stream.
+     */
+    @Scheduled(fixedDelayString = "${student.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        for (Deque<Subscriber> streams : subscribers.values()) {
+            for (Subscriber subscriber : streams) {
+                enqueue(subscriber, HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of open streams.
+     *
+     * @return open streams
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Loads the applications of subscribed students and queues them for their streams
+    private void publish(List<Long> applicationIds) {
+        if (applicationIds.isEmpty() || subscribers.isEmpty()) {
+            return;
+        }
+        for (ApplicationUpdateDTO update : applicationRepository.findUpdates(applicationIds)) {
+            Deque<Subscriber> streams = subscribers.get(update.getStudentId());
+            if (streams == null) {
+                continue;
+            }
+            for (Subscriber subscriber : streams) {
+                enqueue(subscriber, SseEmitter.event().name(EVENT_APPLICATION)
+                        .id(String.valueOf(update.getApplicationId())).data(update));
+            }
+        }
+    }
+
+    // Queues an event (or a heartbeat) and makes sure a drain task runs; evicts the subscriber if its queue is full
+    private void enqueue(Subscriber subscriber, Object item) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(item)) {
+            log.debug("Evicting slow application stream of student {}", subscriber.studentId);
+            evict(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    // Writes the queued items of one subscriber (one drain task per subscriber at a time)
+    private void drain(Subscriber subscriber) {
+        try {
+            Object item;
+            while ((item = subscriber.queue.poll()) != null) {
+                if (subscriber.closed.get()) {
+                    return;
+                }
+                if (item == HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send((SseEmitter.SseEventBuilder) item);
+                }
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // Client went away or the stream already completed
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An item queued after the last poll but before the flag was cleared
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    // Closes a stream on the server side
+    private void evict(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    // Forgets a stream (idempotent); returns true on the first call
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return false;
+        }
+        subscriber.queue.clear();
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.studentId, (id, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+        return true;
+    }
+
+    // One open stream
+    private static final class Subscriber {
+        final Long studentId;
+        final SseEmitter emitter;
+        // Event builders or HEARTBEAT, waiting to be written
+        final Queue<Object> queue;
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(Long studentId, SseEmitter emitter, int capacity) {
+            this.studentId = studentId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -3,11 +3,14 @@ package com.university.placementsystem.service;
 import com.university.placementsystem.dto.AuthResponse;
 import com.university.placementsystem.dto.LoginRequest;
 import com.university.placementsystem.dto.RegisterRequest;
+import com.university.placementsystem.dto.UserDTO;
 import com.university.placementsystem.entity.User;
 import com.university.placementsystem.entity.UserRole;
 import com.university.placementsystem.exception.AuthenticationException;
 import com.university.placementsystem.exception.BadRequestException;
 import com.university.placementsystem.exception.ForbiddenException;
+import com.university.placementsystem.repository.OrganizationRepository;
+import com.university.placementsystem.repository.StudentRepository;
 import com.university.placementsystem.repository.UserRepository;
 import com.university.placementsystem.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +33,8 @@ public class AuthService {
 
     // Dependencies
     private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+    private final OrganizationRepository organizationRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
 
@@ -106,15 +111,45 @@ public class AuthService {
             throw new ForbiddenException(MSG_ACCOUNT_DEACTIVATED);
         }
 
-        // Generate JWT token for the authenticated user
+        // Generate JWT token for the authenticated user (carries the profile ID if one exists)
         String token = jwtUtil.generateToken(
                 String.valueOf(user.getId()),
                 user.getEmail(),
                 user.getRole(),
-                user.getUsername()
+                user.getUsername(),
+                findProfileId(user.getId(), user.getRole())
         );
 
         // Return token + minimal user info
         return new AuthResponse(token, user.getEmail(), user.getRole().name());
     }
+
+    /**
+     * Issues a fresh token for an authenticated user that includes the given profile ID.
+     *
+     * <p>Called right after a student/organization profile is created, so subsequent
+     * requests can resolve the profile without a lookup.</p>
+     *
+     * @param user      authenticated user
+     * @param profileId newly created profile ID
+     * @return signed JWT string
+     */
+    public String issueToken(UserDTO user, Long profileId) {
+        return jwtUtil.generateToken(
+                String.valueOf(user.getId()),
+                user.getEmail(),
+                user.getRole(),
+                user.getName(),
+                profileId
+        );
+    }
+
+    // Looks up the profile ID for roles that have one (STUDENT, ORGANIZATION)
+    private Long findProfileId(Long userId, UserRole role) {
+        return switch (role) {
+            case STUDENT -> studentRepository.findIdByUserId(userId).orElse(null);
+            case ORGANIZATION -> organizationRepository.findIdByUserId(userId).orElse(null);
+            case ADMIN -> null;
+        };
+    }
 }
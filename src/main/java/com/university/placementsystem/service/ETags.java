@@ -0,0 +1,45 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.dto.ChangeStampDTO;
+
+/**
+ * Builds strong ETags from version numbers and change stamps, so conditional GETs can
+ * be answered without loading or serializing the response.
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Builds a quoted ETag from a resource name and its version components.
+     *
+     * @param resource name of the resource (e.g. {@code "applications"})
+     * @param parts    values that together change whenever the representation changes
+     * @return strong ETag, e.g. {@code "applications-3-41-7"}
+     */
+    public static String of(String resource, Object... parts) {
+        StringBuilder tag = new StringBuilder("\"").append(resource);
+        for (Object part : parts) {
+            tag.append('-').append(part == null ? 0 : part);
+        }
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Builds a quoted ETag from a resource name and a change stamp.
+     *
+     * @param resource name of the resource
+     * @param stamp    aggregate over the rows of the resource
+     * @param parts    further version components
+     * @return strong ETag
+     */
+    public static String of(String resource, ChangeStampDTO stamp, Object... parts) {
+        Object[] all = new Object[parts.length + 3];
+        all[0] = stamp.getRows();
+        all[1] = stamp.getMaxId();
+        all[2] = stamp.getVersions();
+        System.arraycopy(parts, 0, all, 3, parts.length);
+        return of(resource, all);
+    }
+}
@@ -0,0 +1,51 @@
+package com.university.placementsystem.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by streaming exports.
+ */
+public enum ExportFormat {
+
+    // Comma-separated values with a header row
+    CSV("text/csv", "csv"),
+
+    // Newline-delimited JSON, one object per line
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    /** Returns the HTTP content type of this format. */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /** Returns the file extension of this format. */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parses a format name case-insensitively.
+     *
+     * @param value requested format (e.g. "csv")
+     * @return matching format
+     * @throws ResponseStatusException if the format is not supported
+     */
+    public static ExportFormat from(String value) {
+        try {
+            return ExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unsupported export format");
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.dto.InterviewPlacementDTO;
+import com.university.placementsystem.dto.InterviewRoomRequest;
+import com.university.placementsystem.dto.InterviewScheduleResultDTO;
+import com.university.placementsystem.dto.InterviewSlotRequest;
+import com.university.placementsystem.entity.Interview;
+import com.university.placementsystem.entity.InterviewRoom;
+import com.university.placementsystem.entity.InterviewSlot;
+import com.university.placementsystem.repository.ApplicationRepository;
+import com.university.placementsystem.repository.InterviewRepository;
+import com.university.placementsystem.repository.InterviewRoomRepository;
+import com.university.placementsystem.repository.InterviewSlotRepository;
+import com.university.placementsystem.repository.StudentRepository;
+import com.university.placementsystem.scheduling.InterviewScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Interview scheduling for the placement drive.
+ *
+ * <p>Admins define rooms and non-overlapping time slots. Every SHORTLISTED application
+ * gets one interview in a (room, slot) cell, so that no room holds two interviews at
+ * once and no student, shortlisted by several organizations, is double-booked. The
+ * schedule is computed by {@link InterviewScheduler} over primitive arrays.</p>
+ *
+ * <p>Runs are incremental: interviews already in an open room and slot keep their place,
+ * and only new shortlisted applications plus the interviews of a closed slot or room are
+ * (re)placed around them. Interviews of applications that left SHORTLISTED are released
+ * first. A full re-plan recomputes every interview. The duration of each run is recorded
+ * by the {@code interviews.scheduling} timer (tag {@code mode}).</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewSchedulingService {
+
+    // Data access
+    private final InterviewRepository interviewRepository;
+    private final InterviewRoomRepository roomRepository;
+    private final InterviewSlotRepository slotRepository;
+    private final ApplicationRepository applicationRepository;
+    private final StudentRepository studentRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // ---- Messages / constants ----
+    private static final String MSG_ALREADY_RUNNING = "Interview scheduling is already in progress";
+    private static final String MSG_ROOM_EXISTS = "A room with this name already exists";
+    private static final String MSG_ROOM_NOT_FOUND = "Interview room not found";
+    private static final String MSG_SLOT_NOT_FOUND = "Interview slot not found";
+    private static final String MSG_SLOT_INVALID = "A slot must end after it starts";
+    private static final String MSG_SLOT_OVERLAP = "The slot overlaps an existing slot";
+    private static final String METRIC_NAME = "interviews.scheduling";
+
+    // Guards against overlapping runs
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Adds a room that is open for interviews.
+     *
+     * @param request room details
+     * @return ID of the new room
+     * @throws ResponseStatusException if the name is taken
+     */
+    @Transactional
+    public Long addRoom(InterviewRoomRequest request) {
+        String name = request.getName().trim();
+        if (roomRepository.existsByName(name)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, MSG_ROOM_EXISTS);
+        }
+        return roomRepository.save(InterviewRoom.builder().name(name).available(true).build()).getId();
+    }
+
+    /**
+     * Adds a time slot that is open for interviews.
+     *
+     * @param request start and end of the slot
+     * @return ID of the new slot
+     * @throws ResponseStatusException if the window is empty or overlaps an open slot
+     */
+    @Transactional
+    public Long addSlot(InterviewSlotRequest request) {
+        if (!request.getEndsAt().isAfter(request.getStartsAt())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_SLOT_INVALID);
+        }
+        if (slotRepository.existsOverlapping(request.getStartsAt(), request.getEndsAt())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, MSG_SLOT_OVERLAP);
+        }
+        return slotRepository.save(InterviewSlot.builder()
+                .startsAt(request.getStartsAt()).endsAt(request.getEndsAt()).available(true).build()).getId();
+    }
+
+    /**
+     * Schedules every shortlisted application that has no interview yet.
+     *
+     * @param replan true to recompute all interviews instead of keeping the existing ones
+     * @return summary of the run
+     * @throws ResponseStatusException if another run is in progress
+     */
+    public InterviewScheduleResultDTO schedule(boolean replan) {
+        return runExclusive(replan ? "replan" : "incremental", replan, null);
+    }
+
+    /**
+     * Closes a slot and moves its interviews elsewhere; all other interviews stay put.
+     *
+     * @param slotId ID of the slot
+     * @return summary of the rescheduling
+     * @throws ResponseStatusException if the slot does not exist or another run is in progress
+     */
+    public InterviewScheduleResultDTO closeSlot(Long slotId) {
+        return runExclusive("incremental", false, () -> slotRepository.findById(slotId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_SLOT_NOT_FOUND))
+                .setAvailable(false));
+    }
+
+    /**
+     * Closes a room and moves its interviews elsewhere; all other interviews stay put.
+     *
+     * @param roomId ID of the room
+     * @return summary of the rescheduling
+     * @throws ResponseStatusException if the room does not exist or another run is in progress
+     */
+    public InterviewScheduleResultDTO closeRoom(Long roomId) {
+        return runExclusive("incremental", false, () -> roomRepository.findById(roomId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_ROOM_NOT_FOUND))
+                .setAvailable(false));
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Applies an optional change and reschedules, in one transaction, one run at a time
+    private InterviewScheduleResultDTO runExclusive(String mode, boolean replan, Runnable change) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, MSG_ALREADY_RUNNING);
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            InterviewScheduleResultDTO result = new TransactionTemplate(transactionManager).execute(tx -> {
+                if (change != null) {
+                    change.run();
+                    slotRepository.flush();
+                    roomRepository.flush();
+                }
+                return reschedule(replan);
+            });
+            log.info("Interview scheduling ({}): {}", mode, result);
+            return result;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Time taken to build or update the interview schedule")
+                    .tag("mode", mode)
+                    .register(meterRegistry));
+            running.set(false);
+        }
+    }
+
+    // Loads the drive into arrays, runs the scheduler and writes the placed and moved interviews
+    private InterviewScheduleResultDTO reschedule(boolean replan) {
+        final int released = interviewRepository.deleteReleased();
+
+        List<InterviewSlot> slots = slotRepository.findByAvailableTrueOrderByStartsAtAscIdAsc();
+        List<InterviewRoom> rooms = roomRepository.findByAvailableTrueOrderById();
+        List<InterviewPlacementDTO> interviews = new ArrayList<>(interviewRepository.findPlacements());
+        interviews.addAll(interviewRepository.findUnscheduled());
+
+        Map<Long, Integer> slotIndex = indexOf(slots.stream().map(InterviewSlot::getId).toList());
+        Map<Long, Integer> roomIndex = indexOf(rooms.stream().map(InterviewRoom::getId).toList());
+        Map<Long, Integer> studentIndex = new HashMap<>();
+        Map<Long, Integer> organizationIndex = new HashMap<>();
+
+        final int n = interviews.size();
+        final int roomCount = rooms.size();
+        int[] student = new int[n];
+        int[] organization = new int[n];
+        int[] pinned = new int[n];
+        for (int i = 0; i < n; i++) {
+            InterviewPlacementDTO interview = interviews.get(i);
+            student[i] = studentIndex.computeIfAbsent(interview.getStudentId(), id -> studentIndex.size());
+            organization[i] = organizationIndex.computeIfAbsent(interview.getOrganizationId(), id -> organizationIndex.size());
+            Integer slot = interview.getSlotId() == null ? null : slotIndex.get(interview.getSlotId());
+            Integer room = interview.getRoomId() == null ? null : roomIndex.get(interview.getRoomId());
+            pinned[i] = replan || slot == null || room == null ? InterviewScheduler.UNSCHEDULED : slot * roomCount + room;
+        }
+        boolean[] open = new boolean[slots.size() * roomCount];
+        Arrays.fill(open, true);
+
+        final long started = System.nanoTime();
+        int[] cells = InterviewScheduler.schedule(slots.size(), roomCount, open, studentIndex.size(),
+                student, organization, pinned);
+        final long solverMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Existing interviews that changed are deleted and inserted again at their new place
+        List<Long> moved = new ArrayList<>();
+        List<Integer> toInsert = new ArrayList<>();
+        int kept = 0;
+        int unscheduled = 0;
+        for (int i = 0; i < n; i++) {
+            InterviewPlacementDTO interview = interviews.get(i);
+            if (cells[i] != InterviewScheduler.UNSCHEDULED && cells[i] == pinned[i]) {
+                kept++;
+                continue;
+            }
+            if (interview.getInterviewId() != null) {
+                moved.add(interview.getInterviewId());
+            }
+            if (cells[i] == InterviewScheduler.UNSCHEDULED) {
+                unscheduled++;
+            } else {
+                toInsert.add(i);
+            }
+        }
+
+        if (!moved.isEmpty()) {
+            interviewRepository.deleteByIds(moved);
+        }
+        List<Interview> created = new ArrayList<>(toInsert.size());
+        for (int i : toInsert) {
+            InterviewPlacementDTO interview = interviews.get(i);
+            created.add(Interview.builder()
+                    .application(applicationRepository.getReferenceById(interview.getApplicationId()))
+                    .student(studentRepository.getReferenceById(interview.getStudentId()))
+                    .slot(slots.get(cells[i] / roomCount))
+                    .room(rooms.get(cells[i] % roomCount))
+                    .build());
+        }
+        interviewRepository.saveAll(created);
+
+        return new InterviewScheduleResultDTO(kept, created.size(), unscheduled, released, solverMillis);
+    }
+
+    private static Map<Long, Integer> indexOf(List<Long> ids) {
+        Map<Long, Integer> index = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            index.put(ids.get(i), i);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,361 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.dto.JobStatsDTO;
+import com.university.placementsystem.dto.JobStatusCountDTO;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.ApplicationStatus;
+import com.university.placementsystem.entity.UserRole;
+import com.university.placementsystem.repository.ApplicationRepository;
+import com.university.placementsystem.repository.JobApplicationStatsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Per-job application counters ({@code job_application_stats}) and the recruiter dashboard.
+ *
+ * <p>Services report every application they create or move with {@link #record}. The
+ * deltas go to an in-memory buffer of striped counters ({@link LongAdder}) once the
+ * reporting transaction has committed, so concurrent applications to a popular job do
+ * not queue on one counter row. The buffer is flushed every second
+ * ({@code stats.flush-interval-ms}) with two JDBC batches: an INSERT for jobs that have
+ * no row yet and an {@code UPDATE ... set x = x + ?} for the others.</p>
+ *
+ * <p>Counters are rebuilt from {@code applications} at startup
+ * ({@code stats.reconcile-on-startup}) and, for the affected jobs, after bulk changes
+ * whose exact deltas are not known (placement allocation). The dashboard reads all
+ * postings of an organization with one indexed query and adds the deltas that are
+ * still buffered.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobApplicationStatsService implements ApplicationRunner {
+
+    // Data access
+    private final JobApplicationStatsRepository statsRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ProfileIdResolver profileIdResolver;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    // Set to false to skip rebuilding the counters at startup
+    @Value("${stats.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup;
+
+    // ---- Messages / constants ----
+    private static final String MSG_ROLE_REQUIRED = "Access denied: ORG role required";
+    private static final ApplicationStatus[] STATUSES = ApplicationStatus.values();
+    // Counter slots: one per status (by ordinal), then the total
+    private static final int TOTAL = STATUSES.length;
+    private static final int SLOTS = STATUSES.length + 1;
+    private static final String COLUMNS = "total, " + Arrays.stream(STATUSES)
+            .map(JobApplicationStatsService::column).collect(Collectors.joining(", "));
+    private static final String SQL_INSERT = "insert into job_application_stats (job_posting_id, " + COLUMNS
+            + ") values (?" + ", ?".repeat(SLOTS) + ")";
+    private static final String SQL_INCREMENT = "update job_application_stats set total = total + ?"
+            + Arrays.stream(STATUSES).map(s -> ", " + column(s) + " = " + column(s) + " + ?").collect(Collectors.joining())
+            + " where job_posting_id = ?";
+    private static final String SQL_DELETE = "delete from job_application_stats where job_posting_id = ?";
+    private static final String SQL_DELETE_ALL = "delete from job_application_stats";
+
+    // Committed deltas not yet written, per job (entries are kept and reused, never removed)
+    private final Map<Long, LongAdder[]> pending = new ConcurrentHashMap<>();
+
+    // Serializes flushes and reconciliations
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Records that applications of a job were created or changed status.
+     *
+     * <p>Inside a transaction the delta is buffered only after it commits; outside of
+     * one it is buffered immediately.</p>
+     *
+     * @param jobId ID of the job posting
+     * @param from  previous status (null for new applications)
+     * @param to    new status
+     * @param count number of applications
+     */
+    public void record(Long jobId, ApplicationStatus from, ApplicationStatus to, long count) {
+        if (count <= 0 || from == to) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(jobId, from, to, count);
+                }
+            });
+        } else {
+            add(jobId, from, to, count);
+        }
+    }
+
+    /**
+     * Writes the buffered deltas to {@code job_application_stats} in two JDBC batches.
+     *
+     * <p>Each counter is drained by subtracting the value that was read, so increments
+     * that arrive meanwhile stay in the buffer for the next flush. If the write fails,
+     * the drained deltas are put back.</p>
+     */
+    @Scheduled(fixedDelayString = "${stats.flush-interval-ms:1000}")
+    public void flush() {
+        writeLock.lock();
+        try {
+            Map<Long, long[]> drained = drain(pending.keySet());
+            if (drained.isEmpty()) {
+                return;
+            }
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(tx -> write(drained));
+            } catch (RuntimeException ex) {
+                drained.forEach(this::restore);
+                log.warn("Could not flush application counters of {} job(s); will retry", drained.size(), ex);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the counters of the given jobs from {@code applications}.
+     *
+     * <p>The applications are counted first; the deltas buffered by then belong to
+     * commits the count already saw, so they are dropped right after it. Deltas of
+     * commits that land later stay buffered for the next flush. (A delta is buffered
+     * just after its commit, so only a commit whose delta arrives in the instant
+     * between the count and the drain is still miscounted.) If the rewrite fails,
+     * the dropped deltas are put back.</p>
+     *
+     * @param jobIds IDs of the job postings
+     */
+    public void reconcile(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        recount(() -> applicationRepository.countByJobAndStatus(jobIds), () -> drain(jobIds), () -> {
+            List<Object[]> deletes = jobIds.stream().map(id -> new Object[]{id}).toList();
+            jdbcTemplate.batchUpdate(SQL_DELETE, deletes);
+        });
+    }
+
+    /**
+     * Rebuilds the counters of every job from {@code applications} (see {@link #reconcile}).
+     */
+    public void reconcileAll() {
+        recount(applicationRepository::countByJobAndStatus, () -> drain(pending.keySet()),
+                () -> jdbcTemplate.update(SQL_DELETE_ALL));
+    }
+
+    /**
+     * Rebuilds all counters at startup (see {@code stats.reconcile-on-startup}).
+     *
+     * @param args application arguments (unused)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (reconcileOnStartup) {
+            final long started = System.nanoTime();
+            reconcileAll();
+            log.info("Rebuilt application counters in {} ms", (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    /**
+     * Writes the remaining deltas on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Returns the application counters of every posting of the logged-in organization.
+     *
+     * @param orgUser authenticated organization user
+     * @return one entry per job posting, newest posting first
+     * @throws ResponseStatusException if the role is wrong or the profile does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<JobStatsDTO> getDashboard(UserDTO orgUser) {
+        if (orgUser.getRole() != UserRole.ORGANIZATION) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_ROLE_REQUIRED);
+        }
+        Long organizationId = profileIdResolver.resolveOrganizationId(orgUser);
+
+        List<JobStatsDTO> stats = statsRepository.findByOrganization(organizationId);
+        for (JobStatsDTO job : stats) {
+            LongAdder[] counters = pending.get(job.getJobId());
+            if (counters != null) {
+                job.setTotal(job.getTotal() + counters[TOTAL].sum());
+                job.setApplied(job.getApplied() + counters[ApplicationStatus.APPLIED.ordinal()].sum());
+                job.setShortlisted(job.getShortlisted() + counters[ApplicationStatus.SHORTLISTED.ordinal()].sum());
+                job.setSelected(job.getSelected() + counters[ApplicationStatus.SELECTED.ordinal()].sum());
+                job.setRejected(job.getRejected() + counters[ApplicationStatus.REJECTED.ordinal()].sum());
+                job.setWithdrawn(job.getWithdrawn() + counters[ApplicationStatus.WITHDRAWN.ordinal()].sum());
+            }
+        }
+        return stats;
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Counts, drops the deltas the count includes, then replaces the counter rows, in one transaction
+    private void recount(Supplier<List<JobStatusCountDTO>> count, Supplier<Map<Long, long[]>> drain,
+                         Runnable deleteRows) {
+        writeLock.lock();
+        try {
+            Map<Long, long[]> dropped = new HashMap<>();
+            try {
+                new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+                    List<JobStatusCountDTO> counts = count.get();
+                    dropped.putAll(drain.get());
+                    deleteRows.run();
+                    insertCounts(counts);
+                });
+            } catch (RuntimeException ex) {
+                dropped.forEach(this::restore);
+                throw ex;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Adds a committed delta to the buffer
+    private void add(Long jobId, ApplicationStatus from, ApplicationStatus to, long count) {
+        LongAdder[] counters = pending.computeIfAbsent(jobId, id -> newCounters());
+        if (from == null) {
+            counters[TOTAL].add(count);
+        } else {
+            counters[from.ordinal()].add(-count);
+        }
+        counters[to.ordinal()].add(count);
+    }
+
+    // Takes the current deltas of the given jobs out of the buffer (jobs without any delta are left out)
+    private Map<Long, long[]> drain(Collection<Long> jobIds) {
+        Map<Long, long[]> drained = new HashMap<>();
+        for (Long jobId : jobIds) {
+            LongAdder[] counters = pending.get(jobId);
+            if (counters == null) {
+                continue;
+            }
+            long[] deltas = new long[SLOTS];
+            boolean changed = false;
+            for (int i = 0; i < SLOTS; i++) {
+                deltas[i] = counters[i].sum();
+                counters[i].add(-deltas[i]);
+                changed |= deltas[i] != 0;
+            }
+            if (changed) {
+                drained.put(jobId, deltas);
+            }
+        }
+        return drained;
+    }
+
+    // Puts deltas that could not be written back into the buffer
+    private void restore(Long jobId, long[] deltas) {
+        LongAdder[] counters = pending.computeIfAbsent(jobId, id -> newCounters());
+        for (int i = 0; i < SLOTS; i++) {
+            counters[i].add(deltas[i]);
+        }
+    }
+
+    // Inserts rows for jobs that have none and increments the others
+    private void write(Map<Long, long[]> drained) {
+        Set<Long> existing = statsRepository.findExistingIds(drained.keySet());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> increments = new ArrayList<>();
+        for (Map.Entry<Long, long[]> entry : drained.entrySet()) {
+            if (existing.contains(entry.getKey())) {
+                increments.add(incrementArgs(entry.getKey(), entry.getValue()));
+            } else {
+                inserts.add(insertArgs(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INSERT, inserts);
+        }
+        if (!increments.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_INCREMENT, increments);
+        }
+    }
+
+    // Inserts one row per job from GROUP BY counts
+    private void insertCounts(List<JobStatusCountDTO> counts) {
+        Map<Long, long[]> rows = new HashMap<>();
+        for (JobStatusCountDTO count : counts) {
+            long[] row = rows.computeIfAbsent(count.getJobId(), id -> new long[SLOTS]);
+            row[count.getStatus().ordinal()] += count.getCount();
+            row[TOTAL] += count.getCount();
+        }
+        List<Object[]> inserts = new ArrayList<>(rows.size());
+        rows.forEach((jobId, row) -> inserts.add(insertArgs(jobId, row)));
+        jdbcTemplate.batchUpdate(SQL_INSERT, inserts);
+    }
+
+    // Parameters of SQL_INSERT: job ID, total, one value per status
+    private static Object[] insertArgs(Long jobId, long[] values) {
+        Object[] args = new Object[SLOTS + 1];
+        args[0] = jobId;
+        args[1] = values[TOTAL];
+        for (int i = 0; i < STATUSES.length; i++) {
+            args[i + 2] = values[i];
+        }
+        return args;
+    }
+
+    // Parameters of SQL_INCREMENT: total, one value per status, job ID
+    private static Object[] incrementArgs(Long jobId, long[] deltas) {
+        Object[] args = new Object[SLOTS + 1];
+        args[0] = deltas[TOTAL];
+        for (int i = 0; i < STATUSES.length; i++) {
+            args[i + 1] = deltas[i];
+        }
+        args[SLOTS] = jobId;
+        return args;
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    // Counter column of a status
+    private static String column(ApplicationStatus status) {
+        return status.name().toLowerCase(Locale.ROOT);
+    }
+}
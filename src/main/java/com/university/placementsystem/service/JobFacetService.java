@@ -0,0 +1,172 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.config.AsyncConfig;
+import com.university.placementsystem.dto.CursorPage;
+import com.university.placementsystem.dto.JobFacetResultDTO;
+import com.university.placementsystem.dto.JobFacetSourceDTO;
+import com.university.placementsystem.dto.JobSummaryDTO;
+import com.university.placementsystem.event.JobPostingCreatedEvent;
+import com.university.placementsystem.event.OrganizationUpdatedEvent;
+import com.university.placementsystem.repository.JobPostingRepository;
+import com.university.placementsystem.repository.OrganizationRepository;
+import com.university.placementsystem.search.FacetField;
+import com.university.placementsystem.search.JobFacetIndex;
+import com.university.placementsystem.search.RebuildableIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Faceted filtering of job postings by industry, location and skill, with counts.
+ *
+ * <p>Filters and counts are answered from an in-memory {@link JobFacetIndex}; only
+ * the job IDs of the requested page are loaded from the database. The index is rebuilt
+ * in the background at startup and kept current from {@link JobPostingCreatedEvent}s
+ * and {@link OrganizationUpdatedEvent}s; changes that arrive during a rebuild are
+ * replayed onto the new index before it is swapped in.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobFacetService {
+
+    // Data access
+    private final JobPostingRepository jobPostingRepository;
+    private final OrganizationRepository organizationRepository;
+
+    // Rebuild timings
+    private final MeterRegistry meterRegistry;
+
+    // ---- Messages / constants ----
+    private static final String METRIC_REBUILD = "search.index.rebuild";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int TOP_VALUES_PER_FACET = 20;
+    private static final int REBUILD_BATCH_SIZE = 5000;
+
+    // Current index, with the changes received during a rebuild replayed onto its replacement
+    private final RebuildableIndex<JobFacetIndex> index = new RebuildableIndex<>(new JobFacetIndex());
+
+    /**
+     * Filters job postings of approved organizations and counts facet values.
+     *
+     * @param filters selected values per facet (values of one facet are OR-ed, facets are AND-ed)
+     * @param after   cursor from the previous page (null for the first page)
+     * @param limit   page size (clamped to 1..100)
+     * @return total, facet counts and one page of matching jobs (newest first)
+     * @throws ResponseStatusException if the cursor is invalid
+     */
+    public JobFacetResultDTO search(Map<FacetField, ? extends Collection<String>> filters, String after, int limit) {
+        final int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        final long afterId = KeysetCursor.decodeId(after);
+
+        JobFacetIndex.Result result = index.get().search(filters, afterId == 0 ? null : afterId, size, TOP_VALUES_PER_FACET);
+
+        Map<Long, JobSummaryDTO> byId = result.getJobIds().isEmpty()
+                ? Map.of()
+                : jobPostingRepository.findSummariesByIds(result.getJobIds()).stream()
+                        .collect(Collectors.toMap(JobSummaryDTO::getId, Function.identity()));
+        List<JobSummaryDTO> items = result.getJobIds().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        String nextCursor = result.isHasMore() && !result.getJobIds().isEmpty()
+                ? KeysetCursor.ofId(result.getJobIds().get(result.getJobIds().size() - 1))
+                : null;
+
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        result.getCounts().forEach((field, counts) -> facets.put(field.getParamName(), counts));
+
+        return new JobFacetResultDTO(result.getTotal(), facets, new CursorPage<>(items, nextCursor));
+    }
+
+    /**
+     * Rebuilds the index in the background once the application is up.
+     */
+    @Async(AsyncConfig.INDEX_REBUILD_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Adds a newly committed job posting to the index.
+     *
+     * @param event creation event published by the organization service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostingCreated(JobPostingCreatedEvent event) {
+        jobPostingRepository.findFacetSourceById(event.getJobPostingId())
+                .ifPresent(source -> index.apply(target -> add(target, source)));
+    }
+
+    /**
+     * Moves an organization's postings to its new industry/location/approval state.
+     *
+     * @param event update event published by the organization and admin services
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationUpdated(OrganizationUpdatedEvent event) {
+        organizationRepository.findById(event.getOrganizationId())
+                .ifPresent(org -> index.apply(target -> target.putOrganization(
+                        org.getId(), org.getIndustry(), org.getLocation(), org.isApproved())));
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Rebuilds the index from the database and swaps it in (timed, tagged with the outcome)
+    private void rebuild() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            index.rebuild(this::load);
+            result = "success";
+            log.info("Job facet index rebuilt");
+        } catch (RuntimeException ex) {
+            log.error("Job facet index rebuild failed; keeping the current index", ex);
+        } finally {
+            sample.stop(Timer.builder(METRIC_REBUILD)
+                    .description("Time taken to rebuild an in-memory job index")
+                    .tag("index", "facet")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    // Reads all postings page by page into a fresh index
+    private JobFacetIndex load() {
+        JobFacetIndex fresh = new JobFacetIndex();
+        long afterId = 0;
+        List<JobFacetSourceDTO> page;
+        do {
+            page = jobPostingRepository.findFacetSourcesPage(afterId, Limit.of(REBUILD_BATCH_SIZE));
+            for (JobFacetSourceDTO source : page) {
+                add(fresh, source);
+                afterId = source.getJobId();
+            }
+        } while (page.size() == REBUILD_BATCH_SIZE);
+        return fresh;
+    }
+
+    private static void add(JobFacetIndex target, JobFacetSourceDTO source) {
+        target.putOrganization(source.getOrganizationId(), source.getIndustry(), source.getLocation(), source.isApproved());
+        target.addJob(source.getJobId(), source.getOrganizationId(), source.getSkillsRequired());
+    }
+}
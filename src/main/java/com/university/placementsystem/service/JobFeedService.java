@@ -0,0 +1,222 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.dto.CursorPage;
+import com.university.placementsystem.dto.JobPostingDTO;
+import com.university.placementsystem.dto.JobSummaryDTO;
+import com.university.placementsystem.event.JobPostingCreatedEvent;
+import com.university.placementsystem.event.OrganizationUpdatedEvent;
+import com.university.placementsystem.repository.JobPostingRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Job feed for students: approved organizations' postings, newest first, with cursor pagination.
+ *
+ * <p>Pages are served from an in-memory cache keyed by (cursor, page size). Concurrent
+ * misses for the same page share one database query, so a burst of students opening the
+ * feed after a big posting costs a single SELECT per page. The cache is dropped when a
+ * job posting is created or an organization changes, and entries also expire after
+ * {@code student.job-feed.cache-ttl}, which bounds staleness from changes made elsewhere.
+ * When {@code student.job-feed.cache.max-pages} pages are cached, a new page first
+ * evicts the expired ones and then the oldest, so hot pages keep being admitted.</p>
+ *
+ * <p>Hit/miss counts are published as {@code student.job-feed.cache} counters.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class JobFeedService {
+
+    // Data access and metrics
+    private final JobPostingRepository jobPostingRepository;
+    private final MeterRegistry meterRegistry;
+
+    // ---- Messages / constants ----
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String MSG_JOB_NOT_FOUND = "Job posting not found";
+
+    // How long a cached page may be served
+    @Value("${student.job-feed.cache-ttl:30s}")
+    private Duration cacheTtl;
+
+    // Maximum number of cached pages (when full, expired and then the oldest pages make room)
+    @Value("${student.job-feed.cache.max-pages:256}")
+    private int maxCachedPages;
+
+    // (cursor, size) -> page being loaded or loaded
+    private final Map<PageKey, CachedPage> pages = new ConcurrentHashMap<>();
+
+    // Counters
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Registers cache metrics.
+     */
+    @PostConstruct
+    void registerMetrics() {
+        FunctionCounter.builder("student.job-feed.cache", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("student.job-feed.cache", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("student.job-feed.cache.size", pages, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns one page of the job feed, newest postings first.
+     *
+     * @param after cursor from the previous page (null for the first page)
+     * @param limit page size (clamped to 1..100)
+     * @return page of job summaries
+     * @throws ResponseStatusException if the cursor is invalid
+     */
+    public CursorPage<JobSummaryDTO> getFeed(String after, int limit) {
+        final int size = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        final PageKey key = new PageKey(after, size);
+        final long now = System.nanoTime();
+
+        CachedPage cached = pages.get(key);
+        if (cached != null && !cached.isExpiredAt(now)) {
+            hits.increment();
+            return join(cached.page);
+        }
+
+        misses.increment();
+        if (cached == null && pages.size() >= maxCachedPages) {
+            evict(now);
+        }
+
+        // Publish the future before querying so concurrent misses wait on it instead of querying too
+        CachedPage mine = new CachedPage(new CompletableFuture<>(), now + cacheTtl.toNanos());
+        CachedPage winner = cached == null
+                ? pages.putIfAbsent(key, mine)
+                : (pages.replace(key, cached, mine) ? null : pages.get(key));
+        if (winner != null) {
+            return join(winner.page);
+        }
+
+        try {
+            mine.page.complete(loadPage(after, size));
+        } catch (RuntimeException ex) {
+            pages.remove(key, mine);
+            mine.page.completeExceptionally(ex);
+        }
+        return join(mine.page);
+    }
+
+    /**
+     * Returns the full details of a job posting (including its description).
+     *
+     * @param jobId ID of the job posting
+     * @return job posting DTO
+     * @throws ResponseStatusException if the job does not exist or its organization is not approved
+     */
+    public JobPostingDTO getJob(Long jobId) {
+        return jobPostingRepository.findApprovedDTOById(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_JOB_NOT_FOUND));
+    }
+
+    /**
+     * Drops all cached pages once a new posting has been committed.
+     *
+     * @param event creation event published by the organization service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostingCreated(JobPostingCreatedEvent event) {
+        pages.clear();
+    }
+
+    /**
+     * Drops all cached pages once an organization's profile or approval has changed.
+     *
+     * @param event update event published by the organization and admin services
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationUpdated(OrganizationUpdatedEvent event) {
+        pages.clear();
+    }
+
+    /** Returns the number of cache hits so far. */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** Returns the number of cache misses so far. */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Drops expired pages, then the oldest ones until the cache is back under 90% of its bound
+    private synchronized void evict(long now) {
+        if (pages.size() < maxCachedPages) {
+            return; // another thread already made room
+        }
+        pages.values().removeIf(p -> p.isExpiredAt(now));
+
+        final int excess = pages.size() - (int) (maxCachedPages * 0.9);
+        if (excess > 0) {
+            pages.entrySet().stream()
+                    .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt() - now))
+                    .limit(excess)
+                    .toList()
+                    .forEach(e -> pages.remove(e.getKey(), e.getValue()));
+        }
+    }
+
+    // One keyset query (size + 1 rows, the extra one only signals a next page)
+    private CursorPage<JobSummaryDTO> loadPage(String after, int size) {
+        KeysetCursor cursor = KeysetCursor.decodeTimestamp(after);
+        Limit fetch = Limit.of(size + 1);
+        List<JobSummaryDTO> rows = cursor == null
+                ? jobPostingRepository.findFirstFeedPage(fetch)
+                : jobPostingRepository.findFeedPage(cursor.getTimestamp(), cursor.getId(), fetch);
+        return CursorPage.of(rows, size, j -> KeysetCursor.ofTimestamp(j.getCreatedAt(), j.getId()));
+    }
+
+    // Waits for a (possibly shared) load, rethrowing its original exception
+    private static CursorPage<JobSummaryDTO> join(CompletableFuture<CursorPage<JobSummaryDTO>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    // Cache key: cursor (null for the first page) and page size
+    private record PageKey(String after, int size) {
+    }
+
+    // A page load and the time (System.nanoTime) after which it must be reloaded
+    private record CachedPage(CompletableFuture<CursorPage<JobSummaryDTO>> page, long expiresAt) {
+
+        boolean isExpiredAt(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
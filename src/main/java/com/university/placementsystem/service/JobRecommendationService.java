@@ -0,0 +1,197 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.config.AsyncConfig;
+import com.university.placementsystem.dto.JobRecommendationDTO;
+import com.university.placementsystem.dto.JobRecommendationSourceDTO;
+import com.university.placementsystem.dto.JobSkillLinkDTO;
+import com.university.placementsystem.dto.JobSummaryDTO;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.event.JobPostingCreatedEvent;
+import com.university.placementsystem.event.OrganizationUpdatedEvent;
+import com.university.placementsystem.repository.ApplicationRepository;
+import com.university.placementsystem.repository.JobPostingRepository;
+import com.university.placementsystem.repository.OrganizationRepository;
+import com.university.placementsystem.repository.StudentRepository;
+import com.university.placementsystem.search.GraduationYearRange;
+import com.university.placementsystem.search.JobRecommendationIndex;
+import com.university.placementsystem.search.RebuildableIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Skill-based job recommendations for students.
+ *
+ * <p>Postings are ranked by an in-memory {@link JobRecommendationIndex} (weighted
+ * skill overlap plus graduation-year eligibility); only the student's skills and
+ * applications and the top postings are read from the database per request. Jobs the
+ * student has already applied for are left out.</p>
+ *
+ * <p>The index is rebuilt in the background at startup and kept current from
+ * {@link JobPostingCreatedEvent}s and {@link OrganizationUpdatedEvent}s; changes that
+ * arrive during a rebuild are replayed onto the new index before it is swapped in.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobRecommendationService {
+
+    // Data access
+    private final JobPostingRepository jobPostingRepository;
+    private final OrganizationRepository organizationRepository;
+    private final StudentRepository studentRepository;
+    private final ApplicationRepository applicationRepository;
+    private final ProfileIdResolver profileIdResolver;
+
+    // Rebuild timings
+    private final MeterRegistry meterRegistry;
+
+    // ---- Messages / constants ----
+    private static final String METRIC_REBUILD = "search.index.rebuild";
+    public static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+    private static final int REBUILD_BATCH_SIZE = 5000;
+    private static final String MSG_STUDENT_NOT_FOUND = "Student profile not found";
+
+    // Current index, with the changes received during a rebuild replayed onto its replacement
+    private final RebuildableIndex<JobRecommendationIndex> index = new RebuildableIndex<>(new JobRecommendationIndex());
+
+    /**
+     * Recommends open job postings to the logged-in student.
+     *
+     * @param user  authenticated student
+     * @param limit maximum number of results (clamped to 1..50)
+     * @return recommended jobs, best match first (empty if the student lists no skills)
+     * @throws ResponseStatusException if the student profile does not exist
+     */
+    public List<JobRecommendationDTO> recommend(UserDTO user, int limit) {
+        final int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        final Long studentId = profileIdResolver.resolveStudentId(user);
+        final Integer graduationYear = studentRepository.findGraduationYear(studentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_STUDENT_NOT_FOUND));
+
+        Set<Integer> skills = studentRepository.findSkillIds(studentId);
+        if (skills.isEmpty()) {
+            return List.of();
+        }
+        List<JobRecommendationIndex.Hit> hits = index.get().recommend(
+                skills, graduationYear, applicationRepository.findAllAppliedJobIds(studentId), size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, JobSummaryDTO> byId = jobPostingRepository
+                .findSummariesByIds(hits.stream().map(JobRecommendationIndex.Hit::getJobId).toList()).stream()
+                .collect(Collectors.toMap(JobSummaryDTO::getId, Function.identity()));
+        List<JobRecommendationDTO> results = new ArrayList<>(hits.size());
+        for (JobRecommendationIndex.Hit hit : hits) {
+            JobSummaryDTO job = byId.get(hit.getJobId());
+            if (job != null) {
+                results.add(new JobRecommendationDTO(job, hit.getScore()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Rebuilds the index in the background once the application is up.
+     */
+    @Async(AsyncConfig.INDEX_REBUILD_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Adds a newly committed job posting to the index.
+     *
+     * @param event creation event published by the organization service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostingCreated(JobPostingCreatedEvent event) {
+        jobPostingRepository.findRecommendationSourceById(event.getJobPostingId()).ifPresent(source -> {
+            Set<Integer> skills = jobPostingRepository.findSkillIds(source.getJobId());
+            index.apply(target -> add(target, source, skills));
+        });
+    }
+
+    /**
+     * Shows or hides an organization's postings after an approval change.
+     *
+     * @param event update event published by the organization and admin services
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationUpdated(OrganizationUpdatedEvent event) {
+        organizationRepository.findById(event.getOrganizationId())
+                .ifPresent(org -> index.apply(target -> target.putOrganization(org.getId(), org.isApproved())));
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Rebuilds the index from the database and swaps it in (timed, tagged with the outcome)
+    private void rebuild() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            JobRecommendationIndex rebuilt = index.rebuild(this::load);
+            result = "success";
+            log.info("Job recommendation index rebuilt: {} posting(s)", rebuilt.size());
+        } catch (RuntimeException ex) {
+            log.error("Job recommendation index rebuild failed; keeping the current index", ex);
+        } finally {
+            sample.stop(Timer.builder(METRIC_REBUILD)
+                    .description("Time taken to rebuild an in-memory job index")
+                    .tag("index", "recommendation")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    // Reads all postings and their skill links page by page into a fresh index
+    private JobRecommendationIndex load() {
+        JobRecommendationIndex fresh = new JobRecommendationIndex();
+        long afterId = 0;
+        List<JobRecommendationSourceDTO> page;
+        do {
+            page = jobPostingRepository.findRecommendationSourcesPage(afterId, Limit.of(REBUILD_BATCH_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+            final long lastId = page.get(page.size() - 1).getJobId();
+            Map<Long, List<Integer>> skillsByJob = new HashMap<>();
+            for (JobSkillLinkDTO link : jobPostingRepository.findSkillLinks(afterId, lastId)) {
+                skillsByJob.computeIfAbsent(link.getJobId(), id -> new ArrayList<>()).add(link.getSkillId());
+            }
+            for (JobRecommendationSourceDTO source : page) {
+                add(fresh, source, skillsByJob.getOrDefault(source.getJobId(), List.of()));
+            }
+            afterId = lastId;
+        } while (page.size() == REBUILD_BATCH_SIZE);
+        return fresh;
+    }
+
+    private static void add(JobRecommendationIndex target, JobRecommendationSourceDTO source,
+                            Collection<Integer> skills) {
+        target.putOrganization(source.getOrganizationId(), source.isApproved());
+        target.addJob(source.getJobId(), source.getOrganizationId(), skills,
+                GraduationYearRange.parse(source.getEligibilityCriteria()));
+    }
+}
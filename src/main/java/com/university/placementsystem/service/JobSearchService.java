@@ -0,0 +1,173 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.config.AsyncConfig;
+import com.university.placementsystem.dto.JobSearchSourceDTO;
+import com.university.placementsystem.dto.JobSummaryDTO;
+import com.university.placementsystem.event.JobPostingCreatedEvent;
+import com.university.placementsystem.event.OrganizationUpdatedEvent;
+import com.university.placementsystem.repository.JobPostingRepository;
+import com.university.placementsystem.repository.OrganizationRepository;
+import com.university.placementsystem.search.JobSearchIndex;
+import com.university.placementsystem.search.RebuildableIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over job postings (title, skills and description).
+ *
+ * <p>Queries are answered from an in-memory {@link JobSearchIndex} instead of
+ * {@code LIKE '%x%'} scans over the TEXT column. The index knows which organizations
+ * are approved and ranks only their postings, so exactly {@code limit} hits are
+ * taken; only those IDs are then loaded, in one query.</p>
+ *
+ * <p>The index is rebuilt from the database in the background at startup and kept
+ * current from {@link JobPostingCreatedEvent}s and {@link OrganizationUpdatedEvent}s;
+ * changes that arrive while a rebuild is running are replayed onto the new index
+ * before it is swapped in.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobSearchService {
+
+    // Data access
+    private final JobPostingRepository jobPostingRepository;
+    private final OrganizationRepository organizationRepository;
+
+    // Rebuild timings
+    private final MeterRegistry meterRegistry;
+
+    // ---- Messages / constants ----
+    private static final String METRIC_REBUILD = "search.index.rebuild";
+    public static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final String MSG_QUERY_REQUIRED = "Search query is required";
+    private static final String MSG_QUERY_TOO_LONG = "Search query is too long";
+
+    // Current index, with the changes received during a rebuild replayed onto its replacement
+    private final RebuildableIndex<JobSearchIndex> index = new RebuildableIndex<>(new JobSearchIndex());
+
+    /**
+     * Searches job postings of approved organizations.
+     *
+     * @param query free-text query
+     * @param limit maximum number of results (clamped to 1..100)
+     * @return matching jobs, most relevant first
+     * @throws ResponseStatusException if the query is blank or too long
+     */
+    public List<JobSummaryDTO> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_QUERY_REQUIRED);
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_QUERY_TOO_LONG);
+        }
+        final int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        List<JobSearchIndex.Hit> hits = index.get().search(query, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(JobSearchIndex.Hit::getJobId).collect(Collectors.toList());
+        Map<Long, JobSummaryDTO> byId = jobPostingRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(JobSummaryDTO::getId, Function.identity()));
+
+        // A posting deleted (or an organization unapproved) since the hit was ranked is missing
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Rebuilds the index in the background once the application is up.
+     */
+    @Async(AsyncConfig.INDEX_REBUILD_EXECUTOR)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Adds a newly committed job posting to the index.
+     *
+     * @param event creation event published by the organization service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobPostingCreated(JobPostingCreatedEvent event) {
+        jobPostingRepository.findSearchSourceById(event.getJobPostingId())
+                .ifPresent(source -> index.apply(target -> add(target, source)));
+    }
+
+    /**
+     * Shows or hides an organization's postings after an approval change.
+     *
+     * @param event update event published by the organization and admin services
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationUpdated(OrganizationUpdatedEvent event) {
+        organizationRepository.findById(event.getOrganizationId())
+                .ifPresent(org -> index.apply(target -> target.putOrganization(org.getId(), org.isApproved())));
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Rebuilds the index from the database and swaps it in (timed, tagged with the outcome)
+    private void rebuild() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            JobSearchIndex rebuilt = index.rebuild(this::load);
+            result = "success";
+            log.info("Job search index rebuilt: {} posting(s)", rebuilt.size());
+        } catch (RuntimeException ex) {
+            log.error("Job search index rebuild failed; keeping the current index", ex);
+        } finally {
+            sample.stop(Timer.builder(METRIC_REBUILD)
+                    .description("Time taken to rebuild an in-memory job index")
+                    .tag("index", "search")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    // Reads all postings page by page into a fresh index
+    private JobSearchIndex load() {
+        JobSearchIndex fresh = new JobSearchIndex();
+        long afterId = 0;
+        List<JobSearchSourceDTO> page;
+        do {
+            page = jobPostingRepository.findSearchSourcesPage(afterId, Limit.of(REBUILD_BATCH_SIZE));
+            for (JobSearchSourceDTO source : page) {
+                add(fresh, source);
+                afterId = source.getJobId();
+            }
+        } while (page.size() == REBUILD_BATCH_SIZE);
+        return fresh;
+    }
+
+    private static void add(JobSearchIndex target, JobSearchSourceDTO source) {
+        target.putOrganization(source.getOrganizationId(), source.isApproved());
+        target.add(source.getJobId(), source.getOrganizationId(),
+                source.getTitle(), source.getSkillsRequired(), source.getDescription());
+    }
+}
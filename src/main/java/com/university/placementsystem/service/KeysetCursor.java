@@ -0,0 +1,115 @@
+package com.university.placementsystem.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination.
+ *
+ * <p>Encodes the sort key of the last row of a page: either its ID alone, or a
+ * timestamp plus the ID as a tie-breaker. Clients treat the value as opaque.</p>
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    private static final String MSG_INVALID_CURSOR = "Invalid cursor";
+    private static final String ID_PREFIX = "i:";
+    private static final String TIME_PREFIX = "t:";
+
+    // Timestamp of the last row (null for ID-ordered listings)
+    private final LocalDateTime timestamp;
+
+    // ID of the last row
+    private final long id;
+
+    /**
+     * Encodes a cursor for an ID-ordered listing.
+     *
+     * @param id ID of the last row of the page
+     * @return opaque cursor string
+     */
+    public static String ofId(long id) {
+        return encode(ID_PREFIX + id);
+    }
+
+    /**
+     * Encodes a cursor for a timestamp-ordered listing.
+     *
+     * @param timestamp timestamp of the last row of the page
+     * @param id        ID of the last row (tie-breaker)
+     * @return opaque cursor string
+     */
+    public static String ofTimestamp(LocalDateTime timestamp, long id) {
+        return encode(TIME_PREFIX + timestamp + "|" + id);
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #ofId(long)}.
+     *
+     * @param cursor opaque cursor, or null for the first page
+     * @return the last seen ID, or 0 for the first page
+     * @throws ResponseStatusException if the cursor is malformed
+     */
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        String raw = decode(cursor);
+        if (!raw.startsWith(ID_PREFIX)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_INVALID_CURSOR);
+        }
+        try {
+            return Long.parseLong(raw.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #ofTimestamp(LocalDateTime, long)}.
+     *
+     * @param cursor opaque cursor, or null for the first page
+     * @return decoded cursor, or null for the first page
+     * @throws ResponseStatusException if the cursor is malformed
+     */
+    public static KeysetCursor decodeTimestamp(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String raw = decode(cursor);
+        int sep = raw.lastIndexOf('|');
+        if (!raw.startsWith(TIME_PREFIX) || sep < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_INVALID_CURSOR);
+        }
+        try {
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(TIME_PREFIX.length(), sep)),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_INVALID_CURSOR);
+        }
+    }
+
+    // ---- Private helpers ----
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_INVALID_CURSOR);
+        }
+    }
+}
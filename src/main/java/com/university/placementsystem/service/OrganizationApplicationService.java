@@ -1,20 +1,53 @@
 package com.university.placementsystem.service;
 
+import com.university.placementsystem.dto.ApplicantDTO;
+import com.university.placementsystem.dto.ApplicationCountDTO;
+import com.university.placementsystem.dto.InterviewDTO;
+import com.university.placementsystem.dto.StatusUpdateOutcome;
 import com.university.placementsystem.dto.UserDTO;
 import com.university.placementsystem.entity.*;
+import com.university.placementsystem.event.ApplicationStatusChangedEvent;
+import com.university.placementsystem.event.ApplicationsWithdrawnEvent;
 import com.university.placementsystem.repository.ApplicationRepository;
+import com.university.placementsystem.repository.InterviewRepository;
 import com.university.placementsystem.repository.JobPostingRepository;
+import com.university.placementsystem.repository.StudentRepository;
+import com.university.placementsystem.search.GraduationYearRange;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
 
 /**
  * Service for organizations to manage application statuses for their job postings.
  *
  * <p>Performs role checks, ownership validation, and safe status transitions.</p>
+ *
+ * <p>With the one-offer policy enabled ({@code placement.one-offer.enabled}), selecting a
+ * student withdraws that student's other open (APPLIED/SHORTLISTED) applications in
+ * the same transaction. The student row is locked first, so concurrent selections of
+ * the same student by different recruiters are serialized: the second one finds its
+ * application already WITHDRAWN and fails. Affected organizations are notified after
+ * commit, off the request thread.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -23,6 +56,19 @@ public class OrganizationApplicationService {
     // Data access
     private final ApplicationRepository applicationRepository;
     private final JobPostingRepository jobPostingRepository;
+    private final InterviewRepository interviewRepository;
+    private final StudentRepository studentRepository;
+    private final ProfileIdResolver profileIdResolver;
+
+    // Per-job application counters
+    private final JobApplicationStatsService statsService;
+
+    // Notifies recruiters of withdrawn applications and students of status changes once committed
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Whether selecting a student withdraws their other open applications
+    @Value("${placement.one-offer.enabled:false}")
+    private boolean oneOfferEnabled;
 
     // ---- Messages / constants ----
     private static final String MSG_ROLE_REQUIRED = "Access denied: ORG role required";
@@ -32,17 +78,37 @@ public class OrganizationApplicationService {
     private static final String MSG_APPLICATION_NOT_BELONG = "Application does not belong to this job";
     private static final String MSG_CANNOT_UPDATE_FINALIZED = "Cannot update application already finalized";
     private static final String MSG_APPLICATION_UPDATED = "Application status updated";
+    private static final String MSG_INVALID_TARGET = "Applications cannot be moved back to APPLIED";
+    private static final String MSG_WITHDRAWN_TARGET = "Applications are only withdrawn by the one-offer policy";
+    private static final String MSG_INVALID_TRANSITION = "Cannot move application from %s to %s";
+    public static final int DEFAULT_APPLICANTS = 50;
+    private static final int MAX_APPLICANTS = 200;
+    private static final float SKILL_WEIGHT = 0.7f;
+    private static final float DEGREE_WEIGHT = 0.15f;
+    private static final float YEAR_WEIGHT = 0.15f;
+    // Separates words of degree names and criteria ("B.Tech, BE or MSc" -> b.tech / be / or / msc)
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}.]+");
 
     /**
      * Updates the status of an application for a job posting owned by the organization.
      *
+     * <p>A conditional UPDATE checks ownership, job membership and the allowed
+     * transition (see {@link ApplicationStatus#allowedPredecessors()}) and writes the new
+     * status, so two recruiters racing on the same application can not both win; the
+     * loser gets a 409. Only when no row was updated is the cause looked up, to report a
+     * precise error. For targets with more than one predecessor (REJECTED), the current
+     * status is read first for the application counters, and the UPDATE is restricted
+     * to it.</p>
+     *
      * @param orgUser        authenticated organization user
      * @param jobId          ID of the job posting
      * @param applicationId  ID of the application to update
      * @param newStatus      new status to set
      * @return a small response map with message and updated info
-     * @throws ResponseStatusException if role/ownership checks fail or data is invalid
+     * @throws ResponseStatusException if role/ownership checks fail, data is invalid,
+     *                                 or the transition is not allowed from the current status
      */
+    @Transactional
     public Map<String, Object> updateApplicationStatus(UserDTO orgUser,
                                                        Long jobId,
                                                        Long applicationId,
@@ -51,38 +117,415 @@ public class OrganizationApplicationService {
         if (orgUser.getRole() != UserRole.ORGANIZATION) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_ROLE_REQUIRED);
         }
-
-        // Load job and verify ownership
-        JobPosting job = jobPostingRepository.findById(jobId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_JOB_NOT_FOUND));
-
-        if (!job.getOrganization().getUser().getId().equals(orgUser.getId())) {
-            throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_NOT_OWNER);
+        Long organizationId = profileIdResolver.resolveOrganizationId(orgUser);
+        if (newStatus == ApplicationStatus.WITHDRAWN) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_WITHDRAWN_TARGET);
         }
 
-        // Load the application and ensure it belongs to the job
-        Application application = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_APPLICATION_NOT_FOUND));
-
-        if (!application.getJobPosting().getId().equals(jobId)) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_APPLICATION_NOT_BELONG);
+        // A selection locks the job row, then the student, before the application: a running
+        // placement allocation re-checks seats and offers under the same locks. The job must be
+        // the caller's before anything is locked.
+        List<Long> studentIds = List.of();
+        if (newStatus == ApplicationStatus.SELECTED) {
+            checkJobOwnership(orgUser, jobId);
+            jobPostingRepository.lockByIds(List.of(jobId));
+            studentIds = applicationRepository.findStudentIds(jobId, List.of(applicationId));
+            if (!studentIds.isEmpty()) {
+                studentRepository.lockByIds(studentIds);
+            }
         }
 
-        // Disallow changing finalized statuses
-        if (application.getStatus() == ApplicationStatus.SELECTED
-                || application.getStatus() == ApplicationStatus.REJECTED) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_CANNOT_UPDATE_FINALIZED);
+        // The previous status (for the counters) is implied unless several are allowed
+        Set<ApplicationStatus> fromStatuses = newStatus.allowedPredecessors();
+        ApplicationStatus previous = null;
+        if (fromStatuses.size() == 1) {
+            previous = fromStatuses.iterator().next();
+        } else if (!fromStatuses.isEmpty()) {
+            previous = applicationRepository.findStatusById(applicationId).filter(fromStatuses::contains).orElse(null);
         }
 
-        // Persist new status
-        application.setStatus(newStatus);
-        applicationRepository.save(application);
+        // Validate and write in one statement; a concurrent change since the read makes it miss
+        if (previous == null || applicationRepository.compareAndSetStatus(
+                applicationId, jobId, organizationId, newStatus, EnumSet.of(previous)) == 0) {
+            throw explainRejectedUpdate(organizationId, jobId, applicationId, newStatus);
+        }
+        statsService.record(jobId, previous, newStatus, 1);
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(List.of(applicationId)));
+        if (oneOfferEnabled && !studentIds.isEmpty()) {
+            withdrawOtherApplications(studentIds, jobId);
+        }
 
         // Return minimal confirmation payload
         return Map.of(
                 "message", MSG_APPLICATION_UPDATED,
-                "applicationId", application.getId(),
+                "applicationId", applicationId,
                 "newStatus", newStatus.toString()
         );
     }
+
+    /**
+     * Moves several applications of one job posting to a new status.
+     *
+     * <p>Ownership is checked once; the matching rows are then locked and changed with a
+     * single conditional UPDATE instead of a load/save per application.</p>
+     *
+     * @param orgUser        authenticated organization user
+     * @param jobId          ID of the job posting
+     * @param applicationIds IDs of the applications to update
+     * @param newStatus      new status to set
+     * @return outcome per requested application ID, in request order
+     * @throws ResponseStatusException if role/ownership checks fail or the target status is invalid
+     */
+    @Transactional
+    public Map<Long, StatusUpdateOutcome> updateApplicationStatuses(UserDTO orgUser,
+                                                                    Long jobId,
+                                                                    List<Long> applicationIds,
+                                                                    ApplicationStatus newStatus) {
+        checkJobOwnership(orgUser, jobId);
+        if (newStatus == ApplicationStatus.APPLIED) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_INVALID_TARGET);
+        }
+        if (newStatus == ApplicationStatus.WITHDRAWN) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_WITHDRAWN_TARGET);
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(applicationIds);
+
+        Set<ApplicationStatus> fromStatuses = newStatus.allowedPredecessors();
+
+        // A selection locks the job row, then the students (in ID order, so concurrent batches cannot
+        // deadlock): a running placement allocation re-checks seats and offers under the same locks
+        if (newStatus == ApplicationStatus.SELECTED) {
+            jobPostingRepository.lockByIds(List.of(jobId));
+        }
+        final boolean oneOffer = newStatus == ApplicationStatus.SELECTED && oneOfferEnabled;
+        if (newStatus == ApplicationStatus.SELECTED && !requested.isEmpty()) {
+            Set<Long> studentIds = new TreeSet<>(applicationRepository.findStudentIds(jobId, requested));
+            if (!studentIds.isEmpty()) {
+                studentRepository.lockByIds(studentIds);
+            }
+        }
+
+        // Lock the rows so the outcomes reported below match what the UPDATE changes
+        Map<Long, ApplicationStatus> current = new HashMap<>();
+        Map<ApplicationStatus, Integer> moved = new EnumMap<>(ApplicationStatus.class);
+        Set<Long> selectedStudents = new TreeSet<>();
+        for (Application application : applicationRepository.lockForStatusUpdate(jobId, requested)) {
+            current.put(application.getId(), application.getStatus());
+            if (fromStatuses.contains(application.getStatus())) {
+                moved.merge(application.getStatus(), 1, Integer::sum);
+            }
+            if (oneOffer && fromStatuses.contains(application.getStatus())) {
+                selectedStudents.add(application.getStudent().getId());
+            }
+        }
+
+        if (!current.isEmpty()) {
+            applicationRepository.updateStatuses(jobId, current.keySet(), newStatus, fromStatuses);
+        }
+        moved.forEach((from, count) -> statsService.record(jobId, from, newStatus, count));
+        List<Long> changed = current.entrySet().stream()
+                .filter(entry -> fromStatuses.contains(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!changed.isEmpty()) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(changed));
+        }
+        if (!selectedStudents.isEmpty()) {
+            withdrawOtherApplications(selectedStudents, jobId);
+        }
+
+        Map<Long, StatusUpdateOutcome> outcomes = new LinkedHashMap<>();
+        for (Long id : requested) {
+            ApplicationStatus status = current.get(id);
+            if (status == null) {
+                outcomes.put(id, StatusUpdateOutcome.NOT_FOUND);
+            } else if (fromStatuses.contains(status)) {
+                outcomes.put(id, StatusUpdateOutcome.UPDATED);
+            } else if (status.isFinal()) {
+                outcomes.put(id, StatusUpdateOutcome.FINALIZED);
+            } else {
+                outcomes.put(id, StatusUpdateOutcome.INVALID_TRANSITION);
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Lists the applicants of a job posting owned by the organization, ranked by match score.
+     *
+     * <p>All applicants are read with one projection query and scored in memory
+     * against the posting; skill overlap is counted on the skill dictionary IDs in one
+     * GROUP BY query:</p>
+     * <ul>
+     *   <li>Skills: share of the posting's skills the student lists (70%)</li>
+     *   <li>Degree: the eligibility criteria name the student's degree as whole words (15%)</li>
+     *   <li>Graduation year: within the years the criteria name (15%)</li>
+     * </ul>
+     * <p>Without eligibility criteria the degree part is left out and the score is scaled
+     * by the remaining weights, so it still ranges up to 1.</p>
+     * <p>When sorting by score, only the best {@code limit} applicants are selected
+     * (bounded heap) instead of sorting all of them.</p>
+     *
+     * @param orgUser authenticated organization user
+     * @param jobId   ID of the job posting
+     * @param status  only applicants with this status (null = all)
+     * @param sort    requested order
+     * @param limit   maximum number of applicants (clamped to 1..200)
+     * @return applicants with their scores, in the requested order
+     * @throws ResponseStatusException if role/ownership checks fail
+     */
+    @Transactional(readOnly = true)
+    public List<ApplicantDTO> getApplicants(UserDTO orgUser,
+                                            Long jobId,
+                                            ApplicationStatus status,
+                                            ApplicantSort sort,
+                                            int limit) {
+        checkJobOwnership(orgUser, jobId);
+        final int size = Math.max(1, Math.min(limit, MAX_APPLICANTS));
+
+        List<ApplicantDTO> applicants = applicationRepository.findApplicants(jobId, status);
+        final int count = applicants.size();
+        if (count == 0) {
+            return List.of();
+        }
+
+        // Skill overlap per applicant from the skill join tables, counted in one GROUP BY
+        Set<Integer> jobSkills = jobPostingRepository.findSkillIds(jobId);
+        Map<Long, Long> matchedSkills = new HashMap<>();
+        if (!jobSkills.isEmpty()) {
+            for (ApplicationCountDTO row : applicationRepository.countMatchingSkills(jobId, jobSkills)) {
+                matchedSkills.put(row.getApplicationId(), row.getCount());
+            }
+        }
+
+        String criteria = jobPostingRepository.findEligibilityCriteria(jobId);
+        List<String> criteriaWords = words(criteria);
+        final boolean scoreDegree = !criteriaWords.isEmpty();
+        final float totalWeight = SKILL_WEIGHT + (scoreDegree ? DEGREE_WEIGHT : 0f) + YEAR_WEIGHT;
+        GraduationYearRange years = GraduationYearRange.parse(criteria);
+
+        final float[] scores = new float[count];
+        for (int i = 0; i < count; i++) {
+            ApplicantDTO applicant = applicants.get(i);
+            float skillScore = jobSkills.isEmpty()
+                    ? 1f
+                    : (float) matchedSkills.getOrDefault(applicant.getApplicationId(), 0L) / jobSkills.size();
+            List<String> degreeWords = words(applicant.getDegree());
+            boolean degreeMatches = scoreDegree && !degreeWords.isEmpty()
+                    && Collections.indexOfSubList(criteriaWords, degreeWords) >= 0;
+            boolean yearMatches = applicant.getGraduationYear() == null
+                    ? years.equals(GraduationYearRange.ANY)
+                    : years.contains(applicant.getGraduationYear());
+
+            scores[i] = (SKILL_WEIGHT * skillScore
+                    + (degreeMatches ? DEGREE_WEIGHT : 0f)
+                    + (yearMatches ? YEAR_WEIGHT : 0f)) / totalWeight;
+            applicant.setScore(scores[i]);
+        }
+
+        if (sort == ApplicantSort.APPLIED_AT) {
+            return applicants.subList(0, Math.min(size, count));
+        }
+        int[] best = topK(scores, size);
+        List<ApplicantDTO> ranked = new ArrayList<>(best.length);
+        for (int index : best) {
+            ranked.add(applicants.get(index));
+        }
+        return ranked;
+    }
+
+    /**
+     * Records the recruiter's ranking of a job's applicants (used by placement allocation).
+     *
+     * @param orgUser        authenticated organization user
+     * @param jobId          ID of the job posting
+     * @param applicationIds application IDs, best applicant first; applications not listed become unranked
+     * @throws ResponseStatusException if role/ownership checks fail or an application belongs to another job
+     */
+    @Transactional
+    public void rankApplicants(UserDTO orgUser, Long jobId, List<Long> applicationIds) {
+        checkJobOwnership(orgUser, jobId);
+
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (Long id : applicationIds) {
+            ranks.putIfAbsent(id, ranks.size() + 1);
+        }
+
+        List<Application> applications = applicationRepository.findByJobPosting_Id(jobId);
+        Set<Long> known = new HashSet<>();
+        for (Application application : applications) {
+            known.add(application.getId());
+        }
+        if (!known.containsAll(ranks.keySet())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_APPLICATION_NOT_BELONG);
+        }
+
+        // Only changed rows are written (dirty checking, batched)
+        for (Application application : applications) {
+            application.setRecruiterRank(ranks.get(application.getId()));
+        }
+    }
+
+    /**
+     * Lists the scheduled interviews for a job posting, earliest first.
+     *
+     * @param orgUser authenticated organization user
+     * @param jobId   ID of the job posting
+     * @return interviews with room and time
+     * @throws ResponseStatusException if role/ownership checks fail
+     */
+    @Transactional(readOnly = true)
+    public List<InterviewDTO> getInterviews(UserDTO orgUser, Long jobId) {
+        checkJobOwnership(orgUser, jobId);
+        return interviewRepository.findForJob(jobId);
+    }
+
+    // ---- Private helpers ----
+
+    // Lower-cased words of a text (letters and digits, with inner dots as in "b.tech"); empty for null
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            int end = word.length();
+            while (end > 0 && word.charAt(end - 1) == '.') {
+                end--;
+            }
+            int start = 0;
+            while (start < end && word.charAt(start) == '.') {
+                start++;
+            }
+            if (start < end) {
+                words.add(word.substring(start, end));
+            }
+        }
+        return words;
+    }
+
+    // Indexes of the `limit` highest scores, best first (lower index first on ties), via a bounded min-heap
+    private static int[] topK(float[] scores, int limit) {
+        final int k = Math.min(limit, scores.length);
+        int[] heap = new int[k];
+        int heapSize = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (heapSize < k) {
+                heap[heapSize] = i;
+                siftUp(heap, heapSize++, scores);
+            } else if (ranksBefore(i, heap[0], scores)) {
+                heap[0] = i;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+        int[] ordered = new int[heapSize];
+        while (heapSize > 0) {
+            ordered[heapSize - 1] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, heapSize, scores);
+        }
+        return ordered;
+    }
+
+    private static void siftUp(int[] heap, int index, float[] scores) {
+        final int value = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], value, scores)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private static void siftDown(int[] heap, int size, float[] scores) {
+        final int value = heap[0];
+        int index = 0;
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && ranksBefore(heap[child], heap[child + 1], scores)) {
+                child++;
+            }
+            if (!ranksBefore(value, heap[child], scores)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = value;
+    }
+
+    // Whether applicant a ranks before applicant b: higher score, then earlier application
+    private static boolean ranksBefore(int a, int b, float[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    // Withdraws the selected students' open applications to other jobs (students already locked)
+    private void withdrawOtherApplications(Collection<Long> studentIds, Long jobId) {
+        Set<ApplicationStatus> open = ApplicationStatus.WITHDRAWN.allowedPredecessors();
+        List<Long> withdrawn = new ArrayList<>();
+        List<Application> locked = applicationRepository.lockOtherApplications(studentIds, jobId, open);
+        for (Application application : locked) {
+            withdrawn.add(application.getId());
+        }
+        if (withdrawn.isEmpty()) {
+            return;
+        }
+        applicationRepository.updateStatusesByIds(withdrawn, ApplicationStatus.WITHDRAWN, open);
+        for (Application application : locked) {
+            statsService.record(application.getJobPosting().getId(), application.getStatus(),
+                    ApplicationStatus.WITHDRAWN, 1);
+        }
+        eventPublisher.publishEvent(new ApplicationsWithdrawnEvent(withdrawn));
+    }
+
+    // Finds out why a conditional status update matched no row (read-only, failure path only)
+    private ResponseStatusException explainRejectedUpdate(Long organizationId,
+                                                          Long jobId,
+                                                          Long applicationId,
+                                                          ApplicationStatus newStatus) {
+        Long ownerId = jobPostingRepository.findOrganizationIdById(jobId).orElse(null);
+        if (ownerId == null) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_JOB_NOT_FOUND);
+        }
+        if (!ownerId.equals(organizationId)) {
+            return new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_NOT_OWNER);
+        }
+
+        Application application = applicationRepository.findById(applicationId).orElse(null);
+        if (application == null) {
+            return new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_APPLICATION_NOT_FOUND);
+        }
+        if (!application.getJobPosting().getId().equals(jobId)) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_APPLICATION_NOT_BELONG);
+        }
+        if (application.getStatus().isFinal()) {
+            return new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_CANNOT_UPDATE_FINALIZED);
+        }
+
+        // Not an allowed transition from the current status (possibly just changed by someone else)
+        return new ResponseStatusException(HttpStatus.CONFLICT,
+                String.format(MSG_INVALID_TRANSITION, application.getStatus(), newStatus));
+    }
+
+    // Requires the ORGANIZATION role and that the caller's organization owns the job
+    private void checkJobOwnership(UserDTO orgUser, Long jobId) {
+        if (orgUser.getRole() != UserRole.ORGANIZATION) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_ROLE_REQUIRED);
+        }
+
+        Long ownerId = jobPostingRepository.findOrganizationIdById(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_JOB_NOT_FOUND));
+
+        if (!ownerId.equals(profileIdResolver.resolveOrganizationId(orgUser))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_NOT_OWNER);
+        }
+    }
+
 }
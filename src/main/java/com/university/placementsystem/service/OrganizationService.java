@@ -1,14 +1,21 @@
 package com.university.placementsystem.service;
 
 import com.university.placementsystem.dto.*;
+import com.university.placementsystem.eligibility.EligibilityRuleCompiler;
+import com.university.placementsystem.eligibility.InvalidRuleException;
 import com.university.placementsystem.entity.JobPosting;
 import com.university.placementsystem.entity.Organization;
 import com.university.placementsystem.entity.User;
+import com.university.placementsystem.event.EligibilityRuleChangedEvent;
+import com.university.placementsystem.event.JobPostingCreatedEvent;
+import com.university.placementsystem.event.OrganizationUpdatedEvent;
 import com.university.placementsystem.repository.JobPostingRepository;
 import com.university.placementsystem.repository.OrganizationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
@@ -27,11 +34,21 @@ public class OrganizationService {
     // Repositories
     private final OrganizationRepository organizationRepository;
     private final JobPostingRepository jobPostingRepository;
+    private final ProfileIdResolver profileIdResolver;
+
+    // Skill dictionary (normalizes required skills)
+    private final SkillService skillService;
+
+    // Notifies listeners (student job feed, search, filters, screening) of new postings, rule and profile changes
+    private final ApplicationEventPublisher eventPublisher;
 
     // ---- Messages / constants ----
     private static final String MSG_PROFILE_EXISTS = "Profile already exists";
     private static final String MSG_PROFILE_NOT_FOUND = "Organization profile not found";
     private static final String MSG_NOT_APPROVED = "Organization not approved by Admin. Cannot post jobs.";
+    private static final String MSG_JOB_NOT_FOUND = "Job posting not found";
+    private static final String MSG_NOT_OWNER = "You do not own this job posting";
+    private static final String MSG_INVALID_RULE = "Invalid eligibility rule: %s";
 
     // ------------------- Profile Methods -------------------
 
@@ -40,11 +57,12 @@ public class OrganizationService {
      *
      * @param userDTO logged-in user info
      * @param request profile creation request DTO
+     * @return ID of the created profile
      * @throws ResponseStatusException if a profile already exists
      */
-    public void createProfile(UserDTO userDTO, OrganizationCreateRequest request) {
+    public Long createProfile(UserDTO userDTO, OrganizationCreateRequest request) {
         // Enforce one profile per user
-        if (organizationRepository.findByUserEmail(userDTO.getEmail()).isPresent()) {
+        if (userDTO.getProfileId() != null || organizationRepository.existsByUserId(userDTO.getId())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_PROFILE_EXISTS);
         }
 
@@ -58,7 +76,7 @@ public class OrganizationService {
                 .approved(false)
                 .build();
 
-        organizationRepository.save(org);
+        return organizationRepository.save(org).getId();
     }
 
     /**
@@ -68,6 +86,9 @@ public class OrganizationService {
      * @return optional {@link Organization}
      */
     public Optional<Organization> getProfile(UserDTO userDTO) {
+        if (userDTO.getProfileId() != null) {
+            return organizationRepository.findById(userDTO.getProfileId());
+        }
         return organizationRepository.findByUserId(userDTO.getId());
     }
 
@@ -80,7 +101,7 @@ public class OrganizationService {
      */
     public void updateProfile(UserDTO userDTO, OrganizationUpdateRequest request) {
         // Load or 404
-        Organization org = organizationRepository.findByUserId(userDTO.getId())
+        Organization org = organizationRepository.findById(profileIdResolver.resolveOrganizationId(userDTO))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_PROFILE_NOT_FOUND));
 
         // Apply changes
@@ -90,6 +111,9 @@ public class OrganizationService {
         org.setDescription(request.getDescription());
 
         organizationRepository.save(org);
+
+        // Industry/location feed the student job filters
+        eventPublisher.publishEvent(new OrganizationUpdatedEvent(org.getId()));
     }
 
     // ------------------- Job Posting Methods -------------------
@@ -102,8 +126,8 @@ public class OrganizationService {
      * @throws ResponseStatusException if a profile isn't found or org not approved
      */
     public void createJobPosting(UserDTO userDTO, JobPostingCreateRequest request) {
-        // Ensure org profile exists
-        Organization org = organizationRepository.findByUserId(userDTO.getId())
+        // Ensure org profile exists (by primary key, no users join)
+        Organization org = organizationRepository.findById(profileIdResolver.resolveOrganizationId(userDTO))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_PROFILE_NOT_FOUND));
 
         // Require admin approval before posting jobs
@@ -111,16 +135,71 @@ public class OrganizationService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_NOT_APPROVED);
         }
 
+        // Reject rules that do not compile before anything is saved
+        checkEligibilityRule(request.getEligibilityRule());
+
         // Build and save job posting
         JobPosting job = JobPosting.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .skillsRequired(request.getSkillsRequired())
+                .skillSet(skillService.resolve(request.getSkillsRequired()))
                 .eligibilityCriteria(request.getEligibilityCriteria())
+                .seats(request.getSeats())
+                .eligibilityRule(blankToNull(request.getEligibilityRule()))
+                .screeningMode(request.getScreeningMode())
                 .organization(org)
                 .build();
 
         jobPostingRepository.save(job);
+
+        // Let student-facing caches pick up the new posting
+        eventPublisher.publishEvent(new JobPostingCreatedEvent(job.getId(), org.getId()));
+    }
+
+    /**
+     * Changes the eligibility rule of one of the organization's job postings.
+     *
+     * <p>Once committed, all existing applicants are re-screened in the background
+     * (see {@link ApplicationScreeningService}).</p>
+     *
+     * @param userDTO logged-in user info
+     * @param jobId   ID of the job posting
+     * @param request new rule and screening mode
+     * @throws ResponseStatusException if the job isn't found, isn't owned by the organization,
+     *                                 or the rule does not compile
+     */
+    @Transactional
+    public void updateEligibilityRule(UserDTO userDTO, Long jobId, EligibilityRuleRequest request) {
+        JobPosting job = jobPostingRepository.findById(jobId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_JOB_NOT_FOUND));
+        if (!job.getOrganization().getId().equals(profileIdResolver.resolveOrganizationId(userDTO))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_NOT_OWNER);
+        }
+        checkEligibilityRule(request.getEligibilityRule());
+
+        job.setEligibilityRule(blankToNull(request.getEligibilityRule()));
+        job.setScreeningMode(request.getScreeningMode());
+
+        // Re-screen existing applicants after commit
+        eventPublisher.publishEvent(new EligibilityRuleChangedEvent(job.getId()));
+    }
+
+    /**
+     * ETag of the organization's job listing, from one aggregate over its postings.
+     *
+     * @param userDTO logged-in user info
+     * @return strong ETag of the listing representation
+     * @throws ResponseStatusException if profile not found
+     */
+    @Transactional(readOnly = true)
+    public String getJobPostingsETag(UserDTO userDTO) {
+        Long organizationId = profileIdResolver.resolveOrganizationId(userDTO);
+        // The listing shows the company name, so profile changes count as well
+        Long version = organizationRepository.findVersionById(organizationId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_PROFILE_NOT_FOUND));
+        return ETags.of("job-postings", jobPostingRepository.findChangeStampByOrganization(organizationId),
+                organizationId, version);
     }
 
     /**
@@ -131,12 +210,8 @@ public class OrganizationService {
      * @throws ResponseStatusException if profile not found
      */
     public List<JobPostingDTO> listJobPostings(UserDTO userDTO) {
-        // Ensure org profile exists
-        Organization org = organizationRepository.findByUserId(userDTO.getId())
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_PROFILE_NOT_FOUND));
-
         // Map entities to DTOs
-        return jobPostingRepository.findByOrganizationId(org.getId())
+        return jobPostingRepository.findByOrganizationId(profileIdResolver.resolveOrganizationId(userDTO))
                 .stream()
                 .map(job -> new JobPostingDTO(
                         job.getId(),
@@ -149,4 +224,20 @@ public class OrganizationService {
                 ))
                 .collect(Collectors.toList());
     }
+
+    // ------------------- Private Helpers -------------------
+
+    // Compiles the rule once to report syntax errors as 400
+    private static void checkEligibilityRule(String rule) {
+        try {
+            EligibilityRuleCompiler.compile(rule);
+        } catch (InvalidRuleException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format(MSG_INVALID_RULE, ex.getMessage()));
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
 }
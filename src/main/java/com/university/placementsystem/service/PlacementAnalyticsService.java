@@ -0,0 +1,275 @@
+package com.university.placementsystem.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.university.placementsystem.dto.AnalyticsSnapshotSummaryDTO;
+import com.university.placementsystem.dto.IndustrySelectionsDTO;
+import com.university.placementsystem.dto.PlacementAnalyticsDTO;
+import com.university.placementsystem.dto.PlacementCohortDTO;
+import com.university.placementsystem.dto.PlacementRateDTO;
+import com.university.placementsystem.entity.AnalyticsSnapshot;
+import com.university.placementsystem.repository.AnalyticsSnapshotRepository;
+import com.university.placementsystem.repository.ApplicationRepository;
+import com.university.placementsystem.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Placement analytics for the placement cell.
+ *
+ * <p>A refresh computes placement rates by university, degree and graduation year
+ * and selections per industry with two GROUP BY queries on a read-only transaction:
+ * one over students, grouped by all three attributes at once (rolled up in memory),
+ * and one over SELECTED applications. The result is stored as an immutable, versioned
+ * {@link AnalyticsSnapshot} and kept in memory, so reading the analytics never touches
+ * {@code applications}. Older snapshots stay available for trend comparisons.</p>
+ *
+ * <p>Snapshots are refreshed periodically ({@code analytics.refresh-interval-ms}) and
+ * on demand. At startup the latest snapshot is loaded, or computed if there is none.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlacementAnalyticsService implements ApplicationRunner {
+
+    // Data access
+    private final AnalyticsSnapshotRepository snapshotRepository;
+    private final StudentRepository studentRepository;
+    private final ApplicationRepository applicationRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    // Set to false to skip loading or computing a snapshot at startup
+    @Value("${analytics.load-on-startup:true}")
+    private boolean loadOnStartup;
+
+    // ---- Messages / constants ----
+    private static final String MSG_ALREADY_RUNNING = "An analytics refresh is already in progress";
+    private static final String MSG_NO_SNAPSHOT = "No analytics snapshot has been computed yet";
+    private static final String MSG_SNAPSHOT_NOT_FOUND = "Analytics snapshot not found";
+    private static final String NOT_SET = "(not set)";
+    public static final int DEFAULT_SNAPSHOTS = 30;
+    private static final int MAX_SNAPSHOTS = 365;
+
+    // Latest snapshot, served without a query
+    private final AtomicReference<PlacementAnalyticsDTO> latest = new AtomicReference<>();
+
+    // Guards against overlapping refreshes
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Returns the latest snapshot.
+     *
+     * @return latest placement analytics
+     * @throws ResponseStatusException if no snapshot exists yet
+     */
+    public PlacementAnalyticsDTO getLatest() {
+        PlacementAnalyticsDTO analytics = latest.get();
+        if (analytics == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_NO_SNAPSHOT);
+        }
+        return analytics;
+    }
+
+    /**
+     * Returns one snapshot by version.
+     *
+     * @param snapshotId snapshot ID
+     * @return placement analytics of that snapshot
+     * @throws ResponseStatusException if the snapshot does not exist
+     */
+    @Transactional(readOnly = true)
+    public PlacementAnalyticsDTO getSnapshot(Long snapshotId) {
+        PlacementAnalyticsDTO current = latest.get();
+        if (current != null && current.getSnapshotId().equals(snapshotId)) {
+            return current;
+        }
+        return snapshotRepository.findById(snapshotId)
+                .map(this::toDTO)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_SNAPSHOT_NOT_FOUND));
+    }
+
+    /**
+     * Lists the headline numbers of the newest snapshots (for trends).
+     *
+     * @param limit maximum number of snapshots (clamped to 1..365)
+     * @return snapshot summaries, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<AnalyticsSnapshotSummaryDTO> listSnapshots(int limit) {
+        return snapshotRepository.findSummaries(Limit.of(Math.max(1, Math.min(limit, MAX_SNAPSHOTS))));
+    }
+
+    /**
+     * Computes and stores a new snapshot.
+     *
+     * @return the new snapshot
+     * @throws ResponseStatusException if another refresh is in progress
+     */
+    public PlacementAnalyticsDTO refresh() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, MSG_ALREADY_RUNNING);
+        }
+        try {
+            return computeAndStore();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Periodic refresh (skipped while a refresh is in progress).
+     */
+    @Scheduled(fixedDelayString = "${analytics.refresh-interval-ms:3600000}",
+            initialDelayString = "${analytics.refresh-interval-ms:3600000}")
+    public void refreshOnSchedule() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            computeAndStore();
+        } catch (RuntimeException ex) {
+            log.warn("Scheduled analytics refresh failed", ex);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Loads the latest snapshot at startup, computing one if none exists.
+     *
+     * @param args application arguments (unused)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!loadOnStartup) {
+            return;
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        PlacementAnalyticsDTO stored = readOnly.execute(tx ->
+                snapshotRepository.findFirstByOrderByIdDesc().map(this::toDTO).orElse(null));
+        if (stored != null) {
+            latest.compareAndSet(null, stored);
+        } else {
+            refreshOnSchedule();
+        }
+    }
+
+    // -------------------- Helpers --------------------
+
+    // Runs the aggregation queries, stores the snapshot and publishes it as the latest one
+    private PlacementAnalyticsDTO computeAndStore() {
+        final long started = System.nanoTime();
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        PlacementAnalyticsDTO analytics = readOnly.execute(tx -> aggregate(
+                studentRepository.countPlacementByCohort(), applicationRepository.countSelectionsByIndustry()));
+        final long durationMillis = (System.nanoTime() - started) / 1_000_000;
+
+        AnalyticsSnapshot snapshot = new TransactionTemplate(transactionManager).execute(tx ->
+                snapshotRepository.save(AnalyticsSnapshot.builder()
+                        .students(analytics.getStudents())
+                        .placedStudents(analytics.getPlacedStudents())
+                        .selections(analytics.getSelections())
+                        .durationMillis(durationMillis)
+                        .payload(toJson(analytics))
+                        .build()));
+        analytics.setSnapshotId(snapshot.getId());
+        analytics.setCreatedAt(snapshot.getCreatedAt());
+
+        latest.set(analytics);
+        log.info("Analytics snapshot {} computed in {} ms", snapshot.getId(), durationMillis);
+        return analytics;
+    }
+
+    // Rolls the cohort counts up per attribute and derives the rates
+    private static PlacementAnalyticsDTO aggregate(List<PlacementCohortDTO> cohorts, List<IndustrySelectionsDTO> industries) {
+        long students = 0;
+        long placed = 0;
+        for (PlacementCohortDTO cohort : cohorts) {
+            students += cohort.getStudents();
+            placed += cohort.getPlaced();
+        }
+        long selections = 0;
+        List<IndustrySelectionsDTO> byIndustry = new ArrayList<>(industries.size());
+        for (IndustrySelectionsDTO industry : industries) {
+            selections += industry.getSelections();
+            byIndustry.add(new IndustrySelectionsDTO(
+                    industry.getIndustry() == null ? NOT_SET : industry.getIndustry(), industry.getSelections()));
+        }
+        byIndustry.sort(Comparator.comparing(IndustrySelectionsDTO::getSelections).reversed()
+                .thenComparing(IndustrySelectionsDTO::getIndustry));
+
+        Comparator<PlacementRateDTO> largestFirst = Comparator.comparingLong(PlacementRateDTO::getStudents).reversed()
+                .thenComparing(PlacementRateDTO::getGroup);
+        Comparator<PlacementRateDTO> byYear = Comparator.comparing(PlacementRateDTO::getGroup);
+
+        return new PlacementAnalyticsDTO(null, null, students, placed, rate(placed, students), selections,
+                rollUp(cohorts, PlacementCohortDTO::getUniversity, largestFirst),
+                rollUp(cohorts, PlacementCohortDTO::getDegree, largestFirst),
+                rollUp(cohorts, PlacementCohortDTO::getGraduationYear, byYear),
+                byIndustry);
+    }
+
+    // Sums the cohorts per value of one attribute
+    private static List<PlacementRateDTO> rollUp(List<PlacementCohortDTO> cohorts,
+                                                 Function<PlacementCohortDTO, Object> attribute,
+                                                 Comparator<PlacementRateDTO> order) {
+        Map<String, long[]> groups = new HashMap<>();
+        for (PlacementCohortDTO cohort : cohorts) {
+            Object value = attribute.apply(cohort);
+            String group = value == null || value.toString().isBlank() ? NOT_SET : value.toString().trim();
+            long[] counts = groups.computeIfAbsent(group, g -> new long[2]);
+            counts[0] += cohort.getStudents();
+            counts[1] += cohort.getPlaced();
+        }
+        List<PlacementRateDTO> rates = new ArrayList<>(groups.size());
+        groups.forEach((group, counts) -> rates.add(new PlacementRateDTO(group, counts[0], counts[1], rate(counts[1], counts[0]))));
+        rates.sort(order);
+        return rates;
+    }
+
+    private static double rate(long placed, long students) {
+        return students == 0 ? 0 : (double) placed / students;
+    }
+
+    private PlacementAnalyticsDTO toDTO(AnalyticsSnapshot snapshot) {
+        try {
+            PlacementAnalyticsDTO analytics = objectMapper.readValue(snapshot.getPayload(), PlacementAnalyticsDTO.class);
+            analytics.setSnapshotId(snapshot.getId());
+            analytics.setCreatedAt(snapshot.getCreatedAt());
+            return analytics;
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable analytics snapshot " + snapshot.getId(), ex);
+        }
+    }
+
+    private String toJson(PlacementAnalyticsDTO analytics) {
+        try {
+            return objectMapper.writeValueAsString(analytics);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize analytics snapshot", ex);
+        }
+    }
+}
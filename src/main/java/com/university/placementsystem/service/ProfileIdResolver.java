@@ -0,0 +1,59 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.repository.OrganizationRepository;
+import com.university.placementsystem.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Resolves the student or organization profile ID of the logged-in user.
+ *
+ * <p>The ID is normally carried in the JWT ({@link UserDTO#getProfileId()}), so no query
+ * is needed. Tokens issued before the profile was created do not carry it; for those
+ * the ID is looked up by user ID.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ProfileIdResolver {
+
+    // Data access
+    private final StudentRepository studentRepository;
+    private final OrganizationRepository organizationRepository;
+
+    // ---- Messages / constants ----
+    private static final String MSG_STUDENT_NOT_FOUND = "Student profile not found";
+    private static final String MSG_ORGANIZATION_NOT_FOUND = "Organization profile not found";
+
+    /**
+     * Returns the student profile ID of a user.
+     *
+     * @param user logged-in student
+     * @return student ID
+     * @throws ResponseStatusException 404 if the user has no student profile
+     */
+    public Long resolveStudentId(UserDTO user) {
+        if (user.getProfileId() != null) {
+            return user.getProfileId();
+        }
+        return studentRepository.findIdByUserId(user.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_STUDENT_NOT_FOUND));
+    }
+
+    /**
+     * Returns the organization profile ID of a user.
+     *
+     * @param user logged-in organization user
+     * @return organization ID
+     * @throws ResponseStatusException 404 if the user has no organization profile
+     */
+    public Long resolveOrganizationId(UserDTO user) {
+        if (user.getProfileId() != null) {
+            return user.getProfileId();
+        }
+        return organizationRepository.findIdByUserId(user.getId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_ORGANIZATION_NOT_FOUND));
+    }
+}
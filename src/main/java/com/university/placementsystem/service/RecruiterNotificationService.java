@@ -0,0 +1,89 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.config.AsyncConfig;
+import com.university.placementsystem.dto.NotificationDTO;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.dto.WithdrawnApplicationDTO;
+import com.university.placementsystem.entity.Notification;
+import com.university.placementsystem.entity.UserRole;
+import com.university.placementsystem.event.ApplicationsWithdrawnEvent;
+import com.university.placementsystem.repository.NotificationRepository;
+import com.university.placementsystem.repository.OrganizationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Notifications for organizations' recruiters.
+ *
+ * <p>When the one-offer policy withdraws applications, each affected organization gets
+ * a notification per withdrawn application. They are written after the selection has
+ * committed, on the notification executor, with one query for the details and one
+ * batched insert, so the selecting request does not wait for them.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecruiterNotificationService {
+
+    // Data access
+    private final NotificationRepository notificationRepository;
+    private final OrganizationRepository organizationRepository;
+    private final ProfileIdResolver profileIdResolver;
+
+    // ---- Messages / constants ----
+    private static final String MSG_ROLE_REQUIRED = "Access denied: ORG role required";
+    private static final String MSG_WITHDRAWN = "%s accepted another offer; their application for \"%s\" was withdrawn";
+    public static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 200;
+
+    /**
+     * Notifies the organizations whose applications were withdrawn.
+     *
+     * @param event withdrawn applications, published by the selecting transaction
+     */
+    @Async(AsyncConfig.NOTIFICATION_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onApplicationsWithdrawn(ApplicationsWithdrawnEvent event) {
+        List<WithdrawnApplicationDTO> withdrawn = notificationRepository.findWithdrawn(event.getApplicationIds());
+
+        List<Notification> notifications = new ArrayList<>(withdrawn.size());
+        for (WithdrawnApplicationDTO application : withdrawn) {
+            notifications.add(Notification.builder()
+                    .organization(organizationRepository.getReferenceById(application.getOrganizationId()))
+                    .applicationId(application.getApplicationId())
+                    .message(String.format(MSG_WITHDRAWN, application.getStudentName(), application.getJobTitle()))
+                    .build());
+        }
+        notificationRepository.saveAll(notifications);
+        log.debug("Notified recruiters of {} withdrawn application(s)", notifications.size());
+    }
+
+    /**
+     * Returns the newest notifications of the logged-in organization.
+     *
+     * @param orgUser authenticated organization user
+     * @param limit   maximum number of notifications (clamped to 1..200)
+     * @return notifications, newest first
+     * @throws ResponseStatusException if the role is wrong or the profile does not exist
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationDTO> getNotifications(UserDTO orgUser, int limit) {
+        if (orgUser.getRole() != UserRole.ORGANIZATION) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, MSG_ROLE_REQUIRED);
+        }
+        Long organizationId = profileIdResolver.resolveOrganizationId(orgUser);
+        return notificationRepository.findLatest(organizationId, Limit.of(Math.max(1, Math.min(limit, MAX_LIMIT))));
+    }
+}
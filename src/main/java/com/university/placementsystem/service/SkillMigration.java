@@ -0,0 +1,91 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.entity.JobPosting;
+import com.university.placementsystem.entity.Student;
+import com.university.placementsystem.repository.JobPostingRepository;
+import com.university.placementsystem.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * One-time migration of comma-separated skill strings into the skill join tables.
+ *
+ * <p>Only rows that have a skill string but no linked skills are selected, so the
+ * migration is a no-op once done and safe to leave enabled. Rows are processed in
+ * keyset-paginated batches, one transaction each, so memory use stays constant.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SkillMigration implements ApplicationRunner {
+
+    // Data access
+    private final StudentRepository studentRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final SkillService skillService;
+    private final PlatformTransactionManager transactionManager;
+
+    // ---- Constants ----
+    private static final int BATCH_SIZE = 500;
+
+    // Set to false to skip the check at startup
+    @Value("${skills.migration.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Links skills of all students and job postings that have not been migrated yet.
+     *
+     * @param args application arguments (unused)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        long migrated = 0;
+        long afterId = 0;
+        while (true) {
+            final long from = afterId;
+            List<Student> batch = tx.execute(status -> {
+                List<Student> students = studentRepository.findSkillMigrationBatch(from, Limit.of(BATCH_SIZE));
+                students.forEach(s -> s.getSkillSet().addAll(skillService.resolve(s.getSkills())));
+                return students;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            migrated += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+
+        afterId = 0;
+        while (true) {
+            final long from = afterId;
+            List<JobPosting> batch = tx.execute(status -> {
+                List<JobPosting> jobs = jobPostingRepository.findSkillMigrationBatch(from, Limit.of(BATCH_SIZE));
+                jobs.forEach(j -> j.getSkillSet().addAll(skillService.resolve(j.getSkillsRequired())));
+                return jobs;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            migrated += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+
+        if (migrated > 0) {
+            log.info("Linked normalized skills for {} student/job posting row(s)", migrated);
+        }
+    }
+}
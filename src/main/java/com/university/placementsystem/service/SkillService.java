@@ -0,0 +1,116 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.entity.Skill;
+import com.university.placementsystem.repository.SkillRepository;
+import com.university.placementsystem.util.SkillNames;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Skill dictionary: maps free-form skill lists to canonical ({@link SkillNames}), integer-keyed {@link Skill}s.
+ *
+ * <p>All dictionary entries are kept in memory (name &harr; ID), so resolving a skill list
+ * costs no query unless it contains a skill never seen before. New skills are inserted in
+ * their own transaction and only cached once committed; a concurrent insert of the same
+ * name is resolved through the unique constraint.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SkillService {
+
+    // Data access
+    private final SkillRepository skillRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Canonical name -> ID, and the reverse
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    // Runs dictionary inserts independently of the caller's transaction
+    private TransactionTemplate newTransaction;
+
+    /**
+     * Loads the whole dictionary into memory.
+     */
+    @PostConstruct
+    void load() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        skillRepository.findAll().forEach(this::cache);
+    }
+
+    /**
+     * Resolves a comma-separated skill list to dictionary IDs, creating missing entries.
+     *
+     * @param csv skill list as entered (may be null)
+     * @return distinct skill IDs, in input order
+     */
+    public Set<Integer> resolveIds(String csv) {
+        return SkillNames.parse(csv).stream()
+                .map(this::idOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Resolves a comma-separated skill list to dictionary entries.
+     *
+     * <p>Entries are built from the in-memory dictionary (ID and name only), so linking
+     * them writes join rows without loading any skill or initializing a proxy.</p>
+     *
+     * @param csv skill list as entered (may be null)
+     * @return skills to link to a student or job posting
+     */
+    public Set<Skill> resolve(String csv) {
+        return resolveIds(csv).stream()
+                .map(id -> new Skill(id, namesById.get(id)))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    /**
+     * Returns the canonical name of a skill.
+     *
+     * @param id skill ID
+     * @return canonical name, or null if unknown
+     */
+    public String nameOf(int id) {
+        return namesById.get(id);
+    }
+
+    // -------------------- Helpers --------------------
+
+    // ID of a canonical name, inserting a dictionary entry if needed
+    private Integer idOf(String name) {
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        Skill skill;
+        try {
+            skill = newTransaction.execute(status -> skillRepository.findByName(name)
+                    .orElseGet(() -> skillRepository.saveAndFlush(Skill.builder().name(name).build())));
+        } catch (DataIntegrityViolationException ex) {
+            // Inserted concurrently (another request or instance); the row exists now, but the
+            // caller's transaction may not see it (REPEATABLE READ), so read it in a new one too
+            skill = newTransaction.execute(status -> skillRepository.findByName(name)).orElseThrow(() -> ex);
+        }
+        cache(skill);
+        return skill.getId();
+    }
+
+    private void cache(Skill skill) {
+        idsByName.put(skill.getName(), skill.getId());
+        namesById.put(skill.getId(), skill.getName());
+    }
+}
@@ -1,16 +1,30 @@
 package com.university.placementsystem.service;
 
 import com.university.placementsystem.dto.ApplicationResponse;
+import com.university.placementsystem.dto.ApplyOutcome;
+import com.university.placementsystem.dto.InterviewDTO;
+import com.university.placementsystem.dto.UserDTO;
 import com.university.placementsystem.entity.*;
+import com.university.placementsystem.event.ApplicationsSubmittedEvent;
 import com.university.placementsystem.repository.ApplicationRepository;
+import com.university.placementsystem.repository.InterviewRepository;
 import com.university.placementsystem.repository.JobPostingRepository;
 import com.university.placementsystem.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -18,8 +32,9 @@ import java.util.stream.Collectors;
  *
  * <p>Responsibilities:</p>
  * <ul>
- *   <li>Apply for jobs</li>
+ *   <li>Apply for jobs (single or bulk)</li>
  *   <li>List all applications of a student</li>
+ *   <li>List the student's scheduled interviews</li>
  * </ul>
  */
 @Service
@@ -30,69 +45,194 @@ public class StudentApplicationService {
     private final ApplicationRepository applicationRepository;
     private final StudentRepository studentRepository;
     private final JobPostingRepository jobPostingRepository;
+    private final InterviewRepository interviewRepository;
+    private final ProfileIdResolver profileIdResolver;
+
+    // Per-job application counters
+    private final JobApplicationStatsService statsService;
+
+    // Hands new applications to eligibility screening once committed
+    private final ApplicationEventPublisher eventPublisher;
 
     // ---- Constants ----
-    private static final String MSG_STUDENT_NOT_FOUND = "Student profile not found";
     private static final String MSG_JOB_NOT_FOUND = "Job posting not found";
     private static final String MSG_ALREADY_APPLIED = "Already applied for this job";
+    private static final String MSG_NOT_APPLIED = "You have not applied for job %d";
 
     /**
      * Applies a student to a job posting.
      *
-     * @param email student's email
+     * <p>Issues a single INSERT through entity references (neither the student nor the job
+     * is loaded). Duplicates are rejected by the (student, job) unique constraint, which
+     * also closes the race between concurrent clicks; a foreign-key failure means the job
+     * does not exist.</p>
+     *
+     * @param user  logged-in student
      * @param jobId ID of the job posting
      * @return ID of the created application
      * @throws ResponseStatusException if a student / job isn't found or already applied
      */
-    public Long applyForJob(String email, Long jobId) {
-        // Fetch a student profile or fail with 404
-        Student student = studentRepository.findByUserEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_STUDENT_NOT_FOUND));
-
-        // Fetch job posting or fail with 404
-        JobPosting job = jobPostingRepository.findById(jobId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_JOB_NOT_FOUND));
-
-        // Prevent duplicate applications
-        if (applicationRepository.existsByStudent_IdAndJobPosting_Id(student.getId(), job.getId())) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_ALREADY_APPLIED);
-        }
-
-        // Create and persist application
+    public Long applyForJob(UserDTO user, Long jobId) {
         Application application = Application.builder()
-                .student(student)
-                .jobPosting(job)
+                .student(studentRepository.getReferenceById(profileIdResolver.resolveStudentId(user)))
+                .jobPosting(jobPostingRepository.getReferenceById(jobId))
                 .status(ApplicationStatus.APPLIED)
                 .build();
 
-        applicationRepository.save(application);
+        try {
+            applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException ex) {
+            if (isDuplicateApplication(ex)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_ALREADY_APPLIED);
+            }
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_JOB_NOT_FOUND);
+        }
+
+        statsService.record(jobId, null, ApplicationStatus.APPLIED, 1);
+        eventPublisher.publishEvent(new ApplicationsSubmittedEvent(List.of(application.getId())));
 
         // Return the ID so the controller can use it
         return application.getId();
     }
 
+    /**
+     * Applies a student to several job postings in one transaction.
+     *
+     * <p>Two lookups (existing jobs, existing applications) decide the outcome per job;
+     * the new applications are then inserted as one batch.</p>
+     *
+     * @param user   logged-in student
+     * @param jobIds IDs of the job postings
+     * @return outcome per requested job ID, in request order
+     * @throws ResponseStatusException if the student isn't found, a concurrent request applied first
+     *                                 or a job was deleted meanwhile
+     */
+    @Transactional
+    public Map<Long, ApplyOutcome> applyForJobs(UserDTO user, List<Long> jobIds) {
+        Long studentId = profileIdResolver.resolveStudentId(user);
+        Set<Long> requested = new LinkedHashSet<>(jobIds);
+
+        Set<Long> existingJobs = jobPostingRepository.findExistingIds(requested);
+        Set<Long> alreadyApplied = applicationRepository.findAppliedJobIds(studentId, requested);
+
+        Student student = studentRepository.getReferenceById(studentId);
+        Map<Long, ApplyOutcome> outcomes = new LinkedHashMap<>();
+        List<Application> toInsert = new ArrayList<>();
+
+        for (Long jobId : requested) {
+            if (!existingJobs.contains(jobId)) {
+                outcomes.put(jobId, ApplyOutcome.JOB_NOT_FOUND);
+            } else if (alreadyApplied.contains(jobId)) {
+                outcomes.put(jobId, ApplyOutcome.ALREADY_APPLIED);
+            } else {
+                toInsert.add(Application.builder()
+                        .student(student)
+                        .jobPosting(jobPostingRepository.getReferenceById(jobId))
+                        .status(ApplicationStatus.APPLIED)
+                        .build());
+                outcomes.put(jobId, ApplyOutcome.APPLIED);
+            }
+        }
+
+        try {
+            applicationRepository.saveAll(toInsert);
+            applicationRepository.flush();
+        } catch (DataIntegrityViolationException ex) {
+            // Another request inserted one of these applications, or a job was deleted, after our lookups
+            if (isDuplicateApplication(ex)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_ALREADY_APPLIED);
+            }
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_JOB_NOT_FOUND);
+        }
+
+        for (Map.Entry<Long, ApplyOutcome> outcome : outcomes.entrySet()) {
+            if (outcome.getValue() == ApplyOutcome.APPLIED) {
+                statsService.record(outcome.getKey(), null, ApplicationStatus.APPLIED, 1);
+            }
+        }
+        if (!toInsert.isEmpty()) {
+            eventPublisher.publishEvent(new ApplicationsSubmittedEvent(
+                    toInsert.stream().map(Application::getId).collect(Collectors.toList())));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Records the student's order of preference among the jobs they applied for
+     * (used by placement allocation).
+     *
+     * @param user   logged-in student
+     * @param jobIds job IDs, most preferred first; applications not listed become unranked
+     * @throws ResponseStatusException if the student isn't found or has not applied for a listed job
+     */
+    @Transactional
+    public void setPreferences(UserDTO user, List<Long> jobIds) {
+        Long studentId = profileIdResolver.resolveStudentId(user);
+        Map<Long, Application> byJob = applicationRepository.findByStudent_Id(studentId).stream()
+                .collect(Collectors.toMap(app -> app.getJobPosting().getId(), app -> app));
+
+        Map<Long, Integer> preferences = new LinkedHashMap<>();
+        for (Long jobId : jobIds) {
+            if (!byJob.containsKey(jobId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, String.format(MSG_NOT_APPLIED, jobId));
+            }
+            preferences.putIfAbsent(jobId, preferences.size() + 1);
+        }
+
+        // Only changed rows are written (dirty checking, batched)
+        byJob.forEach((jobId, application) -> application.setStudentPreference(preferences.get(jobId)));
+    }
+
     /**
      * Lists all applications of a student.
      *
-     * @param email user email
+     * @param user logged-in student
      * @return list of {@link ApplicationResponse} DTOs
      * @throws ResponseStatusException if student profile not found
      */
-    public List<ApplicationResponse> listApplications(String email) {
-        // Ensure profile exists
-        Student student = studentRepository.findByUserEmail(email)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_STUDENT_NOT_FOUND));
-
-        // Map entities to DTOs
-        return applicationRepository.findByStudent_Id(student.getId())
-                .stream()
-                .map(app -> new ApplicationResponse(
-                        app.getJobPosting().getId(),
-                        app.getJobPosting().getTitle(),
-                        app.getJobPosting().getOrganization().getCompanyName(),
-                        app.getStatus(),
-                        app.getAppliedAt()
-                ))
-                .collect(Collectors.toList());
+    public List<ApplicationResponse> listApplications(UserDTO user) {
+        // One projection query instead of lazily loading each job and organization
+        return applicationRepository.findResponsesByStudent(profileIdResolver.resolveStudentId(user));
+    }
+
+    /**
+     * ETag of the student's application list, from one aggregate over the applications.
+     *
+     * <p>New applications change the count and highest ID; status changes bump the
+     * application versions and company renames the organization versions.</p>
+     *
+     * @param user logged-in student
+     * @return strong ETag of the list representation
+     * @throws ResponseStatusException if student profile not found
+     */
+    public String getApplicationsETag(UserDTO user) {
+        Long studentId = profileIdResolver.resolveStudentId(user);
+        return ETags.of("applications", applicationRepository.findChangeStampByStudent(studentId), studentId);
+    }
+
+    /**
+     * Lists the logged-in student's scheduled interviews, earliest first.
+     *
+     * @param user logged-in student
+     * @return interviews with room and time
+     * @throws ResponseStatusException if student profile not found
+     */
+    public List<InterviewDTO> listInterviews(UserDTO user) {
+        return interviewRepository.findForStudent(profileIdResolver.resolveStudentId(user));
+    }
+
+    // ---- Private helpers ----
+
+    // True if the failure is the (student, job) unique constraint rather than a missing job
+    private static boolean isDuplicateApplication(DataIntegrityViolationException ex) {
+        for (Throwable t = ex; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve) {
+                return cve.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE
+                        || (cve.getConstraintName() != null
+                            && cve.getConstraintName().toLowerCase().contains(Application.UK_STUDENT_JOB));
+            }
+        }
+        return false;
     }
+
 }
@@ -3,12 +3,14 @@ package com.university.placementsystem.service;
 import com.university.placementsystem.dto.StudentCreateRequest;
 import com.university.placementsystem.dto.StudentDTO;
 import com.university.placementsystem.dto.StudentUpdateRequest;
+import com.university.placementsystem.dto.UserDTO;
 import com.university.placementsystem.entity.Student;
 import com.university.placementsystem.entity.User;
 import com.university.placementsystem.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.http.HttpStatus;
@@ -33,6 +35,10 @@ public class StudentService {
 
     // Repository dependency
     private final StudentRepository studentRepository;
+    private final ProfileIdResolver profileIdResolver;
+
+    // Skill dictionary (normalizes the skill list)
+    private final SkillService skillService;
 
     // Upload directory (configurable via application.properties)
     @Value("${student.upload-dir:uploads/resumes}")
@@ -46,61 +52,78 @@ public class StudentService {
     private static final String MSG_INVALID_FILE = "Invalid file: Only PDF under 5MB allowed";
 
     /**
-     * Retrieve student profile by user email.
+     * Retrieve the student profile of the logged-in user.
      *
-     * @param email user email
+     * @param user logged-in user info
      * @return StudentDTO with profile data
      * @throws ResponseStatusException if profile not found
      */
-    public StudentDTO getProfile(String email) {
-        return studentRepository.findByUserEmail(email)
+    public StudentDTO getProfile(UserDTO user) {
+        return studentRepository.findById(profileIdResolver.resolveStudentId(user))
                 .map(student -> new StudentDTO(
                         student.getUniversity(),
                         student.getDegree(),
                         student.getGraduationYear(),
                         student.getSkills(),
                         student.getResumePath(),
-                        student.getUser().getEmail()
+                        user.getEmail()
                 ))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_PROFILE_NOT_FOUND));
     }
 
+    /**
+     * ETag of the logged-in student's profile, from the profile version (no entity load).
+     *
+     * @param user logged-in user info
+     * @return strong ETag of the profile representation
+     * @throws ResponseStatusException if profile not found
+     */
+    public String getProfileETag(UserDTO user) {
+        Long studentId = profileIdResolver.resolveStudentId(user);
+        Long version = studentRepository.findVersionById(studentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_PROFILE_NOT_FOUND));
+        // The profile also shows the account email, which lives on the user
+        return ETags.of("student-profile", studentId, version, Integer.toHexString(user.getEmail().hashCode()));
+    }
+
     /**
      * Create a new student profile.
      *
-     * @param email    user email
-     * @param request  profile creation DTO
-     * @param userId   ID of the logged-in user
+     * @param user    logged-in user info
+     * @param request profile creation DTO
+     * @return ID of the created profile
      * @throws ResponseStatusException if the profile already exists
      */
-    public void createProfile(String email, StudentCreateRequest request, Long userId) {
-        // Check if a profile already exists for this email
-        if (studentRepository.findByUserEmail(email).isPresent()) {
+    public Long createProfile(UserDTO user, StudentCreateRequest request) {
+        // Check if a profile already exists for this user
+        if (user.getProfileId() != null || studentRepository.existsByUserId(user.getId())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, MSG_PROFILE_EXISTS);
         }
 
         // Build a new profile entity
         Student student = Student.builder()
-                .user(new User(userId)) // associate with a user by ID
+                .user(new User(user.getId())) // associate with a user by ID
                 .university(request.getUniversity())
                 .degree(request.getDegree())
                 .graduationYear(request.getGraduationYear())
                 .skills(request.getSkills())
+                .skillSet(skillService.resolve(request.getSkills()))
                 .build();
 
-        studentRepository.save(student);
+        return studentRepository.save(student).getId();
     }
 
     /**
      * Update an existing student profile.
      *
-     * @param email   user email
+     * @param user    logged-in user info
      * @param request profile update DTO
      * @throws ResponseStatusException if profile not found
      */
-    public void updateProfile(String email, StudentUpdateRequest request) {
+    @Transactional
+    public void updateProfile(UserDTO user, StudentUpdateRequest request) {
         // Lookup profile or throw if missing
-        Student student = studentRepository.findByUserEmail(email)
+        Student student = studentRepository.findById(profileIdResolver.resolveStudentId(user))
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_PROFILE_NOT_FOUND));
 
         // Apply updates
@@ -108,6 +131,8 @@ public class StudentService {
         student.setDegree(request.getDegree());
         student.setGraduationYear(request.getGraduationYear());
         student.setSkills(request.getSkills());
+        student.getSkillSet().clear();
+        student.getSkillSet().addAll(skillService.resolve(request.getSkills()));
 
         studentRepository.save(student);
     }
@@ -115,12 +140,12 @@ public class StudentService {
     /**
      * Upload a PDF resume for the student.
      *
-     * @param email user email
-     * @param file  Multipart PDF file
+     * @param user logged-in user info
+     * @param file Multipart PDF file
      * @return path where the file is saved
      * @throws ResponseStatusException for invalid file or storage error
      */
-    public String uploadResume(String email, MultipartFile file) {
+    public String uploadResume(UserDTO user, MultipartFile file) {
         validateFile(file);
 
         try {
@@ -129,14 +154,14 @@ public class StudentService {
             if (!Files.exists(dirPath)) Files.createDirectories(dirPath);
 
             // Generate a unique file name
-            String fileName = sanitizeFileName(email) + "_" + UUID.randomUUID() + ".pdf";
+            String fileName = sanitizeFileName(user.getEmail()) + "_" + UUID.randomUUID() + ".pdf";
             Path destination = dirPath.resolve(fileName);
 
             // Save file
             Files.copy(file.getInputStream(), destination, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
 
             // Update the profile with a resume path
-            Student student = studentRepository.findByUserEmail(email)
+            Student student = studentRepository.findById(profileIdResolver.resolveStudentId(user))
                     .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, MSG_PROFILE_NOT_FOUND));
 
             student.setResumePath(destination.toString());
@@ -0,0 +1,54 @@
+package com.university.placementsystem.util;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Canonical form of skill names, shared by the skill dictionary and the eligibility rules.
+ *
+ * <p>A canonical name is trimmed, lower-cased and has its inner whitespace collapsed,
+ * so {@code " Spring  Boot"} and {@code "spring boot"} are the same skill.</p>
+ */
+public final class SkillNames {
+
+    // Longest stored skill name (length of skills.name)
+    public static final int MAX_LENGTH = 100;
+
+    private SkillNames() {
+    }
+
+    /**
+     * Canonical form of a skill name: trimmed, lower-cased, inner whitespace collapsed.
+     *
+     * @param raw skill as entered (may be null)
+     * @return canonical name, or an empty string for blank input
+     */
+    public static String canonicalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        String name = raw.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return name.length() > MAX_LENGTH ? name.substring(0, MAX_LENGTH) : name;
+    }
+
+    /**
+     * Splits a comma-separated skill list into canonical names.
+     *
+     * @param csv skill list as entered (may be null)
+     * @return distinct canonical names, in input order
+     */
+    public static Set<String> parse(String csv) {
+        Set<String> names = new LinkedHashSet<>();
+        if (csv == null) {
+            return names;
+        }
+        for (String part : csv.split(",")) {
+            String name = canonicalize(part);
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+}
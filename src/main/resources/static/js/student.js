@@ -0,0 +1,143 @@
+// ✅ Student job feed (cursor-paginated, newest first)
+let nextJobsCursor = null;
+
+function authHeaders() {
+    return { "Authorization": "Bearer " + localStorage.getItem("jwt") };
+}
+
+async function loadJobs(reset = false) {
+    const container = document.getElementById("jobs");
+    const moreButton = document.getElementById("loadMoreJobs");
+    if (reset) {
+        container.innerHTML = "";
+        nextJobsCursor = null;
+    }
+
+    const params = new URLSearchParams({ limit: 20 });
+    if (nextJobsCursor) params.set("after", nextJobsCursor);
+
+    const res = await fetch(`${API_BASE}/student/jobs?${params}`, { headers: authHeaders() });
+    if (!res.ok) {
+        container.insertAdjacentHTML("beforeend", "<p>Could not load jobs ❌</p>");
+        return;
+    }
+
+    const page = await res.json();
+    if (reset && page.items.length === 0) {
+        container.innerHTML = "<p>No job postings yet.</p>";
+    }
+    page.items.forEach(job => container.appendChild(renderJob(job)));
+
+    nextJobsCursor = page.nextCursor;
+    moreButton.style.display = nextJobsCursor ? "inline-block" : "none";
+}
+
+function renderJob(job) {
+    const card = document.createElement("div");
+    card.className = "job-card";
+
+    const title = document.createElement("h3");
+    title.textContent = job.title;
+    const company = document.createElement("p");
+    company.textContent = `🏢 ${job.organizationName}` + (job.location ? ` · 📍 ${job.location}` : "");
+    const skills = document.createElement("p");
+    skills.textContent = `🛠️ ${job.skillsRequired || "-"}`;
+
+    const apply = document.createElement("button");
+    apply.className = "cta-btn";
+    apply.textContent = "Apply";
+    apply.addEventListener("click", () => applyForJob(job.id, apply));
+
+    card.append(title, company, skills, apply);
+    return card;
+}
+
+async function applyForJob(jobId, button) {
+    const res = await fetch(`${API_BASE}/student/apply/${jobId}`, { method: "POST", headers: authHeaders() });
+    if (res.ok) {
+        button.disabled = true;
+        button.textContent = "Applied ✅";
+        loadApplications();
+    } else {
+        alert("Could not apply ❌ " + await res.text());
+    }
+}
+
+// ✅ My applications, kept current by the application stream (Server-Sent Events)
+let streamRetryMs = 1000;
+
+async function loadApplications() {
+    const container = document.getElementById("applications");
+    const res = await fetch(`${API_BASE}/student/applications`, { headers: authHeaders() });
+    if (!res.ok) {
+        container.innerHTML = "<p>Could not load applications ❌</p>";
+        return;
+    }
+
+    const applications = await res.json();
+    container.innerHTML = applications.length === 0 ? "<p>No applications yet.</p>" : "";
+    applications.forEach(app => container.appendChild(renderApplication(app)));
+}
+
+function renderApplication(app) {
+    const row = document.createElement("p");
+    row.className = "application-row";
+    row.dataset.jobId = app.jobId;
+    row.textContent = `${app.jobTitle} · 🏢 ${app.organizationName} · ${app.status}`;
+    return row;
+}
+
+// Replaces the row of the application's job (one application per job), or adds it on top
+function showApplicationUpdate(app) {
+    const container = document.getElementById("applications");
+    const row = renderApplication(app);
+    const existing = container.querySelector(`[data-job-id="${app.jobId}"]`);
+    if (existing) {
+        existing.replaceWith(row);
+    } else {
+        container.querySelector("p:not(.application-row)")?.remove();
+        container.prepend(row);
+    }
+}
+
+// EventSource cannot send the Authorization header: each connection uses a fresh single-use ticket
+async function openApplicationStream() {
+    let res;
+    try {
+        res = await fetch(`${API_BASE}/student/applications/stream-ticket`, { method: "POST", headers: authHeaders() });
+    } catch (e) {
+        return scheduleStreamReconnect();
+    }
+    if (res.status === 401 || res.status === 403) {
+        return; // logged out or deactivated: stop reconnecting
+    }
+    if (!res.ok) {
+        return scheduleStreamReconnect();
+    }
+
+    const { ticket } = await res.json();
+    const stream = new EventSource(`${API_BASE}/student/applications/stream?ticket=${encodeURIComponent(ticket)}`);
+    stream.addEventListener("connected", () => {
+        streamRetryMs = 1000;
+        loadApplications(); // catch up on changes missed while disconnected
+    });
+    stream.addEventListener("application", e => showApplicationUpdate(JSON.parse(e.data)));
+    stream.onerror = () => {
+        // The ticket is spent, so EventSource's own retry would be rejected: reconnect with a new one
+        stream.close();
+        scheduleStreamReconnect();
+    };
+}
+
+// Exponential backoff with jitter, capped at one minute
+function scheduleStreamReconnect() {
+    const delay = streamRetryMs + Math.random() * streamRetryMs / 2;
+    streamRetryMs = Math.min(streamRetryMs * 2, 60000);
+    setTimeout(openApplicationStream, delay);
+}
+
+document.addEventListener("DOMContentLoaded", () => {
+    loadJobs(true);
+    loadApplications();
+    openApplicationStream();
+});
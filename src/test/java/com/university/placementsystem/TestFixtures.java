@@ -0,0 +1,117 @@
+package com.university.placementsystem;
+
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.*;
+import com.university.placementsystem.repository.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Saves the users, profiles, job postings and applications the integration tests start from.
+ *
+ * <p>Picked up by component scanning in every {@code @SpringBootTest}. Names are derived
+ * from the given name (usually a per-test random tag), so tests sharing the database do
+ * not collide: {@code org-<name>} / {@code Company <name>}, {@code student-<name>},
+ * {@code Job <name>}. Each factory has a variant that adjusts the builder before saving.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+    private final OrganizationRepository organizationRepository;
+    private final JobPostingRepository jobPostingRepository;
+    private final ApplicationRepository applicationRepository;
+
+    /**
+     * Builds an active user (not saved), with email {@code <name>@example.com}.
+     */
+    public static User newUser(String name, UserRole role) {
+        return User.builder()
+                .username(name)
+                .email(name + "@example.com")
+                .password("secret")
+                .role(role)
+                .active(true)
+                .build();
+    }
+
+    /**
+     * Returns the authenticated principal of an organization's user.
+     */
+    public static UserDTO principal(Organization org) {
+        User user = org.getUser();
+        return new UserDTO(user.getId(), user.getUsername(), user.getEmail(), user.getRole(), org.getId());
+    }
+
+    /**
+     * Returns the authenticated principal of a student's user.
+     */
+    public static UserDTO principal(Student student) {
+        User user = student.getUser();
+        return new UserDTO(user.getId(), user.getUsername(), user.getEmail(), user.getRole(), student.getId());
+    }
+
+    /**
+     * Saves an active user.
+     */
+    public User user(String name, UserRole role) {
+        return userRepository.save(newUser(name, role));
+    }
+
+    /**
+     * Saves an approved organization (IT, City) with its user.
+     */
+    public Organization organization(String name) {
+        return organization(name, UnaryOperator.identity());
+    }
+
+    public Organization organization(String name, UnaryOperator<Organization.OrganizationBuilder> customizer) {
+        User user = user("org-" + name, UserRole.ORGANIZATION);
+        return organizationRepository.save(customizer.apply(Organization.builder()
+                .user(user).companyName("Company " + name).industry("IT").location("City").approved(true)).build());
+    }
+
+    /**
+     * Saves a job posting of an organization.
+     */
+    public JobPosting job(Organization org, String name) {
+        return job(org, name, UnaryOperator.identity());
+    }
+
+    public JobPosting job(Organization org, String name, UnaryOperator<JobPosting.JobPostingBuilder> customizer) {
+        return jobPostingRepository.save(customizer.apply(JobPosting.builder()
+                .title("Job " + name).description("Description").organization(org)).build());
+    }
+
+    /**
+     * Saves a student (Uni, BSc, 2025) with their user.
+     */
+    public Student student(String name) {
+        return student(name, UnaryOperator.identity());
+    }
+
+    public Student student(String name, UnaryOperator<Student.StudentBuilder> customizer) {
+        User user = user("student-" + name, UserRole.STUDENT);
+        return studentRepository.save(customizer.apply(Student.builder()
+                .user(user).university("Uni").degree("BSc").graduationYear(2025)).build());
+    }
+
+    /**
+     * Saves an APPLIED application.
+     */
+    public Application application(Student student, JobPosting job) {
+        return application(student, job, ApplicationStatus.APPLIED);
+    }
+
+    /**
+     * Saves an application with the given status.
+     */
+    public Application application(Student student, JobPosting job, ApplicationStatus status) {
+        return applicationRepository.save(Application.builder()
+                .student(student).jobPosting(job).status(status).build());
+    }
+}
@@ -0,0 +1,94 @@
+package com.university.placementsystem.allocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deferred acceptance over primitive arrays: small known instance and a stability
+ * check at campus scale.
+ */
+class StableMatcherTest {
+
+    @Test
+    void studentsGetTheirBestChoiceAmongJobsThatWouldKeepThem() {
+        // Students 0..2; jobs 0 (1 seat) and 1 (1 seat)
+        // Student 0: job 0, job 1 | Student 1: job 0 | Student 2: job 1, job 0
+        int[] start = {0, 2, 3, 5};
+        int[] job = {0, 1, 0, 1, 0};
+        // Job 0 ranks student 1 first, then 0, then 2; job 1 ranks student 0 before student 2
+        int[] rank = {2, 1, 1, 2, 3};
+        long[] tieBreak = {1, 2, 3, 4, 5};
+
+        int[] placed = StableMatcher.match(3, new int[]{1, 1}, start, job, rank, tieBreak);
+
+        // Student 0 is displaced from job 0 by student 1 and takes job 1 from student 2
+        assertThat(placed).containsExactly(1, 2, StableMatcher.UNPLACED);
+    }
+
+    @Test
+    void campusScaleAllocationIsStableAndRespectsSeats() {
+        final int students = 100_000;
+        final int jobs = 5_000;
+        final int choices = 5;
+        Random random = new Random(7);
+
+        int[] seats = new int[jobs];
+        for (int j = 0; j < jobs; j++) {
+            seats[j] = 1 + random.nextInt(30);
+        }
+        int[] start = new int[students + 1];
+        int[] job = new int[students * choices];
+        int[] rank = new int[students * choices];
+        long[] tieBreak = new long[students * choices];
+        for (int s = 0, e = 0; s < students; s++) {
+            start[s] = e;
+            for (int c = 0; c < choices; c++, e++) {
+                job[e] = (s * 31 + c * 977 + random.nextInt(50)) % jobs;
+                rank[e] = random.nextInt(1000);
+                tieBreak[e] = e;
+            }
+        }
+        start[students] = students * choices;
+
+        int[] placed = StableMatcher.match(students, seats, start, job, rank, tieBreak);
+
+        // Seats are never exceeded; remember each job's worst held entry
+        int[] used = new int[jobs];
+        int[] worst = new int[jobs];
+        java.util.Arrays.fill(worst, -1);
+        for (int s = 0; s < students; s++) {
+            int e = placed[s];
+            if (e != StableMatcher.UNPLACED) {
+                assertThat(e).isBetween(start[s], start[s + 1] - 1);
+                int j = job[e];
+                used[j]++;
+                if (worst[j] == -1 || better(worst[j], e, rank, tieBreak)) {
+                    worst[j] = e;
+                }
+            }
+        }
+        for (int j = 0; j < jobs; j++) {
+            assertThat(used[j]).isLessThanOrEqualTo(seats[j]);
+        }
+
+        // No blocking pair: every job a student prefers to their placement is full of better candidates
+        for (int s = 0; s < students; s++) {
+            int end = placed[s] == StableMatcher.UNPLACED ? start[s + 1] : placed[s];
+            for (int e = start[s]; e < end; e++) {
+                int j = job[e];
+                if (job[e] == (placed[s] == StableMatcher.UNPLACED ? -1 : job[placed[s]])) {
+                    continue;
+                }
+                assertThat(used[j]).isEqualTo(seats[j]);
+                assertThat(better(worst[j], e, rank, tieBreak)).isTrue();
+            }
+        }
+    }
+
+    private static boolean better(int a, int b, int[] rank, long[] tieBreak) {
+        return rank[a] < rank[b] || (rank[a] == rank[b] && tieBreak[a] < tieBreak[b]);
+    }
+}
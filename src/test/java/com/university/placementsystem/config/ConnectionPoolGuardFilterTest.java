@@ -0,0 +1,42 @@
+package com.university.placementsystem.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent request limit applied in virtual-thread mode.
+ */
+class ConnectionPoolGuardFilterTest {
+
+    @Test
+    void requestBeyondTheLimitIsRejectedAndPermitsAreReleased() throws Exception {
+        ConnectionPoolGuardFilter filter = new ConnectionPoolGuardFilter(1, Duration.ofMillis(50));
+        MockHttpServletResponse inner = new MockHttpServletResponse();
+
+        // The outer request holds the only permit while the inner one arrives
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/student/profile"), outer,
+                (request, response) -> {
+                    assertThat(filter.getActiveRequests()).isEqualTo(1);
+                    filter.doFilter(new MockHttpServletRequest("GET", "/api/student/applications"), inner,
+                            new MockFilterChain());
+                });
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(inner.getStatus()).isEqualTo(503);
+        assertThat(inner.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(filter.getActiveRequests()).isZero();
+
+        // Once released, the next request gets through
+        MockHttpServletResponse next = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/student/applications"), next, new MockFilterChain());
+        assertThat(next.getStatus()).isEqualTo(200);
+    }
+}
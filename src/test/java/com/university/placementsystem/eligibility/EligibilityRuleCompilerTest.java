@@ -0,0 +1,51 @@
+package com.university.placementsystem.eligibility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Parsing and evaluation of eligibility rules.
+ */
+class EligibilityRuleCompilerTest {
+
+    private static final Candidate CS_2025 = new Candidate("BSc  CS", "Tribhuvan University", 2025, Set.of("java", "sql"));
+    private static final Candidate BE_2023 = new Candidate("BE", "Kathmandu University", 2023, Set.of("python"));
+    private static final Candidate INCOMPLETE = new Candidate(null, null, null, Set.of());
+
+    @Test
+    void comparisonsAndSetsCombineWithPrecedence() {
+        EligibilityRule rule = EligibilityRuleCompiler.compile(
+                "graduationYear >= 2025 AND degree IN ('bsc cs', 'BE') or university contains 'kathmandu'");
+
+        assertThat(rule.test(CS_2025)).isTrue();
+        assertThat(rule.test(BE_2023)).isTrue();
+        assertThat(rule.test(INCOMPLETE)).isFalse();
+
+        EligibilityRule grouped = EligibilityRuleCompiler.compile(
+                "graduationYear >= 2025 and (degree = 'BE' OR skills IN ('Java', 'Go')) and not skills contains 'cobol'");
+        assertThat(grouped.test(CS_2025)).isTrue();
+        assertThat(grouped.test(BE_2023)).isFalse();
+
+        assertThat(EligibilityRuleCompiler.compile("graduationYear NOT IN (2023, 2024)").test(BE_2023)).isFalse();
+        assertThat(EligibilityRuleCompiler.compile("  ").test(INCOMPLETE)).isTrue();
+    }
+
+    @Test
+    void invalidRulesReportWhatWasExpected() {
+        assertThatThrownBy(() -> EligibilityRuleCompiler.compile("graduationYear >= 'x'"))
+                .isInstanceOf(InvalidRuleException.class)
+                .hasMessage("Expected a year but found 'x' at position 19");
+        assertThatThrownBy(() -> EligibilityRuleCompiler.compile("gpa > 3"))
+                .isInstanceOf(InvalidRuleException.class)
+                .hasMessageStartingWith("Unknown field 'gpa'");
+        assertThatThrownBy(() -> EligibilityRuleCompiler.compile("degree IN ('BE'"))
+                .isInstanceOf(InvalidRuleException.class)
+                .hasMessage("Expected ')' but found end of rule at position 16");
+        assertThatThrownBy(() -> EligibilityRuleCompiler.compile("degree < 'BE'"))
+                .isInstanceOf(InvalidRuleException.class);
+    }
+}
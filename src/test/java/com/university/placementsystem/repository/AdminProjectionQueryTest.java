@@ -0,0 +1,137 @@
+package com.university.placementsystem.repository;
+
+import com.university.placementsystem.dto.ApplicationDTO;
+import com.university.placementsystem.dto.JobPostingDTO;
+import com.university.placementsystem.dto.OrganizationDTO;
+import com.university.placementsystem.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.university.placementsystem.TestFixtures.newUser;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the admin listing projections load every row in a single SQL statement
+ * (no N+1 lazy loading of users, students, jobs, or organizations).
+ */
+@DataJpaTest
+class AdminProjectionQueryTest {
+
+    private static final int ROWS = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < ROWS; i++) {
+            User orgUser = em.persist(newUser("org" + i, UserRole.ORGANIZATION));
+            Organization org = em.persist(Organization.builder()
+                    .user(orgUser).companyName("Company " + i).industry("IT").location("City")
+                    .approved(i % 2 == 0).build());
+            JobPosting job = em.persist(JobPosting.builder()
+                    .title("Job " + i).description("Description").skillsRequired("Java")
+                    .organization(org).build());
+
+            User studentUser = em.persist(newUser("student" + i, UserRole.STUDENT));
+            Student student = em.persist(Student.builder()
+                    .user(studentUser).university("Uni").degree("BSc").graduationYear(2025).build());
+            em.persist(Application.builder().student(student).jobPosting(job).build());
+        }
+        em.flush();
+        em.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void applicationsAreLoadedWithOneStatement() {
+        List<ApplicationDTO> apps = applicationRepository.findPageById(0L, Limit.of(ROWS));
+
+        assertThat(apps).hasSize(ROWS);
+        assertThat(apps.get(0).getStudentEmail()).isEqualTo("student0@example.com");
+        assertThat(apps.get(0).getOrganizationName()).isEqualTo("Company 0");
+        assertThat(apps.get(0).getStatus()).isEqualTo(ApplicationStatus.APPLIED.name());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void organizationsAreLoadedWithOneStatement() {
+        List<OrganizationDTO> orgs = organizationRepository.findPageById(0L, Limit.of(ROWS));
+
+        assertThat(orgs).hasSize(ROWS);
+        assertThat(orgs).extracting(OrganizationDTO::getEmail).contains("org0@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void pendingOrganizationsAreLoadedWithOneStatement() {
+        List<OrganizationDTO> pending = organizationRepository.findPendingDTOs();
+
+        assertThat(pending).hasSize(ROWS / 2);
+        assertThat(pending).noneMatch(OrganizationDTO::isApproved);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void jobPostingsAreLoadedWithOneStatement() {
+        List<JobPostingDTO> jobs = jobPostingRepository.findPageById(0L, Limit.of(ROWS));
+
+        assertThat(jobs).hasSize(ROWS);
+        assertThat(jobs).extracting(JobPostingDTO::getOrganizationName).contains("Company 0");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void applicationPagesByAppliedAtFollowEachOtherWithoutGaps() {
+        List<ApplicationDTO> seen = new ArrayList<>(applicationRepository.findFirstPageByAppliedAt(Limit.of(2)));
+        while (seen.size() < ROWS) {
+            ApplicationDTO last = seen.get(seen.size() - 1);
+            List<ApplicationDTO> page = applicationRepository.findPageByAppliedAt(last.getAppliedAt(), last.getId(), Limit.of(2));
+            assertThat(page).isNotEmpty();
+            seen.addAll(page);
+        }
+
+        assertThat(seen).extracting(ApplicationDTO::getId).doesNotHaveDuplicates().hasSize(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    void exportStreamAppliesOptionalFilters() {
+        try (Stream<ApplicationDTO> all = applicationRepository.streamForExport(null, null, null)) {
+            assertThat(all).hasSize(ROWS);
+        }
+        try (Stream<ApplicationDTO> none = applicationRepository.streamForExport(
+                ApplicationStatus.SELECTED, null, LocalDateTime.now().plusDays(1))) {
+            assertThat(none).isEmpty();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.university.placementsystem.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Greedy + repair interview scheduling over (slot, room) cells.
+ */
+class InterviewSchedulerTest {
+
+    @Test
+    void repairMovesAnInterviewToMakeRoomForABusyStudent() {
+        // 3 slots x 2 rooms. Pinned: student 2 in (0, 1), student 1 in (1, 0), students 0 and 3 fill slot 2.
+        // Greedy puts student 0's interview into the last free cell of slot 0, the only slot student 1 can use
+        boolean[] open = {true, true, true, true, true, true};
+        int[] student = {0, 1, 2, 1, 0, 3};
+        int[] organization = {1, 2, 3, 4, 5, 6};
+        final int none = InterviewScheduler.UNSCHEDULED;
+        int[] pinned = {none, none, 1, 2, 4, 5};
+
+        int[] cells = InterviewScheduler.schedule(3, 2, open, 4, student, organization, pinned);
+
+        // Student 0 is moved to slot 1 so that student 1 can take slot 0
+        assertThat(cells).containsExactly(3, 0, 1, 2, 4, 5);
+    }
+
+    @Test
+    void aPanelStaysInItsRoomForTheNextSlot() {
+        // 2 slots x 2 rooms; slot 0 is taken by organization 7 (room 0) and organization 9 (room 1)
+        boolean[] open = {true, true, true, true};
+        int[] student = {0, 1, 2};
+        int[] organization = {7, 9, 9};
+        int[] pinned = {0, 1, InterviewScheduler.UNSCHEDULED};
+
+        int[] cells = InterviewScheduler.schedule(2, 2, open, 3, student, organization, pinned);
+
+        // Organization 9's next interview goes to room 1 of slot 1, not to the first free room
+        assertThat(cells).containsExactly(0, 1, 3);
+    }
+
+    @Test
+    void largeDriveIsConflictFreeAndClosingASlotOnlyMovesItsInterviews() {
+        final int slots = 120;
+        final int rooms = 40;
+        final int students = 3_000;
+        final int interviews = 4_500;
+        Random random = new Random(11);
+
+        boolean[] open = new boolean[slots * rooms];
+        Arrays.fill(open, true);
+        int[] student = new int[interviews];
+        int[] organization = new int[interviews];
+        for (int i = 0; i < interviews; i++) {
+            student[i] = random.nextInt(students);
+            organization[i] = random.nextInt(200);
+        }
+        int[] unpinned = new int[interviews];
+        Arrays.fill(unpinned, InterviewScheduler.UNSCHEDULED);
+
+        int[] cells = InterviewScheduler.schedule(slots, rooms, open, students, student, organization, unpinned);
+        assertConflictFree(cells, open, student, rooms, students, slots);
+        assertThat(cells).doesNotContain(InterviewScheduler.UNSCHEDULED);
+
+        // Close slot 0: everything else stays pinned where it was
+        Arrays.fill(open, 0, rooms, false);
+        int[] pinned = cells.clone();
+        int[] rescheduled = InterviewScheduler.schedule(slots, rooms, open, students, student, organization, pinned);
+
+        assertConflictFree(rescheduled, open, student, rooms, students, slots);
+        for (int i = 0; i < interviews; i++) {
+            if (cells[i] >= rooms) {
+                assertThat(rescheduled[i]).isEqualTo(cells[i]);
+            } else {
+                assertThat(rescheduled[i]).isGreaterThanOrEqualTo(rooms);
+            }
+        }
+    }
+
+    private static void assertConflictFree(int[] cells, boolean[] open, int[] student,
+                                           int rooms, int students, int slots) {
+        boolean[] usedCell = new boolean[open.length];
+        boolean[] studentBusy = new boolean[students * slots];
+        for (int i = 0; i < cells.length; i++) {
+            int c = cells[i];
+            if (c == InterviewScheduler.UNSCHEDULED) {
+                continue;
+            }
+            assertThat(open[c]).isTrue();
+            assertThat(usedCell[c]).isFalse();
+            usedCell[c] = true;
+            int key = student[i] * slots + c / rooms;
+            assertThat(studentBusy[key]).isFalse();
+            studentBusy[key] = true;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.university.placementsystem.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Filtering, counting and paging of the bitmap facet index.
+ */
+class JobFacetIndexTest {
+
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobFacetIndex();
+        index.putOrganization(1, "IT", "Kathmandu", true);
+        index.putOrganization(2, "Finance", "Pokhara", true);
+        index.putOrganization(3, "IT", "Pokhara", false);
+
+        index.addJob(10, 1, "Java, Spring");
+        index.addJob(11, 1, "Python");
+        index.addJob(12, 2, "Excel, SQL");
+        index.addJob(13, 2, "java");
+        index.addJob(14, 3, "Java");
+    }
+
+    @Test
+    void filtersAreAndedAcrossFieldsAndCountsIgnoreTheirOwnField() {
+        JobFacetIndex.Result result = index.search(
+                Map.of(FacetField.INDUSTRY, List.of("it"), FacetField.SKILL, List.of("Java")), null, 10, 10);
+
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getJobIds()).containsExactly(10L);
+        // Industry counts are restricted by the skill filter only (job 14's organization is unapproved)
+        assertThat(result.getCounts().get(FacetField.INDUSTRY)).containsExactly(
+                Map.entry("Finance", 1), Map.entry("IT", 1));
+        assertThat(result.getCounts().get(FacetField.SKILL)).containsEntry("Python", 1);
+    }
+
+    @Test
+    void pagesAreNewestFirstAndFollowEachOther() {
+        JobFacetIndex.Result first = index.search(Map.of(), null, 2, 10);
+        assertThat(first.getJobIds()).containsExactly(13L, 12L);
+        assertThat(first.isHasMore()).isTrue();
+
+        JobFacetIndex.Result second = index.search(Map.of(), 12L, 2, 10);
+        assertThat(second.getJobIds()).containsExactly(11L, 10L);
+        assertThat(second.isHasMore()).isFalse();
+    }
+
+    @Test
+    void organizationChangesMovePostingsBetweenValues() {
+        index.putOrganization(1, "Education", "Kathmandu", true);
+        index.putOrganization(3, "IT", "Pokhara", true);
+
+        JobFacetIndex.Result result = index.search(Map.of(FacetField.INDUSTRY, List.of("IT")), null, 10, 10);
+
+        assertThat(result.getJobIds()).containsExactly(14L);
+        assertThat(result.getCounts().get(FacetField.INDUSTRY)).containsEntry("Education", 2);
+    }
+}
@@ -0,0 +1,77 @@
+package com.university.placementsystem.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Scoring, filtering and top-K selection of the columnar recommendation index.
+ */
+class JobRecommendationIndexTest {
+
+    // Skill dictionary IDs
+    private static final int JAVA = 1;
+    private static final int SQL = 2;
+    private static final int KOTLIN = 3;
+    private static final int EXCEL = 4;
+
+    @Test
+    void rareSkillsWeighMoreAndHiddenOrIneligiblePostingsAreSkipped() {
+        JobRecommendationIndex index = new JobRecommendationIndex();
+        index.putOrganization(1, true);
+        index.putOrganization(2, false);
+
+        index.addJob(10, 1, List.of(JAVA, SQL), GraduationYearRange.ANY);
+        index.addJob(11, 1, List.of(KOTLIN, SQL), GraduationYearRange.ANY);
+        index.addJob(12, 1, List.of(SQL), GraduationYearRange.ANY);
+        index.addJob(13, 1, List.of(EXCEL), GraduationYearRange.ANY);
+        index.addJob(14, 2, List.of(KOTLIN), GraduationYearRange.ANY);
+        index.addJob(15, 1, List.of(KOTLIN), GraduationYearRange.parse("2023 graduates only"));
+        index.addJob(16, 1, List.of(JAVA, KOTLIN), GraduationYearRange.ANY);
+
+        List<JobRecommendationIndex.Hit> hits = index.recommend(Set.of(KOTLIN, SQL), 2025, Set.of(16L), 10);
+
+        // 11 matches exactly; 12 (SQL only) beats 10 (SQL plus unmatched Java); 13-16 are filtered out
+        assertThat(hits).extracting(JobRecommendationIndex.Hit::getJobId).containsExactly(11L, 12L, 10L);
+        assertThat(hits.get(0).getScore()).isEqualTo(1f, within(1e-5f));
+
+        index.putOrganization(2, true);
+        assertThat(index.recommend(Set.of(KOTLIN), 2025, Set.of(), 1))
+                .extracting(JobRecommendationIndex.Hit::getJobId).containsExactly(14L);
+    }
+
+    @Test
+    void parallelScanFindsTheBestPostingsInEveryChunk() {
+        JobRecommendationIndex index = new JobRecommendationIndex();
+        index.putOrganization(1, true);
+        Random random = new Random(42);
+        final int jobs = JobRecommendationIndex.PARALLEL_THRESHOLD * 3;
+        for (int jobId = 0; jobId < jobs; jobId++) {
+            boolean target = jobId % 10_000 == 1234;
+            List<Integer> skills = target
+                    ? List.of(JAVA, SQL)
+                    : List.of(100 + random.nextInt(500), 100 + random.nextInt(500), SQL);
+            index.addJob(jobId, 1, skills, GraduationYearRange.ANY);
+        }
+
+        List<JobRecommendationIndex.Hit> hits = index.recommend(Set.of(JAVA, SQL), null, Set.of(), 5);
+
+        // Exact matches first, newest first on ties
+        assertThat(hits).extracting(JobRecommendationIndex.Hit::getJobId)
+                .containsExactly(41_234L, 31_234L, 21_234L, 11_234L, 1_234L);
+    }
+
+    @Test
+    void graduationYearsAreExtractedFromEligibilityCriteria() {
+        assertThat(GraduationYearRange.parse("2024 or 2025 graduates")).isEqualTo(new GraduationYearRange(2024, 2025));
+        assertThat(GraduationYearRange.parse("Batch of 2023 onwards")).isEqualTo(new GraduationYearRange(2023, 0));
+        assertThat(GraduationYearRange.parse("Graduated before 2022")).isEqualTo(new GraduationYearRange(0, 2022));
+        assertThat(GraduationYearRange.parse("CGPA 3.0+")).isEqualTo(GraduationYearRange.ANY);
+        assertThat(new GraduationYearRange(2024, 2025).contains(2026)).isFalse();
+    }
+}
@@ -0,0 +1,103 @@
+package com.university.placementsystem.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tokenization, BM25 ranking and approval filtering of the in-memory job search index.
+ */
+class JobSearchIndexTest {
+
+    // Approved organization owning the postings
+    private static final long ORG = 10;
+
+    @Test
+    void analyzerKeepsSkillTokensAndDropsStopWords() {
+        assertThat(TextAnalyzer.analyze("Experience with C++, C# and Node.js."))
+                .containsExactly("experience", "c++", "c#", "node.js");
+    }
+
+    @Test
+    void titleMatchesOutrankDescriptionMatches() {
+        JobSearchIndex index = index();
+        index.add(1, ORG, "Office Manager", "Excel", "Works closely with the java team");
+        index.add(2, ORG, "Java Developer", "Java, Spring", "Build backend services");
+        index.add(3, ORG, "Data Analyst", "SQL", "Reporting");
+
+        List<JobSearchIndex.Hit> hits = index.search("java", 10);
+
+        assertThat(hits).extracting(JobSearchIndex.Hit::getJobId).containsExactly(2L, 1L);
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+
+    @Test
+    void documentsMatchingMoreTermsRankFirstAndLimitIsApplied() {
+        JobSearchIndex index = index();
+        for (int i = 1; i <= 20; i++) {
+            index.add(i, ORG, "Backend Developer " + i, "Java", "Services");
+        }
+        index.add(100, ORG, "Backend Developer", "Java, Kubernetes", "Services");
+
+        List<JobSearchIndex.Hit> hits = index.search("java kubernetes", 5);
+
+        assertThat(hits).hasSize(5);
+        assertThat(hits.get(0).getJobId()).isEqualTo(100L);
+    }
+
+    @Test
+    void readdingReplacesThePreviousVersion() {
+        JobSearchIndex index = index();
+        index.add(7, ORG, "Python Developer", "Python", "Scripts");
+        index.add(7, ORG, "Go Developer", "Go", "Services");
+
+        assertThat(index.search("python", 10)).isEmpty();
+        assertThat(index.search("go", 10)).extracting(JobSearchIndex.Hit::getJobId).containsExactly(7L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void readdedPostingsScoreLikeFreshOnesAndAppearOnce() {
+        JobSearchIndex fresh = index();
+        fresh.add(1, ORG, "Java Developer", "Java", "Services");
+        fresh.add(2, ORG, "Data Analyst", "SQL", "Reporting");
+
+        // Same final content, reached through repeated re-adds (as a rebuild replay does)
+        JobSearchIndex readded = index();
+        for (int i = 0; i < 5; i++) {
+            readded.add(1, ORG, "Java Developer", "Java", "Services");
+        }
+        readded.add(2, ORG, "Data Analyst", "SQL", "Reporting");
+
+        List<JobSearchIndex.Hit> hits = readded.search("java developer services", 10);
+
+        assertThat(hits).extracting(JobSearchIndex.Hit::getJobId).containsExactly(1L);
+        assertThat(hits.get(0).getScore()).isPositive()
+                .isEqualTo(fresh.search("java developer services", 10).get(0).getScore());
+    }
+
+    @Test
+    void postingsOfUnapprovedOrganizationsAreSkippedBeforeTheLimit() {
+        JobSearchIndex index = index();
+        index.putOrganization(20, false);
+        index.add(1, 20, "Java Developer", "Java", "Java services");
+        index.add(2, ORG, "Office Manager", "Excel", "Works with the java team");
+
+        // The better match is hidden, so the single slot goes to the visible one
+        assertThat(index.search("java", 1)).extracting(JobSearchIndex.Hit::getJobId).containsExactly(2L);
+
+        index.putOrganization(20, true);
+        assertThat(index.search("java", 1)).extracting(JobSearchIndex.Hit::getJobId).containsExactly(1L);
+
+        index.putOrganization(ORG, false);
+        assertThat(index.search("excel", 10)).isEmpty();
+    }
+
+    private static JobSearchIndex index() {
+        JobSearchIndex index = new JobSearchIndex();
+        index.putOrganization(ORG, true);
+        return index;
+    }
+}
@@ -0,0 +1,55 @@
+package com.university.placementsystem.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Changes received during a rebuild are replayed onto the fresh index in order.
+ */
+class RebuildableIndexTest {
+
+    @Test
+    void changesDuringRebuildAreReplayedInOrderUntilNoneAreLeft() {
+        Map<String, String> initial = new ConcurrentHashMap<>();
+        RebuildableIndex<Map<String, String>> index = new RebuildableIndex<>(initial);
+
+        Map<String, String> rebuilt = index.rebuild(() -> {
+            Map<String, String> fresh = new ConcurrentHashMap<>(Map.of("org", "loaded"));
+            index.apply(target -> target.put("org", "first"));
+            // Arrives while the first change is being replayed onto the fresh index
+            index.apply(target -> {
+                if (target != initial && !"third".equals(target.get("org"))) {
+                    index.apply(t -> t.put("org", "third"));
+                }
+                target.put("org", "second");
+            });
+            return fresh;
+        });
+
+        assertThat(index.get()).isSameAs(rebuilt);
+        assertThat(rebuilt).containsEntry("org", "third");
+
+        // After the swap, changes go straight to the new index
+        index.apply(target -> target.put("org", "fourth"));
+        assertThat(index.get()).containsEntry("org", "fourth");
+    }
+
+    @Test
+    void failedRebuildKeepsTheCurrentIndex() {
+        Map<String, String> initial = new ConcurrentHashMap<>();
+        RebuildableIndex<Map<String, String>> index = new RebuildableIndex<>(initial);
+
+        assertThatThrownBy(() -> index.rebuild(() -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.get()).isSameAs(initial);
+        // No longer recording: a new rebuild can start
+        assertThat(index.rebuild(ConcurrentHashMap::new)).isNotSameAs(initial);
+    }
+}
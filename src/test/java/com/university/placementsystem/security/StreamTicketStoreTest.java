@@ -0,0 +1,63 @@
+package com.university.placementsystem.security;
+
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Stream tickets: redeemable once, only before they expire, and bounded in number.
+ */
+class StreamTicketStoreTest {
+
+    private final UserDTO student = new UserDTO(1L, "Student", "student@example.com", UserRole.STUDENT, 7L);
+
+    private StreamTicketStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new StreamTicketStore();
+        ReflectionTestUtils.setField(store, "ttl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(store, "maxSize", 2);
+    }
+
+    @Test
+    void ticketIsRedeemedOnce() {
+        String ticket = store.issue(student);
+
+        assertThat(store.redeem(ticket)).isSameAs(student);
+        assertThat(store.redeem(ticket)).isNull();
+        assertThat(store.redeem("unknown")).isNull();
+    }
+
+    @Test
+    void expiredTicketIsRejectedAndPurgedWhenFull() {
+        ReflectionTestUtils.setField(store, "ttl", Duration.ZERO);
+        String expired = store.issue(student);
+        store.issue(student);
+
+        assertThat(store.redeem(expired)).isNull();
+
+        // Full of expired tickets: they are purged to admit a new one
+        store.issue(student);
+        ReflectionTestUtils.setField(store, "ttl", Duration.ofSeconds(30));
+        String live = store.issue(student);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.redeem(live)).isSameAs(student);
+    }
+
+    @Test
+    void issuingFailsWhileFullOfLiveTickets() {
+        store.issue(student);
+        store.issue(student);
+
+        assertThatThrownBy(() -> store.issue(student)).isInstanceOf(ResponseStatusException.class);
+    }
+}
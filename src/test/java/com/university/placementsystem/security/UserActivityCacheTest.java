@@ -0,0 +1,85 @@
+package com.university.placementsystem.security;
+
+import com.university.placementsystem.event.UserStatusChangedEvent;
+import com.university.placementsystem.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * In-memory set of deactivated accounts: events, periodic reloads, and events racing a reload.
+ */
+class UserActivityCacheTest {
+
+    private UserActivityCache cache;
+
+    // Number of findDeactivatedIds queries
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @Test
+    void statusChangesTakeEffectWithoutQuerying() {
+        cache = cache(List::of, Duration.ofHours(1));
+
+        assertThat(cache.isActive(1L)).isTrue();
+        cache.onUserStatusChanged(new UserStatusChangedEvent(1L, false));
+        assertThat(cache.isActive(1L)).isFalse();
+        cache.onUserStatusChanged(new UserStatusChangedEvent(1L, true));
+        assertThat(cache.isActive(1L)).isTrue();
+
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    void setIsReloadedOnceOlderThanTheMaxStaleness() {
+        List<Long> deactivated = new ArrayList<>();
+        cache = cache(() -> List.copyOf(deactivated), Duration.ofHours(1));
+        assertThat(cache.isActive(2L)).isTrue();
+
+        // Deactivated elsewhere (no event): not seen while the set is fresh
+        deactivated.add(2L);
+        assertThat(cache.isActive(2L)).isTrue();
+        assertThat(queries).hasValue(1);
+
+        ReflectionTestUtils.setField(cache, "maxStaleness", Duration.ZERO);
+        assertThat(cache.isActive(2L)).isFalse();
+        assertThat(queries).hasValue(2);
+    }
+
+    @Test
+    void eventsDuringAReloadAreReplayedOntoTheFreshSet() {
+        // The query result predates two changes committed while it runs
+        cache = cache(() -> {
+            cache.onUserStatusChanged(new UserStatusChangedEvent(1L, true));
+            cache.onUserStatusChanged(new UserStatusChangedEvent(3L, false));
+            return List.of(1L);
+        }, Duration.ofHours(1));
+
+        assertThat(cache.isActive(1L)).isTrue();
+        assertThat(cache.isActive(3L)).isFalse();
+        assertThat(queries).hasValue(1);
+    }
+
+    // Cache over a repository whose only supported query returns the given IDs
+    private UserActivityCache cache(Supplier<List<Long>> deactivatedIds, Duration maxStaleness) {
+        UserRepository repository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(), new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findDeactivatedIds")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    queries.incrementAndGet();
+                    return deactivatedIds.get();
+                });
+        UserActivityCache activityCache = new UserActivityCache(repository);
+        ReflectionTestUtils.setField(activityCache, "maxStaleness", maxStaleness);
+        return activityCache;
+    }
+}
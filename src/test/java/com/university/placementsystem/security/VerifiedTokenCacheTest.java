@@ -0,0 +1,94 @@
+package com.university.placementsystem.security;
+
+import com.university.placementsystem.entity.UserRole;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cache of verified JWTs: hits skip verification, but never for expired or altered tokens.
+ */
+class VerifiedTokenCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private VerifiedTokenCache cache;
+
+    // Number of full verifications performed
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(registry);
+        ReflectionTestUtils.setField(cache, "maxSize", 10);
+        cache.registerMetrics();
+    }
+
+    @Test
+    void secondLookupIsServedWithoutVerifying() {
+        Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusSeconds(3600));
+
+        JwtPrincipal first = cache.getOrVerify("token-a", verifier);
+        JwtPrincipal second = cache.getOrVerify("token-a", verifier);
+
+        assertThat(second).isSameAs(first);
+        assertThat(verifications).hasValue(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntryIsVerifiedAgain() {
+        Function<String, JwtPrincipal> verifier = verifier(Instant.now().minusSeconds(1));
+
+        cache.getOrVerify("token-a", verifier);
+        cache.getOrVerify("token-a", verifier);
+
+        assertThat(verifications).hasValue(2);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    void tamperedTokenIsNotServedFromTheCache() {
+        JwtUtil jwtUtil = new JwtUtil(cache);
+        String token = jwtUtil.generateToken("1", "student@example.com", UserRole.STUDENT, "Student", 7L);
+        assertThat(jwtUtil.parseToken(token).getProfileId()).isEqualTo(7L);
+
+        // Same header and claims, one signature character changed
+        int i = token.lastIndexOf('.') + 5;
+        String tampered = token.substring(0, i) + (token.charAt(i) == 'A' ? 'B' : 'A') + token.substring(i + 1);
+
+        assertThatThrownBy(() -> jwtUtil.parseToken(tampered)).isInstanceOf(JwtException.class);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    void sizeStaysWithinTheBound() {
+        Function<String, JwtPrincipal> verifier = verifier(Instant.now().plusSeconds(3600));
+        for (int i = 0; i < 100; i++) {
+            cache.getOrVerify("token-" + i, verifier);
+            assertThat(registry.get("security.jwt.cache.size").gauge().value()).isLessThanOrEqualTo(10);
+        }
+
+        // The most recent token is still cached
+        cache.getOrVerify("token-99", verifier);
+        assertThat(verifications).hasValue(100);
+    }
+
+    // Verifier that counts its calls and issues principals expiring at the given time
+    private Function<String, JwtPrincipal> verifier(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new JwtPrincipal(1L, token + "@example.com", "STUDENT", "Student", null, expiresAt);
+        };
+    }
+}
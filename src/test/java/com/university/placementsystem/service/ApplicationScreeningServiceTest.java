@@ -0,0 +1,78 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.TestFixtures;
+import com.university.placementsystem.entity.*;
+import com.university.placementsystem.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Screening of applications against compiled eligibility rules.
+ */
+@SpringBootTest
+class ApplicationScreeningServiceTest {
+
+    @Autowired
+    private ApplicationScreeningService screeningService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Test
+    void ineligibleApplicantsAreRejectedAndRescreenedWhenTheRuleChanges() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Organization org = fixtures.organization(tag);
+        JobPosting job = fixtures.job(org, tag, b -> b.skillsRequired("Java")
+                .eligibilityRule("graduationYear >= 2025 AND skills CONTAINS 'java'")
+                .screeningMode(ScreeningMode.REJECT));
+
+        Application eligible = apply(tag + "-a", 2025, "Java, SQL", job);
+        Application ineligible = apply(tag + "-b", 2024, "Java", job);
+
+        assertThat(screeningService.screen(List.of(eligible.getId(), ineligible.getId()))).isEqualTo(2);
+        assertThat(reload(eligible).getEligible()).isTrue();
+        assertThat(reload(eligible).getStatus()).isEqualTo(ApplicationStatus.APPLIED);
+        assertThat(reload(ineligible).getEligible()).isFalse();
+        assertThat(reload(ineligible).getStatus()).isEqualTo(ApplicationStatus.REJECTED);
+
+        // A looser rule in flag mode clears the flag; the rejection is final
+        job.setEligibilityRule("graduationYear >= 2024");
+        job.setScreeningMode(ScreeningMode.FLAG);
+        jobPostingRepository.save(job);
+        assertThat(screeningService.reevaluate(job.getId())).isEqualTo(2);
+        assertThat(reload(ineligible).getEligible()).isTrue();
+        assertThat(reload(ineligible).getStatus()).isEqualTo(ApplicationStatus.REJECTED);
+
+        // Removing the rule clears all flags
+        job.setEligibilityRule(null);
+        jobPostingRepository.save(job);
+        screeningService.reevaluate(job.getId());
+        assertThat(reload(eligible).getEligible()).isNull();
+    }
+
+    private Application apply(String name, int graduationYear, String skills, JobPosting job) {
+        Student student = fixtures.student(name, b -> b.graduationYear(graduationYear)
+                .skills(skills).skillSet(skillService.resolve(skills)));
+        return fixtures.application(student, job);
+    }
+
+    private Application reload(Application application) {
+        return applicationRepository.findById(application.getId()).orElseThrow();
+    }
+
+}
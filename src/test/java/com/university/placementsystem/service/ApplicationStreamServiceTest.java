@@ -0,0 +1,106 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.TestFixtures;
+import com.university.placementsystem.controller.StudentApplicationController;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Status changes pushed to students over their application streams.
+ */
+@SpringBootTest
+class ApplicationStreamServiceTest {
+
+    @Autowired
+    private ApplicationStreamService streamService;
+
+    @Autowired
+    private StudentApplicationController studentApplicationController;
+
+    @Autowired
+    private OrganizationApplicationService organizationApplicationService;
+
+    @Autowired
+    private ApplicationScreeningService screeningService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void statusChangeIsPushedAndOldestStreamIsClosedAtTheLimit() throws Exception {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Organization org = fixtures.organization(tag);
+        UserDTO owner = TestFixtures.principal(org);
+        JobPosting job = fixtures.job(org, tag);
+        Student student = fixtures.student(tag);
+        UserDTO studentDTO = TestFixtures.principal(student);
+        Application application = fixtures.application(student, job);
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(studentApplicationController).build();
+        MvcResult stream = mockMvc.perform(get("/api/student/applications/stream")
+                        .principal(new UsernamePasswordAuthenticationToken(studentDTO, null, List.of())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        organizationApplicationService.updateApplicationStatus(
+                owner, job.getId(), application.getId(), ApplicationStatus.SHORTLISTED);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!stream.getResponse().getContentAsString().contains("SHORTLISTED")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        String events = stream.getResponse().getContentAsString();
+        assertThat(events).contains("event:connected", "event:application", "id:" + application.getId(),
+                "\"status\":\"SHORTLISTED\"", "Job " + tag);
+        assertThat(events).doesNotContain("studentId");
+
+        // Opening more streams than allowed per student closes the oldest one
+        final int before = streamService.getSubscriberCount();
+        for (int i = 0; i < 3; i++) {
+            streamService.subscribe(studentDTO);
+        }
+        assertThat(streamService.getSubscriberCount()).isEqualTo(before + 2);
+    }
+
+    @Test
+    void screeningRejectionIsPushed() throws Exception {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        JobPosting job = fixtures.job(fixtures.organization(tag), tag, b -> b
+                .eligibilityRule("graduationYear >= 2030").screeningMode(ScreeningMode.REJECT));
+        Student student = fixtures.student(tag);
+        UserDTO studentDTO = TestFixtures.principal(student);
+        Application application = fixtures.application(student, job);
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(studentApplicationController).build();
+        MvcResult stream = mockMvc.perform(get("/api/student/applications/stream")
+                        .principal(new UsernamePasswordAuthenticationToken(studentDTO, null, List.of())))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        screeningService.screen(List.of(application.getId()));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!stream.getResponse().getContentAsString().contains("REJECTED")
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(stream.getResponse().getContentAsString())
+                .contains("id:" + application.getId(), "\"status\":\"REJECTED\"");
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.TestFixtures;
+import com.university.placementsystem.controller.StudentApplicationController;
+import com.university.placementsystem.controller.StudentController;
+import com.university.placementsystem.dto.StudentUpdateRequest;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conditional GETs of the student profile and application list answered from ETags.
+ */
+@SpringBootTest
+class ConditionalGetTest {
+
+    @Autowired
+    private StudentController studentController;
+
+    @Autowired
+    private StudentApplicationController studentApplicationController;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private OrganizationApplicationService organizationApplicationService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void unchangedResourcesAnswerNotModifiedUntilTheyChange() throws Exception {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Organization org = fixtures.organization(tag);
+        UserDTO owner = TestFixtures.principal(org);
+        JobPosting job = fixtures.job(org, tag);
+        Student student = fixtures.student(tag);
+        UserDTO studentDTO = TestFixtures.principal(student);
+        Application application = fixtures.application(student, job);
+        UsernamePasswordAuthenticationToken principal = new UsernamePasswordAuthenticationToken(studentDTO, null, List.of());
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(studentController, studentApplicationController).build();
+
+        // Application list: 304 while unchanged, a new ETag after a status change
+        String listTag = mockMvc.perform(get("/api/student/applications").principal(principal))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("APPLIED")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(listTag).isNotNull();
+        mockMvc.perform(get("/api/student/applications").principal(principal)
+                        .header(HttpHeaders.IF_NONE_MATCH, listTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        organizationApplicationService.updateApplicationStatus(
+                owner, job.getId(), application.getId(), ApplicationStatus.SHORTLISTED);
+        String changedListTag = mockMvc.perform(get("/api/student/applications").principal(principal)
+                        .header(HttpHeaders.IF_NONE_MATCH, listTag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("SHORTLISTED")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changedListTag).isNotEqualTo(listTag);
+
+        // Profile: 304 while unchanged, a new ETag after an update
+        String profileTag = mockMvc.perform(get("/api/student/profile").principal(principal))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/student/profile").principal(principal)
+                        .header(HttpHeaders.IF_NONE_MATCH, profileTag))
+                .andExpect(status().isNotModified());
+
+        StudentUpdateRequest update = new StudentUpdateRequest();
+        update.setUniversity("Uni");
+        update.setDegree("MSc");
+        update.setGraduationYear(2026);
+        studentService.updateProfile(studentDTO, update);
+        mockMvc.perform(get("/api/student/profile").principal(principal)
+                        .header(HttpHeaders.IF_NONE_MATCH, profileTag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("MSc")));
+    }
+
+}
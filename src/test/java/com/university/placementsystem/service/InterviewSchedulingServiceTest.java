@@ -0,0 +1,110 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.TestFixtures;
+import com.university.placementsystem.dto.InterviewRoomRequest;
+import com.university.placementsystem.dto.InterviewSlotRequest;
+import com.university.placementsystem.entity.*;
+import com.university.placementsystem.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Interview scheduling against the database: no double booking, and closing a slot
+ * moves only the interviews it held.
+ */
+@SpringBootTest
+class InterviewSchedulingServiceTest {
+
+    @Autowired
+    private InterviewSchedulingService schedulingService;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void studentsAreNotDoubleBookedAndClosingASlotOnlyMovesItsInterviews() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        for (int r = 0; r < 3; r++) {
+            InterviewRoomRequest room = new InterviewRoomRequest();
+            room.setName("Room " + r + " " + tag);
+            schedulingService.addRoom(room);
+        }
+        LocalDateTime start = LocalDateTime.of(2100, 1, 1, 9, 0);
+        for (int s = 0; s < 5; s++) {
+            InterviewSlotRequest slot = new InterviewSlotRequest();
+            slot.setStartsAt(start.plusMinutes(30L * s));
+            slot.setEndsAt(start.plusMinutes(30L * (s + 1)));
+            schedulingService.addSlot(slot);
+        }
+
+        // One student shortlisted by three organizations, another by one
+        Student busy = fixtures.student(tag + "-busy");
+        Student other = fixtures.student(tag + "-other");
+        List<Application> applications = List.of(
+                shortlist(busy, job(tag + "-a")),
+                shortlist(busy, job(tag + "-b")),
+                shortlist(busy, job(tag + "-c")),
+                shortlist(other, job(tag + "-d")));
+
+        schedulingService.schedule(false);
+
+        Map<Long, Interview> before = interviewsOf(applications);
+        assertThat(before).hasSize(4);
+        assertThat(interviewRepository.findForStudent(busy.getId()))
+                .extracting(i -> i.getStartsAt())
+                .doesNotHaveDuplicates();
+
+        // Close the slot of the first interview: only that one gets a new place
+        Interview first = before.get(applications.get(0).getId());
+        schedulingService.closeSlot(first.getSlot().getId());
+
+        Map<Long, Interview> after = interviewsOf(applications);
+        assertThat(after).hasSize(4);
+        for (Application application : applications) {
+            Interview was = before.get(application.getId());
+            Interview now = after.get(application.getId());
+            if (was.getSlot().getId().equals(first.getSlot().getId())) {
+                assertThat(now.getSlot().getId()).isNotEqualTo(first.getSlot().getId());
+            } else {
+                assertThat(now.getId()).isEqualTo(was.getId());
+            }
+        }
+        assertThat(interviewRepository.findForStudent(busy.getId()))
+                .extracting(i -> i.getStartsAt())
+                .doesNotHaveDuplicates();
+    }
+
+    // Interviews of the given applications by application ID (room and slot IDs read without lazy loading)
+    private Map<Long, Interview> interviewsOf(List<Application> applications) {
+        List<Long> ids = applications.stream().map(Application::getId).toList();
+        Map<Long, Interview> byApplication = new HashMap<>();
+        for (Interview interview : interviewRepository.findAll()) {
+            Long applicationId = interview.getApplication().getId();
+            if (ids.contains(applicationId)) {
+                byApplication.put(applicationId, interview);
+            }
+        }
+        return byApplication;
+    }
+
+    private JobPosting job(String name) {
+        return fixtures.job(fixtures.organization(name), name);
+    }
+
+    private Application shortlist(Student student, JobPosting job) {
+        return fixtures.application(student, job, ApplicationStatus.SHORTLISTED);
+    }
+
+}
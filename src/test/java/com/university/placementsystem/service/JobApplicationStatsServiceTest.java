@@ -0,0 +1,139 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.TestFixtures;
+import com.university.placementsystem.dto.JobStatsDTO;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.*;
+import com.university.placementsystem.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Per-job application counters maintained from applications and status changes, and rebuilt by reconciliation.
+ */
+@SpringBootTest
+class JobApplicationStatsServiceTest {
+
+    @Autowired
+    private JobApplicationStatsService statsService;
+
+    @Autowired
+    private StudentApplicationService studentApplicationService;
+
+    @Autowired
+    private OrganizationApplicationService organizationApplicationService;
+
+    @Autowired
+    private JobApplicationStatsRepository statsRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private UserDTO owner;
+    private JobPosting job;
+    private JobPosting otherJob;
+    private List<UserDTO> students;
+
+    @BeforeEach
+    void setUp() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Organization org = fixtures.organization(tag);
+        owner = TestFixtures.principal(org);
+        job = fixtures.job(org, tag);
+        otherJob = fixtures.job(org, "other-" + tag);
+
+        students = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            students.add(TestFixtures.principal(fixtures.student(tag + "-" + i)));
+        }
+    }
+
+    @Test
+    void dashboardCountsApplicationsPerStatus() {
+        List<Long> applicationIds = new ArrayList<>();
+        for (UserDTO student : students) {
+            applicationIds.add(studentApplicationService.applyForJob(student, job.getId()));
+        }
+        organizationApplicationService.updateApplicationStatus(
+                owner, job.getId(), applicationIds.get(0), ApplicationStatus.SHORTLISTED);
+        organizationApplicationService.updateApplicationStatus(
+                owner, job.getId(), applicationIds.get(0), ApplicationStatus.SELECTED);
+        organizationApplicationService.updateApplicationStatuses(
+                owner, job.getId(), List.of(applicationIds.get(1)), ApplicationStatus.REJECTED);
+
+        // Buffered deltas are already visible on the dashboard
+        assertCounts(statsService.getDashboard(owner));
+
+        statsService.flush();
+        JobApplicationStats stored = statsRepository.findById(job.getId()).orElseThrow();
+        assertThat(stored.getTotal()).isEqualTo(3);
+        assertThat(stored.getApplied()).isEqualTo(1);
+        assertThat(stored.getSelected()).isEqualTo(1);
+        assertThat(stored.getRejected()).isEqualTo(1);
+        assertCounts(statsService.getDashboard(owner));
+
+        // Rebuilding from the applications table gives the same counters
+        statsService.reconcile(List.of(job.getId(), otherJob.getId()));
+        assertCounts(statsService.getDashboard(owner));
+    }
+
+    @Test
+    void applicationCommittedDuringAReconcileIsCountedOnce() {
+        JobApplicationStatsService target = AopTestUtils.getTargetObject(statsService);
+        ApplicationRepository repository =
+                (ApplicationRepository) ReflectionTestUtils.getField(target, "applicationRepository");
+        // Another application commits (and buffers its delta) right before the recount runs
+        ApplicationRepository interleaving = (ApplicationRepository) Proxy.newProxyInstance(
+                ApplicationRepository.class.getClassLoader(), new Class<?>[]{ApplicationRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("countByJobAndStatus") && args != null) {
+                        Thread apply = new Thread(() -> studentApplicationService.applyForJob(students.get(0), job.getId()));
+                        apply.start();
+                        apply.join();
+                    }
+                    try {
+                        return method.invoke(repository, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                });
+
+        ReflectionTestUtils.setField(target, "applicationRepository", interleaving);
+        try {
+            statsService.reconcile(List.of(job.getId()));
+        } finally {
+            ReflectionTestUtils.setField(target, "applicationRepository", repository);
+        }
+        statsService.flush();
+
+        JobApplicationStats stored = statsRepository.findById(job.getId()).orElseThrow();
+        assertThat(stored.getTotal()).isEqualTo(1);
+        assertThat(stored.getApplied()).isEqualTo(1);
+    }
+
+    private void assertCounts(List<JobStatsDTO> dashboard) {
+        assertThat(dashboard).extracting(JobStatsDTO::getJobId).containsExactly(otherJob.getId(), job.getId());
+        assertThat(dashboard.get(0).getTotal()).isZero();
+
+        JobStatsDTO stats = dashboard.get(1);
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getApplied()).isEqualTo(1);
+        assertThat(stats.getShortlisted()).isZero();
+        assertThat(stats.getSelected()).isEqualTo(1);
+        assertThat(stats.getRejected()).isEqualTo(1);
+        assertThat(stats.getWithdrawn()).isZero();
+    }
+
+}
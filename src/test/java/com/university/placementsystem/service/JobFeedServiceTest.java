@@ -0,0 +1,107 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.dto.CursorPage;
+import com.university.placementsystem.dto.JobPostingCreateRequest;
+import com.university.placementsystem.dto.JobSummaryDTO;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.*;
+import com.university.placementsystem.repository.OrganizationRepository;
+import com.university.placementsystem.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Student job feed: pagination, invalidation and eviction of cached pages.
+ */
+@SpringBootTest
+class JobFeedServiceTest {
+
+    @Autowired
+    private JobFeedService jobFeedService;
+
+    @Autowired
+    private OrganizationService organizationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    private UserDTO orgUser;
+
+    @BeforeEach
+    void setUp() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .username("org-" + tag).email("org-" + tag + "@example.com").password("secret")
+                .role(UserRole.ORGANIZATION).active(true).build());
+        Organization org = organizationRepository.save(Organization.builder()
+                .user(user).companyName("Company " + tag).industry("IT").location("City").approved(true).build());
+        orgUser = new UserDTO(user.getId(), user.getUsername(), user.getEmail(), user.getRole(), org.getId());
+    }
+
+    @Test
+    void pagesFollowEachOtherAndNewPostingsInvalidateTheCache() {
+        for (int i = 0; i < 3; i++) {
+            post("Job " + i);
+        }
+
+        List<JobSummaryDTO> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<JobSummaryDTO> page = jobFeedService.getFeed(cursor, 2);
+            seen.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(seen).extracting(JobSummaryDTO::getId).doesNotHaveDuplicates();
+
+        // Served from the cache the second time
+        long hits = jobFeedService.getHitCount();
+        jobFeedService.getFeed(null, 2);
+        assertThat(jobFeedService.getHitCount()).isEqualTo(hits + 1);
+
+        // A new posting is visible immediately
+        post("Fresh job");
+        assertThat(jobFeedService.getFeed(null, 2).getItems().get(0).getTitle()).isEqualTo("Fresh job");
+    }
+
+    @Test
+    void fullCacheEvictsTheOldestPageToAdmitANewOne() {
+        post("Job");
+        int maxPages = (int) ReflectionTestUtils.getField(jobFeedService, "maxCachedPages");
+        ReflectionTestUtils.setField(jobFeedService, "maxCachedPages", 2);
+        try {
+            jobFeedService.getFeed(null, 1);
+            jobFeedService.getFeed(null, 2);
+            jobFeedService.getFeed(null, 3);
+
+            // The newest page was admitted, the oldest one made room for it
+            long hits = jobFeedService.getHitCount();
+            jobFeedService.getFeed(null, 3);
+            assertThat(jobFeedService.getHitCount()).isEqualTo(hits + 1);
+            long misses = jobFeedService.getMissCount();
+            jobFeedService.getFeed(null, 1);
+            assertThat(jobFeedService.getMissCount()).isEqualTo(misses + 1);
+        } finally {
+            ReflectionTestUtils.setField(jobFeedService, "maxCachedPages", maxPages);
+        }
+    }
+
+    private void post(String title) {
+        JobPostingCreateRequest request = new JobPostingCreateRequest();
+        request.setTitle(title);
+        request.setDescription("Description");
+        request.setSkillsRequired("Java");
+        organizationService.createJobPosting(orgUser, request);
+    }
+}
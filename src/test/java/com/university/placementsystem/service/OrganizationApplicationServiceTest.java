@@ -0,0 +1,224 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.TestFixtures;
+import com.university.placementsystem.dto.ApplicantDTO;
+import com.university.placementsystem.dto.StatusUpdateOutcome;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.*;
+import com.university.placementsystem.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Status changes made by organizations on applications to their job postings.
+ */
+@SpringBootTest
+class OrganizationApplicationServiceTest {
+
+    @Autowired
+    private OrganizationApplicationService organizationApplicationService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private UserDTO owner;
+    private JobPosting job;
+    private List<Application> applications;
+
+    @BeforeEach
+    void setUp() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Organization org = fixtures.organization(tag);
+        owner = TestFixtures.principal(org);
+        job = fixtures.job(org, tag, b -> b.skillsRequired("Java").skillSet(skillService.resolve("Java")));
+
+        applications = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            applications.add(fixtures.application(fixtures.student(tag + "-" + i), job));
+        }
+    }
+
+    @Test
+    void applicantsAreRankedByMatchAndFilteredByStatus() {
+        Student skilled = applications.get(1).getStudent();
+        skilled.setSkills("java, SQL");
+        skilled.getSkillSet().addAll(skillService.resolve("java, SQL"));
+        studentRepository.save(skilled);
+        Application shortlisted = applications.get(2);
+        shortlisted.setStatus(ApplicationStatus.SHORTLISTED);
+        applicationRepository.save(shortlisted);
+
+        List<ApplicantDTO> ranked = organizationApplicationService.getApplicants(
+                owner, job.getId(), null, ApplicantSort.SCORE, 10);
+        assertThat(ranked).extracting(ApplicantDTO::getApplicationId).containsExactly(
+                applications.get(1).getId(), applications.get(0).getId(), applications.get(2).getId());
+        assertThat(ranked.get(0).getScore()).isEqualTo(1f);
+
+        assertThat(organizationApplicationService.getApplicants(owner, job.getId(), null, ApplicantSort.SCORE, 1))
+                .extracting(ApplicantDTO::getApplicationId).containsExactly(applications.get(1).getId());
+        assertThat(organizationApplicationService.getApplicants(
+                owner, job.getId(), ApplicationStatus.SHORTLISTED, ApplicantSort.APPLIED_AT, 10))
+                .extracting(ApplicantDTO::getApplicationId).containsExactly(shortlisted.getId());
+    }
+
+    @Test
+    void degreeMatchesWholeWordsOfTheCriteria() {
+        job.setEligibilityCriteria("Candidates based in Pune with a BE");
+        jobPostingRepository.save(job);
+        setDegree(applications.get(0), "BA");
+        setDegree(applications.get(1), "BE");
+
+        List<ApplicantDTO> ranked = organizationApplicationService.getApplicants(
+                owner, job.getId(), null, ApplicantSort.SCORE, 10);
+
+        // "BA" is not a word of "based"; every word of the degree must appear in the criteria
+        assertThat(ranked.get(0).getApplicationId()).isEqualTo(applications.get(1).getId());
+        assertThat(ranked).filteredOn(a -> a.getApplicationId().equals(applications.get(0).getId()))
+                .singleElement().extracting(ApplicantDTO::getScore).isEqualTo(ranked.get(2).getScore());
+        assertThat(ranked.get(0).getScore()).isGreaterThan(ranked.get(2).getScore());
+    }
+
+    @Test
+    void bulkUpdateReportsOutcomePerApplication() {
+        Application finalized = applications.get(2);
+        finalized.setStatus(ApplicationStatus.REJECTED);
+        applicationRepository.save(finalized);
+
+        Map<Long, StatusUpdateOutcome> results = organizationApplicationService.updateApplicationStatuses(
+                owner, job.getId(),
+                List.of(applications.get(0).getId(), applications.get(1).getId(), finalized.getId(), -1L),
+                ApplicationStatus.SHORTLISTED);
+
+        assertThat(results).containsExactly(
+                Map.entry(applications.get(0).getId(), StatusUpdateOutcome.UPDATED),
+                Map.entry(applications.get(1).getId(), StatusUpdateOutcome.UPDATED),
+                Map.entry(finalized.getId(), StatusUpdateOutcome.FINALIZED),
+                Map.entry(-1L, StatusUpdateOutcome.NOT_FOUND));
+        assertThat(applicationRepository.findById(applications.get(0).getId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.SHORTLISTED);
+        assertThat(applicationRepository.findById(finalized.getId()).orElseThrow().getStatus())
+                .isEqualTo(ApplicationStatus.REJECTED);
+    }
+
+    @Test
+    void secondOfTwoRacingUpdatesIsRejectedAsConflict() {
+        Long applicationId = applications.get(0).getId();
+        organizationApplicationService.updateApplicationStatus(owner, job.getId(), applicationId, ApplicationStatus.SHORTLISTED);
+
+        // A second recruiter who also saw APPLIED tries the same transition
+        assertThatThrownBy(() -> organizationApplicationService.updateApplicationStatus(
+                owner, job.getId(), applicationId, ApplicationStatus.SHORTLISTED))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        Application stored = applicationRepository.findById(applicationId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(ApplicationStatus.SHORTLISTED);
+        assertThat(stored.getVersion()).isEqualTo(applications.get(0).getVersion() + 1);
+    }
+
+    @Test
+    void transitionsFollowTheStatusRules() {
+        Long applicationId = applications.get(0).getId();
+
+        assertThatThrownBy(() -> organizationApplicationService.updateApplicationStatus(
+                owner, job.getId(), applicationId, ApplicationStatus.SELECTED))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+
+        organizationApplicationService.updateApplicationStatus(owner, job.getId(), applicationId, ApplicationStatus.SHORTLISTED);
+        organizationApplicationService.updateApplicationStatus(owner, job.getId(), applicationId, ApplicationStatus.SELECTED);
+
+        assertThatThrownBy(() -> organizationApplicationService.updateApplicationStatus(
+                owner, job.getId(), applicationId, ApplicationStatus.REJECTED))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void bulkUpdateRequiresOwnership() {
+        UserDTO stranger = new UserDTO(owner.getId(), owner.getName(), owner.getEmail(), UserRole.ORGANIZATION, -1L);
+
+        assertThatThrownBy(() -> organizationApplicationService.updateApplicationStatuses(
+                stranger, job.getId(), List.of(applications.get(0).getId()), ApplicationStatus.SHORTLISTED))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+    }
+
+    @Test
+    void oneOfferSelectionWithdrawsTheStudentsOtherOpenApplications() throws InterruptedException {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Organization other = fixtures.organization("other-" + tag);
+        Student student = applications.get(0).getStudent();
+        Application applied = fixtures.application(student,
+                fixtures.job(other, tag + "-1"), ApplicationStatus.APPLIED);
+        Application shortlisted = fixtures.application(student,
+                fixtures.job(other, tag + "-2"), ApplicationStatus.SHORTLISTED);
+        Application rejected = fixtures.application(student,
+                fixtures.job(other, tag + "-3"), ApplicationStatus.REJECTED);
+
+        Long selectedId = applications.get(0).getId();
+        organizationApplicationService.updateApplicationStatus(owner, job.getId(), selectedId, ApplicationStatus.SHORTLISTED);
+        ReflectionTestUtils.setField(organizationApplicationService, "oneOfferEnabled", true);
+        try {
+            organizationApplicationService.updateApplicationStatus(owner, job.getId(), selectedId, ApplicationStatus.SELECTED);
+        } finally {
+            ReflectionTestUtils.setField(organizationApplicationService, "oneOfferEnabled", false);
+        }
+
+        assertThat(statusOf(selectedId)).isEqualTo(ApplicationStatus.SELECTED);
+        assertThat(statusOf(applied.getId())).isEqualTo(ApplicationStatus.WITHDRAWN);
+        assertThat(statusOf(shortlisted.getId())).isEqualTo(ApplicationStatus.WITHDRAWN);
+        assertThat(statusOf(rejected.getId())).isEqualTo(ApplicationStatus.REJECTED);
+        assertThat(statusOf(applications.get(1).getId())).isEqualTo(ApplicationStatus.APPLIED);
+
+        // The other organization is notified asynchronously, once per withdrawn application
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (notificationRepository.findLatest(other.getId(), Limit.of(10)).size() < 2
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(notificationRepository.findLatest(other.getId(), Limit.of(10)))
+                .extracting(n -> n.getApplicationId())
+                .containsExactlyInAnyOrder(applied.getId(), shortlisted.getId());
+    }
+
+    private void setDegree(Application application, String degree) {
+        Student student = application.getStudent();
+        student.setDegree(degree);
+        studentRepository.save(student);
+    }
+
+    private ApplicationStatus statusOf(Long applicationId) {
+        return applicationRepository.findById(applicationId).orElseThrow().getStatus();
+    }
+
+}
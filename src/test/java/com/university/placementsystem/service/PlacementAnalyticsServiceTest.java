@@ -0,0 +1,67 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.TestFixtures;
+import com.university.placementsystem.dto.AnalyticsSnapshotSummaryDTO;
+import com.university.placementsystem.dto.IndustrySelectionsDTO;
+import com.university.placementsystem.dto.PlacementAnalyticsDTO;
+import com.university.placementsystem.dto.PlacementRateDTO;
+import com.university.placementsystem.entity.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Placement analytics snapshots computed from students and selected applications.
+ */
+@SpringBootTest
+class PlacementAnalyticsServiceTest {
+
+    @Autowired
+    private PlacementAnalyticsService analyticsService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void snapshotsAggregatePlacementsAndKeepEarlierVersions() {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        PlacementAnalyticsDTO before = analyticsService.refresh();
+
+        Organization org = fixtures.organization(tag, b -> b.industry("Industry " + tag));
+        JobPosting job = fixtures.job(org, tag);
+        for (int i = 0; i < 2; i++) {
+            Student student = fixtures.student(tag + "-" + i, b -> b.university("Uni " + tag));
+            fixtures.application(student, job, i == 0 ? ApplicationStatus.SELECTED : ApplicationStatus.APPLIED);
+        }
+
+        PlacementAnalyticsDTO after = analyticsService.refresh();
+
+        assertThat(after.getSnapshotId()).isGreaterThan(before.getSnapshotId());
+        assertThat(after.getStudents()).isEqualTo(before.getStudents() + 2);
+        assertThat(after.getPlacedStudents()).isEqualTo(before.getPlacedStudents() + 1);
+        assertThat(after.getByUniversity()).filteredOn(g -> g.getGroup().equals("Uni " + tag))
+                .singleElement()
+                .satisfies(g -> {
+                    assertThat(g.getStudents()).isEqualTo(2);
+                    assertThat(g.getPlaced()).isEqualTo(1);
+                    assertThat(g.getRate()).isEqualTo(0.5);
+                });
+        assertThat(after.getByIndustry()).contains(new IndustrySelectionsDTO("Industry " + tag, 1L));
+        assertThat(after.getByGraduationYear()).extracting(PlacementRateDTO::getGroup).contains("2025");
+        assertThat(analyticsService.getLatest()).isSameAs(after);
+
+        // The earlier version is still readable, unchanged
+        PlacementAnalyticsDTO stored = analyticsService.getSnapshot(before.getSnapshotId());
+        assertThat(stored.getStudents()).isEqualTo(before.getStudents());
+        assertThat(stored.getByUniversity()).isEqualTo(before.getByUniversity());
+        List<AnalyticsSnapshotSummaryDTO> trend = analyticsService.listSnapshots(2);
+        assertThat(trend).extracting(AnalyticsSnapshotSummaryDTO::getSnapshotId)
+                .containsExactly(after.getSnapshotId(), before.getSnapshotId());
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.dto.StudentUpdateRequest;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.Student;
+import com.university.placementsystem.entity.User;
+import com.university.placementsystem.entity.UserRole;
+import com.university.placementsystem.repository.StudentRepository;
+import com.university.placementsystem.repository.UserRepository;
+import com.university.placementsystem.util.SkillNames;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Skill dictionary: canonicalization, ID reuse and linking of students.
+ */
+@SpringBootTest
+class SkillServiceTest {
+
+    @Autowired
+    private SkillService skillService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private SkillMigration skillMigration;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Test
+    void skillListsAreCanonicalizedAndShareIds() {
+        assertThat(SkillNames.parse(" Spring  Boot, JAVA,java , ,SQL"))
+                .containsExactly("spring boot", "java", "sql");
+
+        Set<Integer> first = skillService.resolveIds("Java, SQL");
+        Set<Integer> second = skillService.resolveIds("sql,  java");
+
+        assertThat(second).containsExactlyInAnyOrderElementsOf(first);
+        assertThat(first).extracting(skillService::nameOf).containsExactly("java", "sql");
+    }
+
+    @Test
+    void profileUpdatesAndMigrationLinkNormalizedSkills() {
+        Student student = newStudent("Python, Django");
+        assertThat(studentRepository.findSkillIds(student.getId())).isEmpty();
+
+        skillMigration.run(null);
+        assertThat(studentRepository.findSkillIds(student.getId()))
+                .containsExactlyInAnyOrderElementsOf(skillService.resolveIds("python, django"));
+
+        StudentUpdateRequest update = new StudentUpdateRequest();
+        update.setUniversity("Uni");
+        update.setDegree("BSc");
+        update.setGraduationYear(2025);
+        update.setSkills("Go");
+        User user = student.getUser();
+        studentService.updateProfile(
+                new UserDTO(user.getId(), user.getUsername(), user.getEmail(), user.getRole(), student.getId()), update);
+
+        assertThat(studentRepository.findSkillIds(student.getId()))
+                .containsExactlyElementsOf(skillService.resolveIds("go"));
+    }
+
+    // A student created before skill normalization (skill string only, no links)
+    private Student newStudent(String skills) {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .username("student-" + tag).email("student-" + tag + "@example.com").password("secret")
+                .role(UserRole.STUDENT).active(true).build());
+        return studentRepository.save(Student.builder()
+                .user(user).university("Uni").degree("BSc").graduationYear(2025).skills(skills).build());
+    }
+}
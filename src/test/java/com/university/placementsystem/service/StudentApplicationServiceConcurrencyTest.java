@@ -0,0 +1,99 @@
+package com.university.placementsystem.service;
+
+import com.university.placementsystem.TestFixtures;
+import com.university.placementsystem.dto.ApplyOutcome;
+import com.university.placementsystem.dto.UserDTO;
+import com.university.placementsystem.entity.*;
+import com.university.placementsystem.repository.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the (student, job) unique constraint, not a check-then-insert,
+ * decides the outcome when many identical apply requests race.
+ */
+@SpringBootTest
+class StudentApplicationServiceConcurrencyTest {
+
+    private static final int THREADS = 200;
+
+    @Autowired
+    private StudentApplicationService studentApplicationService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void concurrentApplicationsCreateExactlyOneRow() throws Exception {
+        UserDTO student = newStudent("race");
+        Long jobId = newJob("race").getId();
+
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    studentApplicationService.applyForJob(student, jobId);
+                    applied.incrementAndGet();
+                } catch (ResponseStatusException ex) {
+                    if (ex.getStatusCode() == HttpStatus.BAD_REQUEST) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(applied.get()).isEqualTo(1);
+        assertThat(rejected.get()).isEqualTo(THREADS - 1);
+        assertThat(applicationRepository.findAppliedJobIds(student.getProfileId(), List.of(jobId)))
+                .containsExactly(jobId);
+    }
+
+    @Test
+    void bulkApplyReportsOutcomePerJob() {
+        UserDTO student = newStudent("bulk");
+        Long first = newJob("bulk-1").getId();
+        Long second = newJob("bulk-2").getId();
+        studentApplicationService.applyForJob(student, first);
+
+        Map<Long, ApplyOutcome> results = studentApplicationService.applyForJobs(student, List.of(first, second, -1L));
+
+        assertThat(results).containsExactly(
+                Map.entry(first, ApplyOutcome.ALREADY_APPLIED),
+                Map.entry(second, ApplyOutcome.APPLIED),
+                Map.entry(-1L, ApplyOutcome.JOB_NOT_FOUND));
+    }
+
+    private UserDTO newStudent(String name) {
+        return TestFixtures.principal(fixtures.student(name));
+    }
+
+    private JobPosting newJob(String name) {
+        return fixtures.job(fixtures.organization(name), name, b -> b.skillsRequired("Java"));
+    }
+
+}